@@ -0,0 +1,81 @@
+package com.overseer.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deadline calculation of {@link BusinessCalendar} with the day by day loop it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BusinessCalendarBenchmark {
+    private static final int DEADLINES = 1000;
+
+    @Param({"5", "30", "120"})
+    private int maxEstimate;
+
+    private BusinessCalendar calendar;
+    private LocalDate[] starts;
+    private int[] estimates;
+
+    /**
+     * Generates random assign dates and estimates.
+     */
+    @Setup
+    public void setUp() {
+        calendar = new BusinessCalendar("01-01,01-07,03-08,05-01,05-02,05-09,06-28,08-24,10-14,12-25");
+        Random random = new Random(DEADLINES);
+        starts = new LocalDate[DEADLINES];
+        estimates = new int[DEADLINES];
+        for (int i = 0; i < DEADLINES; i++) {
+            starts[i] = LocalDate.of(2017, 1, 1).plusDays(random.nextInt(365));
+            estimates[i] = 1 + random.nextInt(maxEstimate);
+        }
+    }
+
+    /**
+     * @return deadlines calculated by calendar.
+     */
+    @Benchmark
+    public LocalDate[] businessCalendar() {
+        return calendar.getDeadlines(starts, estimates);
+    }
+
+    /**
+     * @return deadlines calculated by the former loop, which skips weekends only.
+     */
+    @Benchmark
+    public LocalDate[] weekdayLoop() {
+        LocalDate[] deadlines = new LocalDate[DEADLINES];
+        for (int i = 0; i < DEADLINES; i++) {
+            LocalDate deadline = starts[i];
+            int estimate = estimates[i];
+            while (estimate > 1) {
+                deadline = deadline.plusDays(1);
+                if (deadline.getDayOfWeek() != DayOfWeek.SATURDAY && deadline.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                    estimate--;
+                }
+            }
+            deadlines[i] = deadline;
+        }
+        return deadlines;
+    }
+}
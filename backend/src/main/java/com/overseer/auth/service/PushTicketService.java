@@ -0,0 +1,26 @@
+package com.overseer.auth.service;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * The <code>PushTicketService</code> issues short-lived single-use tickets which authenticate opening of
+ * push stream, so that JWT token does not have to be sent in query string where it is logged.
+ */
+public interface PushTicketService {
+
+    /**
+     * Issues ticket for given authentication.
+     *
+     * @param authentication authentication of current request.
+     * @return random ticket value.
+     */
+    String issueTicket(Authentication authentication);
+
+    /**
+     * Redeems ticket, so it can not be used again.
+     *
+     * @param ticket ticket value.
+     * @return {@link Authentication} the ticket was issued for or {@literal null} if ticket is unknown or expired.
+     */
+    Authentication redeemTicket(String ticket);
+}
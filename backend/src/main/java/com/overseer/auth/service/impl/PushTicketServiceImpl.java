@@ -0,0 +1,80 @@
+package com.overseer.auth.service.impl;
+
+import com.overseer.auth.service.PushTicketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@inheritDoc}.
+ */
+@Service
+@PropertySource("classpath:resources.properties")
+public class PushTicketServiceImpl implements PushTicketService {
+    private static final int TICKET_BYTES = 32;
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+    private final long ticketLifeTimeMillis;
+
+    @Autowired
+    public PushTicketServiceImpl(@Value("${push.ticket.lifetime.millis}") long ticketLifeTimeMillis) {
+        this.ticketLifeTimeMillis = ticketLifeTimeMillis;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public String issueTicket(Authentication authentication) {
+        Assert.notNull(authentication, "authentication must not be null");
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, new Ticket(authentication, System.currentTimeMillis() + ticketLifeTimeMillis));
+        return ticket;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Authentication redeemTicket(String ticket) {
+        if (ticket == null) {
+            return null;
+        }
+        Ticket redeemed = tickets.remove(ticket);
+        if (redeemed == null || redeemed.expiresAt < System.currentTimeMillis()) {
+            return null;
+        }
+        return redeemed.authentication;
+    }
+
+    /**
+     * Forgets tickets which were never redeemed.
+     */
+    @Scheduled(fixedDelayString = "${push.ticket.lifetime.millis}")
+    public void removeExpiredTickets() {
+        long now = System.currentTimeMillis();
+        tickets.values().removeIf(ticket -> ticket.expiresAt < now);
+    }
+
+    /**
+     * Issued ticket.
+     */
+    @RequiredArgsConstructor
+    private static class Ticket {
+        private final Authentication authentication;
+        private final long expiresAt;
+    }
+}
@@ -1,8 +1,10 @@
 package com.overseer.auth.service.impl;
 
 import com.overseer.auth.UserAuthentication;
+import com.overseer.auth.service.PushTicketService;
 import com.overseer.auth.service.TokenAuthenticationService;
 import com.overseer.auth.service.TokenHandler;
+import com.overseer.config.PushConfig;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -18,20 +20,27 @@ import javax.servlet.http.HttpServletRequest;
 public class TokenAuthenticationServiceImpl implements TokenAuthenticationService {
 
     private final TokenHandler tokenHandler;
+    private final PushTicketService pushTicketService;
     private static final Integer TOKEN_PLACEMENT = 7;
+    private static final String TICKET_PARAMETER = "ticket";
 
     /**
      * {@inheritDoc}.
      */
     public Authentication getAuthentication(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer")) {
+        String jwt;
+        if (authHeader != null && authHeader.startsWith("Bearer")) {
+            // authHeader example
+            // Bearer 1u2jio12h802f12k
+            jwt = authHeader.substring(TOKEN_PLACEMENT);
+        } else if (PushConfig.EVENTS_PATH.equals(request.getServletPath())) {
+            // EventSource can not send headers, so push stream is opened with single-use ticket instead of token
+            return pushTicketService.redeemTicket(request.getParameter(TICKET_PARAMETER));
+        } else {
             return null;
         }
-        // authHeader example
-        // Bearer 1u2jio12h802f12k
-        String jwt = authHeader.substring(TOKEN_PLACEMENT);
-        if (jwt.isEmpty()) {
+        if (jwt == null || jwt.isEmpty()) {
             return null;
         }
         UserDetails userDetails = this.tokenHandler.parseUserFromToken(jwt);
@@ -1,5 +1,7 @@
 package com.overseer.caching;
 
+import java.util.concurrent.Callable;
+
 /**
  * Simple cache for dao, if dao has annotation CacheableData it's gonna be stored in map
  * and returned it next request.
@@ -30,4 +32,14 @@ public interface SimpleInMemoryCache<K, V> {
      * @param value value which will be stored.
      */
     void put(K key, V value);
+
+    /**
+     * Returns cached value or computes it with given loader. Concurrent callers of the same absent key
+     * wait for a single computation. Failed computation is not cached.
+     *
+     * @param key    just a key for value.
+     * @param loader computes value if it is absent.
+     * @return cached or computed value.
+     */
+    V computeIfAbsent(K key, Callable<V> loader);
 }
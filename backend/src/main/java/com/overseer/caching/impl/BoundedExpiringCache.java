@@ -0,0 +1,129 @@
+package com.overseer.caching.impl;
+
+import com.overseer.caching.SimpleInMemoryCache;
+import org.springframework.util.Assert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache which keeps at most given number of entries, evicting least recently used one when it is full,
+ * and forgets every entry once its life time is over. Entries may have shorter life time than default one,
+ * e.g. failed loads which should be retried soon.
+ *
+ * @param <K> Key for storing in map.
+ * @param <V> Cached value.
+ */
+public class BoundedExpiringCache<K, V> implements SimpleInMemoryCache<K, V> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int maxSize;
+    private final long lifeTimeMillis;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> cache;
+
+    public BoundedExpiringCache(int maxSize, long lifeTimeMillis) {
+        this(maxSize, lifeTimeMillis, System::currentTimeMillis);
+    }
+
+    BoundedExpiringCache(int maxSize, long lifeTimeMillis, LongSupplier clock) {
+        Assert.isTrue(maxSize > 0, "max size must be positive");
+        this.maxSize = maxSize;
+        this.lifeTimeMillis = lifeTimeMillis;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<K, Entry<V>>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedExpiringCache.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public synchronized V getData(K key) {
+        Entry<V> entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.getAsLong()) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public synchronized void cleanup() {
+        cache.clear();
+    }
+
+    @Override
+    public synchronized int getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public boolean contains(K key) {
+        return getData(key) != null;
+    }
+
+    @Override
+    public synchronized void remove(K key) {
+        cache.remove(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        put(key, value, lifeTimeMillis);
+    }
+
+    /**
+     * Adding value to map with its own life time.
+     *
+     * @param key            just a key for value.
+     * @param value          value which will be stored.
+     * @param lifeTimeMillis how long value is kept.
+     */
+    public synchronized void put(K key, V value, long lifeTimeMillis) {
+        cache.put(key, new Entry<>(value, clock.getAsLong() + lifeTimeMillis));
+    }
+
+    /**
+     * {@inheritDoc}.
+     * Value is loaded outside of the lock, so concurrent callers of the same absent key may load it more than once.
+     */
+    @Override
+    public V computeIfAbsent(K key, Callable<V> loader) {
+        V value = getData(key);
+        if (value != null) {
+            return value;
+        }
+        try {
+            value = loader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Cached value with its expiration time.
+     *
+     * @param <V> cached value.
+     */
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
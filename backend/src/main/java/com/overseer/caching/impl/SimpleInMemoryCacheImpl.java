@@ -30,22 +30,28 @@ public class SimpleInMemoryCacheImpl<K, V> implements SimpleInMemoryCache<K, V>
      *
      * @param key      just a key for value.
      * @param callable value wrapped it callable so it can be stored as future.
+     * @return future stored under the key.
      */
-    private void createIfAbsent(K key, final Callable<V> callable) {
+    private Future<V> createIfAbsent(K key, final Callable<V> callable) {
         Future<V> future = cache.get(key);
         if (future == null) {
             final FutureTask<V> futureTask = new FutureTask<>(callable);
             future = cache.putIfAbsent(key, futureTask);
             if (future == null) {
+                future = futureTask;
                 futureTask.run();
             }
         }
+        return future;
     }
 
     @Override
     public V getData(K key) {
         V value = null;
         val future = cache.getOrDefault(key, null);
+        if (future == null) {
+            return null;
+        }
         try {
             value = future.get();
         } catch (ExecutionException | InterruptedException e) {
@@ -81,4 +87,21 @@ public class SimpleInMemoryCacheImpl<K, V> implements SimpleInMemoryCache<K, V>
         createIfAbsent(key, () -> value);
     }
 
+    @Override
+    public V computeIfAbsent(K key, Callable<V> loader) {
+        val future = createIfAbsent(key, loader);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            cache.remove(key, future);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
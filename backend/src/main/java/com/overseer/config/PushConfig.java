@@ -0,0 +1,38 @@
+package com.overseer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Server push configuration class.
+ */
+@Configuration
+@PropertySource("classpath:resources.properties")
+public class PushConfig {
+    /**
+     * Path of server-sent events stream, opened with a ticket instead of authorization header.
+     */
+    public static final String EVENTS_PATH = "/api/events";
+
+    @Value("${push.threads}")
+    private int pushThreads;
+
+    /**
+     * Threads which write push events to open connections, so request threads never wait on slow clients.
+     * Every connection has its own bounded queue drained by at most one task at a time, so events of
+     * one connection keep their order, a slow client holds at most one thread and this pool never has
+     * more queued tasks than open connections.
+     *
+     * @return push executor bean.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pushExecutor() {
+        return Executors.newFixedThreadPool(this.pushThreads, new CustomizableThreadFactory("push-"));
+    }
+}
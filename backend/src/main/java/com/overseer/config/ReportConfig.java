@@ -0,0 +1,35 @@
+package com.overseer.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Report generation configuration class.
+ */
+@Configuration
+@PropertySource("classpath:resources.properties")
+public class ReportConfig {
+
+    @Value("${reports.sections.threads}")
+    private int sectionThreads;
+
+    /**
+     * Pool which loads data of independent report sections concurrently.
+     * It is kept smaller than the datasource pool so reports can not take all connections.
+     * Tasks run with security context of the request thread that submitted them.
+     *
+     * @return report section executor bean.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService reportSectionExecutor() {
+        return new DelegatingSecurityContextExecutorService(
+                Executors.newFixedThreadPool(this.sectionThreads, new CustomizableThreadFactory("report-section-")));
+    }
+}
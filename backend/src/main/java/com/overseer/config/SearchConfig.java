@@ -0,0 +1,26 @@
+package com.overseer.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-memory request search configuration class.
+ */
+@Configuration
+public class SearchConfig {
+
+    /**
+     * Single thread which builds and updates request search index, so that index updates
+     * are applied in commit order and never slow down request threads.
+     *
+     * @return search index executor bean.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService searchIndexExecutor() {
+        return Executors.newSingleThreadExecutor(new CustomizableThreadFactory("search-index-"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.overseer.controller;
 
 import com.overseer.dto.HistoryMessageDTO;
+import com.overseer.dto.HistoryPageDTO;
 import com.overseer.model.History;
 import com.overseer.service.HistoryService;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.List;
 @RequestMapping("/api/histories")
 @RequiredArgsConstructor
 public class HistoryController {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final HistoryService historyService;
 
@@ -45,4 +47,22 @@ public class HistoryController {
         List<HistoryMessageDTO> histories = historyService.getHistoryMessageDTOs(entityId, maxNumberOfCharsInText);
         return new ResponseEntity<>(histories, HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    /**
+     * Method returns a page of {@link HistoryMessageDTO} entities of transferred entity, newest first.
+     *
+     * @param entityId id of entity for which we need to get history of changes, must not be {@literal null}.
+     * @param cursor cursor of the next page returned with previous page, absent for the first page.
+     * @param size max number of records in the page, at most {@value #MAX_PAGE_SIZE}.
+     * @return page of {@link HistoryMessageDTO} entities.
+     */
+    @GetMapping("/dto/{entityId}/page")
+    public ResponseEntity<HistoryPageDTO> getHistoryPage(@PathVariable Long entityId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        final int maxNumberOfCharsInText = 20;
+        HistoryPageDTO page = historyService.getHistoryPage(entityId, cursor,
+                Math.max(1, Math.min(size, MAX_PAGE_SIZE)), maxNumberOfCharsInText);
+        return new ResponseEntity<>(page, HttpStatus.OK);
+    }
+}
@@ -1,5 +1,7 @@
 package com.overseer.controller;
 
+import com.overseer.auth.service.SecurityContextService;
+import com.overseer.dto.MessagePageDTO;
 import com.overseer.model.Message;
 import com.overseer.service.MessageService;
 import io.jsonwebtoken.lang.Assert;
@@ -18,8 +20,11 @@ import java.util.List;
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class MessageController {
+    private static final int MAX_UNREAD_MESSAGES = 50;
+    private static final int MAX_DIALOG_PAGE_SIZE = 100;
 
     private final MessageService messageService;
+    private final SecurityContextService securityContextService;
 
     /**
      * @param message open message from frontend that going to be encrypted.
@@ -40,19 +45,59 @@ public class MessageController {
         return new ResponseEntity<>(messages, HttpStatus.OK);
     }
 
+    /**
+     * @param senderId    id of one of the users.
+     * @param recipientId id of another user.
+     * @param before      cursor of older messages returned with previous page, absent for the newest messages.
+     * @param after       cursor of newer messages returned with previous page.
+     * @param size        max number of messages, at most {@value #MAX_DIALOG_PAGE_SIZE}.
+     * @return page of decrypted messages in chronological order.
+     */
     @GetMapping("/messagesByDialog")
-    public ResponseEntity<List<Message>> findDialogMessages(@RequestParam Long senderId,
-                                                            @RequestParam Long recipientId) {
-        val messages = messageService.findDialogMessages(senderId, recipientId);
+    public ResponseEntity<MessagePageDTO> findDialogMessages(@RequestParam Long senderId,
+                                                             @RequestParam Long recipientId,
+                                                             @RequestParam(required = false) String before,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "30") int size) {
+        val messages = messageService.findDialogMessages(senderId, recipientId, before, after,
+                Math.max(1, Math.min(size, MAX_DIALOG_PAGE_SIZE)));
         return new ResponseEntity<>(messages, HttpStatus.OK);
     }
 
+    /**
+     * @param recipientId id of recipient.
+     * @param limit       max number of messages, at most {@value #MAX_UNREAD_MESSAGES}.
+     * @return newest unread private messages of the recipient.
+     */
     @GetMapping("/unreadMessages")
-    public ResponseEntity<List<Message>> findUnreadMessages(@RequestParam Long recipientId) {
-        val messages = messageService.findUnreadMessages(recipientId);
+    public ResponseEntity<List<Message>> findUnreadMessages(@RequestParam Long recipientId,
+                                                            @RequestParam(defaultValue = "20") int limit) {
+        val messages = messageService.findUnreadMessages(recipientId,
+                Math.max(1, Math.min(limit, MAX_UNREAD_MESSAGES)));
         return new ResponseEntity<>(messages, HttpStatus.OK);
     }
 
+    /**
+     * @param recipientId id of recipient.
+     * @return number of unread private messages of the recipient.
+     */
+    @GetMapping("/unreadMessages/count")
+    public ResponseEntity<Long> countUnreadMessages(@RequestParam Long recipientId) {
+        return new ResponseEntity<>(messageService.countUnreadMessages(recipientId), HttpStatus.OK);
+    }
+
+    /**
+     * Acknowledges delivery of private messages to current user, marking them as read.
+     *
+     * @param messageIds ids of delivered messages.
+     * @return ids of messages which were unread before.
+     */
+    @PostMapping("/messages/read")
+    public ResponseEntity<List<Long>> markRead(@RequestBody List<Long> messageIds) {
+        val readIds = messageService.markRead(securityContextService.currentUser().getId(), messageIds);
+        return new ResponseEntity<>(readIds, HttpStatus.OK);
+    }
+
     @DeleteMapping("messages/{id}")
     public ResponseEntity deleteMessage(@PathVariable Long id) {
         messageService.delete(id);
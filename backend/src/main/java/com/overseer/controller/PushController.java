@@ -0,0 +1,91 @@
+package com.overseer.controller;
+
+import com.overseer.auth.service.PushTicketService;
+import com.overseer.auth.service.SecurityContextService;
+import com.overseer.config.PushConfig;
+import com.overseer.service.PushService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Controller provides server-sent events stream with dashboard, deadline and message changes,
+ * and subscriptions to messages of topics.
+ */
+@RestController
+@RequestMapping(PushConfig.EVENTS_PATH)
+@RequiredArgsConstructor
+public class PushController {
+    private final PushService pushService;
+    private final SecurityContextService securityContextService;
+    private final PushTicketService pushTicketService;
+
+    /**
+     * Issues short-lived single-use ticket which opens event stream, as EventSource can not send authorization header.
+     *
+     * @return ticket to be passed as {@code ticket} parameter of event stream request.
+     */
+    @PostMapping("/tickets")
+    public ResponseEntity<Map<String, String>> issueTicket() {
+        String ticket = pushTicketService.issueTicket(SecurityContextHolder.getContext().getAuthentication());
+        return new ResponseEntity<>(Collections.singletonMap("ticket", ticket), HttpStatus.OK);
+    }
+
+    /**
+     * @return stream of events for user the ticket was issued to.
+     */
+    @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN', 'MANAGER')")
+    @GetMapping(produces = "text/event-stream")
+    public SseEmitter subscribe() {
+        return pushService.subscribe(securityContextService.currentUser());
+    }
+
+    /**
+     * Subscribes connection of current user to messages of the topic while the connection is open.
+     *
+     * @param topicId      id of topic.
+     * @param connectionId id of connection sent in its {@code connected} event.
+     * @return response with no content, or not found if current user has no such connection.
+     */
+    @PutMapping("/topics/{topicId}")
+    public ResponseEntity subscribeToTopic(@PathVariable Long topicId, @RequestParam String connectionId) {
+        boolean subscribed = pushService.subscribeToTopic(securityContextService.currentUser().getId(), connectionId, topicId);
+        return new ResponseEntity(subscribed ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Cancels subscription of connection of current user to messages of the topic.
+     *
+     * @param topicId      id of topic.
+     * @param connectionId id of connection sent in its {@code connected} event.
+     * @return response with no content, or not found if current user has no such connection.
+     */
+    @DeleteMapping("/topics/{topicId}")
+    public ResponseEntity unsubscribeFromTopic(@PathVariable Long topicId, @RequestParam String connectionId) {
+        boolean unsubscribed = pushService.unsubscribeFromTopic(securityContextService.currentUser().getId(), connectionId, topicId);
+        return new ResponseEntity(unsubscribed ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * @return number of open push connections.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/connections")
+    public ResponseEntity<Integer> getConnectionCount() {
+        return new ResponseEntity<>(pushService.getConnectionCount(), HttpStatus.OK);
+    }
+}
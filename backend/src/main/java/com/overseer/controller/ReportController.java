@@ -1,123 +1,127 @@
 package com.overseer.controller;
 
 import com.overseer.dto.RequestDTO;
+import com.overseer.exception.ReportGenerationException;
 import com.overseer.model.enums.ProgressStatus;
 import com.overseer.service.ReportService;
 import com.overseer.service.RequestService;
+import com.overseer.util.TimeGranularity;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
+import javax.servlet.http.HttpServletResponse;
 
 /**
  * Controller provides api for creating, getting reports.
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/reports")
 @RequiredArgsConstructor
 public class ReportController {
 
+    private static final String REPORT_FILENAME = "report.pdf";
+
     private final RequestService requestService;
     private final ReportService reportService;
 
     /**
-     * Handle request to download an Excel document.
+     * Handle request to download a pdf report of request.
+     * Document is written straight to the response stream.
      */
     @RequestMapping(value = "/request", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> download(@RequestParam String id) {
-
+    public void download(@RequestParam String id, HttpServletResponse response) throws IOException {
         Long requestId = Long.valueOf(id);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("application/pdf"));
-        String filename = "report.pdf";
-        headers.setContentDispositionFormData(filename, filename);
-        return new ResponseEntity<>(reportService.generateRequestPDFReport(requestId), headers, HttpStatus.OK);
+        writePdfResponse(response, outputStream -> reportService.writeRequestPDFReport(requestId, outputStream));
     }
 
     //<editor-fold defaultstate="collapsed" desc="methods for manager reports">
 
     /**
-     * Method gets pdf report for office manager.
-     *
-     * @return bytes with reporting data.
+     * Method writes pdf report for office manager straight to the response stream.
      */
     @RequestMapping(value = "/managerPDFReport", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getManagerPDFReport(@RequestParam String beginDate,
-                                                      @RequestParam String endDate,
-                                                      @RequestParam int id,
-                                                      @RequestParam String encryptedEmail) {
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("application/pdf"));
-        String filename = "report.pdf";
-        headers.setContentDispositionFormData(filename, filename);
-        return new ResponseEntity<>(reportService.generateManagerPDFReport(beginDate, endDate, id, encryptedEmail), headers, HttpStatus.OK);
+    public void getManagerPDFReport(@RequestParam String beginDate,
+                                    @RequestParam String endDate,
+                                    @RequestParam int id,
+                                    @RequestParam String encryptedEmail,
+                                    HttpServletResponse response) throws IOException {
+        writePdfResponse(response, outputStream ->
+                reportService.writeManagerPDFReport(beginDate, endDate, id, encryptedEmail, outputStream));
     }
 
     /**
      * Gets list of request transfer objects which created in the same period for manager.
      *
-     * @param beginDate date from.
-     * @param endDate   date to.
-     * @param id        manager id.
+     * @param beginDate   date from.
+     * @param endDate     date to.
+     * @param id          manager id.
+     * @param granularity size of period buckets, month by default.
      * @return return list of requestDTO from one period of time for manager.
      */
     @GetMapping("/getManagerStatisticsOfClosedRequestsByPeriod")
     public ResponseEntity<List<RequestDTO>> getManagerStatisticsOfClosedRequestsByPeriod(@RequestParam String beginDate,
                                                                                          @RequestParam String endDate,
-                                                                                         @RequestParam int id) {
-        return new ResponseEntity<>(reportService.getManagerStatisticsOfClosedRequestsByPeriod(beginDate, endDate, id), HttpStatus.OK);
+                                                                                         @RequestParam int id,
+                                                                                         @RequestParam(defaultValue = "MONTH") TimeGranularity granularity) {
+        return new ResponseEntity<>(reportService.getManagerStatisticsOfClosedRequestsByPeriod(beginDate, endDate, id, granularity),
+                HttpStatus.OK);
     }
     //</editor-fold>
 
     //<editor-fold defaultstate="collapsed" desc="methods for admin reports">
 
     /**
-     * Method gets pdf report for admin.
-     *
-     * @return bytes with reporting data.
+     * Method writes pdf report for admin straight to the response stream.
      */
     @RequestMapping(value = "/adminPDFReport", method = RequestMethod.GET)
-    public ResponseEntity<byte[]> getAdminPDFReport(@RequestParam String beginDate,
-                                                    @RequestParam String endDate,
-                                                    @RequestParam int countTop,
-                                                    @RequestParam String encryptedEmail) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType("application/pdf"));
-        String filename = "report.pdf";
-        headers.setContentDispositionFormData(filename, filename);
-        return new ResponseEntity<>(reportService.generateAdminPDFReport(beginDate, endDate, countTop, encryptedEmail), headers, HttpStatus.OK);
+    public void getAdminPDFReport(@RequestParam String beginDate,
+                                  @RequestParam String endDate,
+                                  @RequestParam int countTop,
+                                  @RequestParam String encryptedEmail,
+                                  HttpServletResponse response) throws IOException {
+        writePdfResponse(response, outputStream ->
+                reportService.writeAdminPDFReport(beginDate, endDate, countTop, encryptedEmail, outputStream));
     }
 
     /**
      * Gets list of request transfer objects which created in the same period.
      *
-     * @param beginDate date from
-     * @param endDate   date to
+     * @param beginDate   date from
+     * @param endDate     date to
+     * @param granularity size of period buckets, month by default
      * @return return list of requestDTO from one period of time
      */
     @GetMapping("/getAllStatisticsOfFreeRequestsByPeriod")
     public ResponseEntity<List<RequestDTO>> getAllStatisticsOfFreeRequestsByPeriod(@RequestParam String beginDate,
-                                                                                   @RequestParam String endDate) {
-        return new ResponseEntity<>(reportService.getAllStatisticsOfFreeRequestsByPeriod(beginDate, endDate), HttpStatus.OK);
+                                                                                   @RequestParam String endDate,
+                                                                                   @RequestParam(defaultValue = "MONTH") TimeGranularity granularity) {
+        return new ResponseEntity<>(reportService.getAllStatisticsOfFreeRequestsByPeriod(beginDate, endDate, granularity), HttpStatus.OK);
     }
 
 
     /**
      * Gets list of request transfer objects which created in the same period.
      *
-     * @param beginDate date from
-     * @param endDate   date to
+     * @param beginDate   date from
+     * @param endDate     date to
+     * @param granularity size of period buckets, month by default
      * @return return list of requestDTO from one period of time
      */
     @GetMapping("/getAllStatisticsOfClosedRequestsByPeriod")
     public ResponseEntity<List<RequestDTO>> getAllStatisticsOfClosedRequestsByPeriod(@RequestParam String beginDate,
-                                                                                     @RequestParam String endDate) {
-        return new ResponseEntity<>(reportService.getAllStatisticsOfClosedRequestsByPeriod(beginDate, endDate), HttpStatus.OK);
+                                                                                     @RequestParam String endDate,
+                                                                                     @RequestParam(defaultValue = "MONTH") TimeGranularity granularity) {
+        return new ResponseEntity<>(reportService.getAllStatisticsOfClosedRequestsByPeriod(beginDate, endDate, granularity), HttpStatus.OK);
     }
 
     /**
@@ -137,4 +141,36 @@ public class ReportController {
 
     //</editor-fold >
 
+    /**
+     * Writes pdf report to the response. If report fails before anything was sent to client, response is reset
+     * and internal server error is sent instead of a truncated document, otherwise exception is rethrown.
+     *
+     * @param response http response.
+     * @param writer   writes report to the response stream.
+     */
+    private void writePdfResponse(HttpServletResponse response, Consumer<OutputStream> writer) throws IOException {
+        preparePdfResponse(response);
+        try {
+            writer.accept(response.getOutputStream());
+        } catch (ReportGenerationException e) {
+            if (response.isCommitted()) {
+                throw e;
+            }
+            log.error(e.getMessage(), e);
+            response.reset();
+            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Sets pdf content type and attachment headers, must be called before anything is written to response.
+     *
+     * @param response http response.
+     */
+    private void preparePdfResponse(HttpServletResponse response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData(REPORT_FILENAME, REPORT_FILENAME);
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+    }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.overseer.controller;
 
+import com.overseer.dto.DashboardStatsDTO;
 import com.overseer.dto.DeadlineDTO;
 import com.overseer.dto.RequestSearchDTO;
+import com.overseer.dto.RequestSearchResultDTO;
+import com.overseer.dto.RequestSuggestionDTO;
+import com.overseer.dto.UserStatisticDTO;
 import com.overseer.model.Request;
 import com.overseer.model.enums.ProgressStatus;
+import com.overseer.search.RequestSearchService;
 import com.overseer.service.RequestService;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -24,7 +29,10 @@ import java.util.List;
 @RequestMapping("/api/requests")
 @RequiredArgsConstructor
 public class RequestController {
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final RequestService requestService;
+    private final RequestSearchService requestSearchService;
 
     /**
      * Gets {@link Request} entity associated with provided id param.
@@ -149,6 +157,35 @@ public class RequestController {
         return new ResponseEntity<>(requests, HttpStatus.OK);
     }
 
+    /**
+     * Returns page of requests found by full-text search over title, description and participant names.
+     *
+     * @param query searched text
+     * @param page  page number, starting from 1
+     * @param size  page size
+     * @return found requests with total number of hits and http status 200 OK.
+     */
+    @GetMapping("/fullTextSearch")
+    public ResponseEntity<RequestSearchResultDTO> fullTextSearch(@RequestParam String query, @RequestParam int page,
+                                                                 @RequestParam int size) {
+        val result = requestService.searchRequests(query, page, size);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    /**
+     * Returns requests for type-ahead search box, served from in-memory search index.
+     *
+     * @param query typed text, every word is matched as a word prefix
+     * @param limit maximum number of suggestions
+     * @return found requests, newest first, with http status 200 OK.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<RequestSuggestionDTO>> suggestRequests(@RequestParam String query,
+                                                                      @RequestParam(defaultValue = "10") int limit) {
+        val suggestions = requestSearchService.suggest(query, Math.min(limit, MAX_SUGGESTIONS));
+        return new ResponseEntity<>(suggestions, HttpStatus.OK);
+    }
+
     /**
      * Gets a list of requests which are joined in a specified parent request.
      *
@@ -321,29 +358,17 @@ public class RequestController {
     }
 
     /**
-     * Returns list of progress for User.
-     *
-     * @param userId value of User id in database.
-     * @return list of progress for User.
-     */
-    @GetMapping("/getStatisticByProgressStatusForUser")
-    public ResponseEntity<List<Long>> getQuantityForUser(@RequestParam Long userId) {
-        final List<Long> quantityUser = requestService.quantityByProgressStatusForUser(userId);
-        return new ResponseEntity<>(quantityUser, HttpStatus.OK);
-    }
-
-    /**
-     * Returns list for bar chart in admin page.
+     * Returns statistic for user profile.
      *
-     * @param userId value of User id in database.
-     * @param howLong means for which period we need statistic in months.
-     * @return list of open and closed requests for User.
+     * @param userId  value of User id in database.
+     * @param howLong means for which period we need open and closed requests in months.
+     * @return requests of User by progress status and open and closed requests for the period.
      */
-    @GetMapping("/getOpenClosedRequestForUser")
-    public ResponseEntity<List<Long>> getOpenClosedRequestForUser(@RequestParam Long userId,
-                                                                  @RequestParam Long howLong) {
-        final List<Long> openClosedRequestForUser = requestService.quantityOpenClosedRequestForUser(userId, howLong);
-        return new ResponseEntity<>(openClosedRequestForUser, HttpStatus.OK);
+    @GetMapping("/getStatisticForUser")
+    public ResponseEntity<UserStatisticDTO> getStatisticForUser(@RequestParam Long userId,
+                                                                @RequestParam Long howLong) {
+        final UserStatisticDTO statisticForUser = requestService.getStatisticForUser(userId, howLong);
+        return new ResponseEntity<>(statisticForUser, HttpStatus.OK);
     }
 
     /**
@@ -402,11 +427,11 @@ public class RequestController {
 
     /**
      * @param howLong set which exactly statistic we need.
-     * @return list of statistic for admin dashboard.
+     * @return statistic for admin dashboard.
      */
     @GetMapping("getStatisticForAdminDashBoard")
-    public ResponseEntity<List<Long>> getStatisticForAdminDashBoard(@RequestParam Long howLong) {
-        List<Long> totalStatistic = requestService.countStatisticForAdminDashBoard(howLong);
+    public ResponseEntity<DashboardStatsDTO> getStatisticForAdminDashBoard(@RequestParam Long howLong) {
+        DashboardStatsDTO totalStatistic = requestService.countStatisticForAdminDashBoard(howLong);
         return new ResponseEntity<>(totalStatistic, HttpStatus.OK);
     }
 
@@ -19,6 +19,7 @@ import java.util.List;
 @RequestMapping("/api/topics")
 @RequiredArgsConstructor
 public class TopicController {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final TopicService topicService;
 
@@ -97,11 +98,26 @@ public class TopicController {
      * Gets {@link Topic} list which corresponds to provided page.
      *
      * @param page identifier.
+     * @param size max number of topics, at most {@value #MAX_PAGE_SIZE}.
      * @return {@link Topic} list with http status 200 OK..
      */
     @GetMapping("/fetch")
     public ResponseEntity<List<Topic>> fetchRequestPage(@RequestParam int page, @RequestParam int size) {
-        val topics = topicService.fetchPage(page, size);
+        val topics = topicService.fetchPage(page, limitPageSize(size));
+        return new ResponseEntity<>(topics, HttpStatus.OK);
+    }
+
+    /**
+     * Gets {@link Topic} list which follows the given title, cost of the page does not depend on its position.
+     *
+     * @param after title of the last topic of previous page, absent for the first page.
+     * @param size  max number of topics, at most {@value #MAX_PAGE_SIZE}.
+     * @return {@link Topic} list ordered by title with http status 200 OK.
+     */
+    @GetMapping("/fetchAfter")
+    public ResponseEntity<List<Topic>> fetchPageAfter(@RequestParam(required = false) String after,
+                                                      @RequestParam int size) {
+        val topics = topicService.fetchPageAfter(after, limitPageSize(size));
         return new ResponseEntity<>(topics, HttpStatus.OK);
     }
 
@@ -111,4 +127,8 @@ public class TopicController {
         val savedMessage = topicService.saveTopicMessage(message);
         return new ResponseEntity<>(savedMessage, HttpStatus.OK);
     }
+
+    private static int limitPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
 }
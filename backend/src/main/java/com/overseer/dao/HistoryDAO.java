@@ -2,6 +2,8 @@ package com.overseer.dao;
 
 import com.overseer.model.History;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -10,17 +12,48 @@ import java.util.List;
 public interface HistoryDAO {
 
     /**
-     * Returns all {@link History} objects by entity id.
+     * Returns all {@link History} objects by entity id, including archived ones.
      *
      * @param entityId entity id for which history is retrieving.
      * @return list of all {@link History} objects.
      */
     List<History> findAllForEntity(Long entityId);
 
+    /**
+     * Returns page of {@link History} objects by entity id, newest first. Page starts right after the given
+     * position, so that it is found by index no matter how many older pages there are.
+     * Hot history is read first, archive is read only when hot history does not fill the page.
+     *
+     * @param entityId   entity id for which history is retrieving.
+     * @param beforeDate date of change of the last record of previous page, {@literal null} for the first page.
+     * @param beforeId   id of the last record of previous page, {@literal null} for the first page.
+     * @param limit      max number of records.
+     * @return list of {@link History} objects.
+     */
+    List<History> findPageForEntity(Long entityId, LocalDateTime beforeDate, Long beforeId, int limit);
+
     /**
      * Return {@link History} object by entity id.
      * @param entityId entity id for which history is retrieving.
      * @return {@link History} object.
      */
     History findEntity(Long entityId);
-}
\ No newline at end of file
+
+    /**
+     * Creates missing monthly partitions of history table.
+     *
+     * @param firstMonth first month to create partition for.
+     * @param lastMonth  last month to create partition for.
+     * @return number of created partitions.
+     */
+    int createPartitions(LocalDate firstMonth, LocalDate lastMonth);
+
+    /**
+     * Moves history of a batch of closed requests, changed before the given date, into history archive.
+     *
+     * @param before    history changed before this date is archived.
+     * @param batchSize max number of requests whose history is moved.
+     * @return number of requests whose history was moved.
+     */
+    int archiveClosedRequestsHistory(LocalDateTime before, int batchSize);
+}
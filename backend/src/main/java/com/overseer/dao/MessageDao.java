@@ -3,6 +3,7 @@ package com.overseer.dao;
 
 import com.overseer.model.Message;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -19,7 +20,64 @@ public interface MessageDao extends CrudDao<Message, Long> {
      */
     int deleteByTopicId(Long topicId);
 
-    List<Message> findDialogMessages(Long senderId, Long recipientId);
+    /**
+     * Returns page of messages between two users, newest first. Page starts right before the given position,
+     * so that it is read by index no matter how long the dialog is.
+     *
+     * @param senderId    id of one of the users.
+     * @param recipientId id of another user.
+     * @param beforeDate  date and time of the oldest message of previous page, {@literal null} for the newest page.
+     * @param beforeId    id of the oldest message of previous page, {@literal null} for the newest page.
+     * @param limit       max number of messages.
+     * @return list of messages.
+     */
+    List<Message> findDialogMessagesBefore(Long senderId, Long recipientId, LocalDateTime beforeDate, Long beforeId,
+                                           int limit);
+
+    /**
+     * Returns messages between two users which are newer than the given position, oldest first.
+     *
+     * @param senderId    id of one of the users.
+     * @param recipientId id of another user.
+     * @param afterDate   date and time of the newest message client already has.
+     * @param afterId     id of the newest message client already has.
+     * @param limit       max number of messages.
+     * @return list of messages.
+     */
+    List<Message> findDialogMessagesAfter(Long senderId, Long recipientId, LocalDateTime afterDate, Long afterId,
+                                          int limit);
+
+    /**
+     * Returns newest unread private messages of the recipient.
+     *
+     * @param recipientId id of recipient.
+     * @param limit       max number of messages.
+     * @return list of messages, newest first.
+     */
+    List<Message> findUnreadMessages(Long recipientId, int limit);
 
-    List<Message> findUnreadMessages(Long recipientId);
+    /**
+     * Returns number of unread private messages of the recipient from maintained unread_counter.
+     *
+     * @param recipientId id of recipient.
+     * @return number of unread messages.
+     */
+    long countUnreadMessages(Long recipientId);
+
+    /**
+     * Deletes message and tells whose unread messages it was among.
+     *
+     * @param id id of message.
+     * @return id of recipient if message was an unread private message, {@literal null} otherwise.
+     */
+    Long deleteReturningUnreadRecipient(Long id);
+
+    /**
+     * Marks unread messages of the recipient as read.
+     *
+     * @param recipientId id of recipient, messages of other recipients are not changed.
+     * @param messageIds  ids of messages.
+     * @return ids of messages which were unread.
+     */
+    List<Long> markRead(Long recipientId, List<Long> messageIds);
 }
@@ -1,8 +1,10 @@
 package com.overseer.dao;
 
 import com.overseer.caching.annotation.CacheChanger;
+import com.overseer.dto.DashboardStatsDTO;
 import com.overseer.dto.DeadlineDTO;
 import com.overseer.dto.RequestDTO;
+import com.overseer.dto.UserStatisticDTO;
 import com.overseer.model.PriorityStatus;
 import com.overseer.model.Request;
 import com.overseer.model.User;
@@ -11,6 +13,8 @@ import org.springframework.util.Assert;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * The <code>RequestDao</code> interface represents access to Request {@link Request} object in database.
@@ -187,69 +191,26 @@ public interface RequestDao extends CrudDao<Request, Long> {
      */
     List<Request> findRequestsByPeriod(LocalDate start, LocalDate end, int pageSize, int pageNumber);
 
-
-    /**
-     * Returns a list of request DTO created in provided period.
-     *
-     * @param start              period start.
-     * @param end                period end.
-     * @param progressStatusId progress status id.
-     * @return list of request DTO created in provided period.
-     */
-    List<RequestDTO> findListCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId);
-
     /**
-     * Returns a request DTO created in provided period.
+     * Returns count of requests created in provided period for every day of the period, days without requests are included.
      *
-     * @param start              period start.
-     * @param end                period end.
+     * @param start            period start.
+     * @param end              period end, exclusive.
      * @param progressStatusId progress status id.
-     * @return request DTO created in provided period.
+     * @return list of request DTO per day sorted by day.
      */
-    RequestDTO findCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId);
+    List<RequestDTO> findDailyCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId);
 
     /**
-     * Returns a request DTO created in small period.
+     * Returns count of manager's requests created in provided period for every day of the period, days without requests are included.
      *
-     * @param start              period start.
-     * @param end                period end.
+     * @param start            period start.
+     * @param end              period end, exclusive.
      * @param progressStatusId progress status id.
-     * @return request DTO created in small period.
+     * @param id               manager id.
+     * @return list of request DTO per day sorted by day.
      */
-    RequestDTO findCountRequestsBySmallPeriod(LocalDate start, LocalDate end, Long progressStatusId);
-
-    /**
-     * Returns a list of request DTO created in provided period.
-     *
-     * @param start              period start.
-     * @param end                period end.
-     * @param progressStatusId progress status id.
-     * @param id                 manager id.
-     * @return list of request DTO created in provided period.
-     */
-    List<RequestDTO> findListCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id);
-
-    /**
-     * Returns a request DTO created in provided period.
-     *
-     * @param start              period start.
-     * @param end                period end.
-     * @param progressStatusId progress status id.
-     * @param id                 manager id.
-     * @return request DTO created in provided period.
-     */
-    RequestDTO findCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id);
-
-    /**
-     * Returns a request DTO created in small period.
-     *
-     * @param start              period start.
-     * @param end                period end.
-     * @param progressStatusId progress status id.
-     * @param id                 manager id.
-     * @return request DTO created in small period.
-     */
-    RequestDTO findCountRequestsByManagerAndSmallPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id);
+    List<RequestDTO> findDailyCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id);
 
     /**
      * Returns a list of best managers in provided period.
@@ -292,13 +253,39 @@ public interface RequestDao extends CrudDao<Request, Long> {
      */
     List<Request> findFreeRequests(int pageSize, int pageNumber);
 
+    /**
+     * Returns page of top level requests matching full-text query, most relevant first.
+     *
+     * @param tsQuery    PostgreSQL tsquery over request title, description and participant names
+     * @param pageSize   page size
+     * @param pageNumber page number, starting from 1
+     * @return list of found requests
+     */
+    List<Request> fullTextSearch(String tsQuery, int pageSize, int pageNumber);
+
+    /**
+     * Returns number of top level requests matching full-text query.
+     *
+     * @param tsQuery PostgreSQL tsquery over request title, description and participant names
+     * @return number of found requests
+     */
+    Long countFullTextSearch(String tsQuery);
+
     /**
      * Returns list of filtered requests by specified search query.
      *
-     * @param searchQuery search params sql query
+     * @param searchQuery search params sql query with named parameters
+     * @param parameters  values of named parameters used in search query
      * @return list of filtered requests
      */
-    List<Request> searchRequests(String searchQuery);
+    List<Request> searchRequests(String searchQuery, Map<String, Object> parameters);
+
+    /**
+     * Passes every request to consumer while reading them, without loading all requests into memory.
+     *
+     * @param consumer consumer of requests
+     */
+    void streamAll(Consumer<Request> consumer);
 
     /**
      * Gets a list of requests which have provided {@link User} as assignee and specified {@link ProgressStatus}.
@@ -327,11 +314,14 @@ public interface RequestDao extends CrudDao<Request, Long> {
     void deleteParentRequestIfItHasNoChildren(Long parentId);
 
     /**
-     * Returns list to build pie chart for user profile.
+     * Counts requests of the reporter by progress status and open and closed requests created
+     * since given date with one grouped query.
      *
-     * @return list of statistic request for user profile.
+     * @param userId id of reporter.
+     * @param since  start date of the period.
+     * @return statistic for user profile.
      */
-    List<Long> countRequestByProgressStatusForUser(Long userId);
+    UserStatisticDTO statisticForUser(Long userId, LocalDate since);
 
     /**
      * @return number of total Users.
@@ -353,21 +343,34 @@ public interface RequestDao extends CrudDao<Request, Long> {
      */
     Long countRequestsRunningToday();
 
-    /**
-     * @return list of statistic for six months by progress status for user.
-     */
-    List<Long> countOpenClosedRequestForUser(Long userId, Long howLong);
-
     /**
      * @param howLong set which exactly statistic we need.
-     * @return list of statistic for admin dashboard.
+     * @return statistic for admin dashboard, shared between callers for a few seconds.
      */
-    List<Long> statisticForAdminDashBoard(Long howLong);
+    DashboardStatsDTO statisticForAdminDashBoard(Long howLong);
 
     /**
+     * Returns deadlines of requests which are in progress for given assignee,
+     * counted from the moment each request moved to 'In progress'.
+     *
+     * @param assigneeID id of assignee.
      * @return list of manager deadlines information entity.
      */
     List<DeadlineDTO> getDeadlinesByAssignee(Long assigneeID);
 
     void deleteAllSubRequestByParent(Long parentId);
+
+    /**
+     * Checks if request_daily_stats rollup is empty while there are requests, e.g. right after it was created.
+     *
+     * @return true if rollup has to be filled.
+     */
+    boolean isDailyStatisticsBackfillNeeded();
+
+    /**
+     * Rebuilds request_daily_stats rollup from the request table.
+     * Rollup is maintained by trigger afterwards, so this is needed only to fill or reconcile it.
+     */
+    @CacheChanger
+    void rebuildDailyStatistics();
 }
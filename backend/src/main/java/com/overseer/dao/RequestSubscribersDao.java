@@ -3,7 +3,9 @@ package com.overseer.dao;
 import com.overseer.model.Request;
 import com.overseer.model.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The <code>RequestDao</code> interface represents access list of subscribers {@link User} of request {@link Request}.
@@ -22,4 +24,12 @@ public interface RequestSubscribersDao {
     default List<User> getSubscribersOfRequest(Request request) {
         return getSubscribersOfRequest(request.getId());
     }
+
+    /**
+     * Returns subscribers of each of the given requests, loading all of them with a single query.
+     *
+     * @param requestIds ids of requests, must not be {@literal null}.
+     * @return map of request id to its subscribers, requests without subscribers are mapped to an empty list.
+     */
+    Map<Long, List<User>> getSubscribersOfRequests(Collection<Long> requestIds);
 }
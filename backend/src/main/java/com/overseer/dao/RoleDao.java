@@ -6,4 +6,12 @@ import com.overseer.model.Role;
  *  The <code>RoleDao</code> interface represents access to {@link Role} object in database.
  */
 public interface RoleDao extends SimpleEntityDao<Role> {
+
+    /**
+     * Returns id of role by its name from in-memory cache, database is read only when the name is not cached yet.
+     *
+     * @param name name of role.
+     * @return id of role, or {@literal null} if there is no such role.
+     */
+    Long findIdByName(String name);
 }
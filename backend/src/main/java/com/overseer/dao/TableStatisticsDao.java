@@ -0,0 +1,16 @@
+package com.overseer.dao;
+
+/**
+ * The <code>TableStatisticsDao</code> interface provides access to planner statistics of tables.
+ */
+public interface TableStatisticsDao {
+
+    /**
+     * Returns number of rows in the table estimated by database planner, which is
+     * refreshed by autovacuum and analyze. Reading it does not scan the table.
+     *
+     * @param table name of the table.
+     * @return estimated number of rows or -1 if table was never analyzed.
+     */
+    long estimateRowCount(String table);
+}
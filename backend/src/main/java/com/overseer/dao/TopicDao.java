@@ -25,6 +25,16 @@ public interface TopicDao extends CrudDao<Topic, Long> {
      */
     Message saveTopicMessage(Message message);
 
+    /**
+     * Returns page of topics ordered by title which starts right after the given title,
+     * so that it is found by title index no matter how many topics are before it.
+     *
+     * @param afterTitle title of the last topic of previous page, {@literal null} for the first page.
+     * @param pageSize   max number of topics.
+     * @return list of topics ordered by title.
+     */
+    List<Topic> fetchPageAfter(String afterTitle, int pageSize);
+
     /**
      * Checks whether entity with the given title exists.
      *
@@ -4,6 +4,7 @@ import com.overseer.model.Role;
 import com.overseer.model.User;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * The <code>UserDao</code> interface represents access to {@link User} object in database.
@@ -67,10 +68,11 @@ public interface UserDao extends CrudDao<User, Long> {
     /**
      * Returns list of filtered users by specified search query.
      *
-     * @param searchQuery search params sql query
+     * @param searchQuery search params sql query with named parameters
+     * @param parameters  values of named parameters used in search query
      * @return list of filtered requests
      */
-    List<User> searchRequests(String searchQuery);
+    List<User> searchRequests(String searchQuery, Map<String, Object> parameters);
 
     /**
      * Returns list of specified user chat partners.
@@ -3,6 +3,7 @@ package com.overseer.dao.impl;
 import com.overseer.dao.HistoryDAO;
 import com.overseer.model.History;
 import com.overseer.model.User;
+import com.overseer.model.enums.ProgressStatus;
 import com.overseer.service.QueryService;
 import io.jsonwebtoken.lang.Assert;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,10 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -39,7 +44,60 @@ public class HistoryDaoImpl implements HistoryDAO{
         Assert.notNull(entityId, "id of entity must not be null");
         MapSqlParameterSource parameterSource = new MapSqlParameterSource();
         parameterSource.addValue("entity_id", entityId);
-        return jdbc().query(this.queryService().getQuery("history.findAllForEntity"), parameterSource, this.getMapper());
+        List<History> histories = jdbc().query(this.queryService().getQuery("history.findAllForEntity"), parameterSource, this.getMapper());
+        histories.addAll(jdbc().query(this.queryService().getQuery("history.findArchivedForEntity"), parameterSource, this.getMapper()));
+        return histories;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<History> findPageForEntity(Long entityId, LocalDateTime beforeDate, Long beforeId, int limit) {
+        Assert.notNull(entityId, "id of entity must not be null");
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("entity_id", entityId);
+        parameterSource.addValue("limit", limit);
+        boolean firstPage = beforeDate == null || beforeId == null;
+        if (!firstPage) {
+            parameterSource.addValue("before_date", Timestamp.valueOf(beforeDate));
+            parameterSource.addValue("before_id", beforeId);
+        }
+        List<History> histories = jdbc().query(
+                this.queryService().getQuery(firstPage ? "history.findFirstPageForEntity" : "history.findPageForEntity"),
+                parameterSource, this.getMapper());
+        if (histories.size() < limit) {
+            // archived history is older than any hot history of the request, so it continues the page
+            parameterSource.addValue("limit", limit - histories.size());
+            String archiveQuery = firstPage || !histories.isEmpty()
+                    ? "history.findArchivedFirstPageForEntity"
+                    : "history.findArchivedPageForEntity";
+            histories.addAll(jdbc().query(this.queryService().getQuery(archiveQuery), parameterSource, this.getMapper()));
+        }
+        return histories;
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int createPartitions(LocalDate firstMonth, LocalDate lastMonth) {
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("first_month", Date.valueOf(firstMonth));
+        parameterSource.addValue("last_month", Date.valueOf(lastMonth));
+        return jdbc().queryForObject(this.queryService().getQuery("history.createPartitions"), parameterSource, Integer.class);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public int archiveClosedRequestsHistory(LocalDateTime before, int batchSize) {
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("closed", ProgressStatus.CLOSED.getId());
+        parameterSource.addValue("before", Timestamp.valueOf(before));
+        parameterSource.addValue("batch_size", batchSize);
+        return jdbc().update(this.queryService().getQuery("history.archive"), parameterSource);
     }
 
     /**
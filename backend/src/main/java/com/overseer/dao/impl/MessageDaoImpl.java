@@ -9,7 +9,11 @@ import lombok.val;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -39,18 +43,69 @@ public class MessageDaoImpl extends CrudDaoImpl<Message> implements MessageDao {
     }
 
     @Override
-    public List<Message> findDialogMessages(Long senderId, Long recipientId) {
+    public List<Message> findDialogMessagesBefore(Long senderId, Long recipientId, LocalDateTime beforeDate,
+                                                  Long beforeId, int limit) {
         val parameterSource = new MapSqlParameterSource("senderId", senderId);
         parameterSource.addValue("recipientId", recipientId);
-        return jdbc().query(getByFriendQuery(), parameterSource, getDialogMapper());
+        parameterSource.addValue("limit", limit);
+        if (beforeDate == null || beforeId == null) {
+            return jdbc().query(queryService().getQuery("message.findDialogFirstPage"), parameterSource,
+                    getDialogMapper());
+        }
+        parameterSource.addValue("before_date", Timestamp.valueOf(beforeDate));
+        parameterSource.addValue("before_id", beforeId);
+        return jdbc().query(queryService().getQuery("message.findDialogPageBefore"), parameterSource,
+                getDialogMapper());
+    }
+
+    @Override
+    public List<Message> findDialogMessagesAfter(Long senderId, Long recipientId, LocalDateTime afterDate,
+                                                 Long afterId, int limit) {
+        Assert.notNull(afterDate, "date of the newest message must not be null");
+        Assert.notNull(afterId, "id of the newest message must not be null");
+        val parameterSource = new MapSqlParameterSource("senderId", senderId);
+        parameterSource.addValue("recipientId", recipientId);
+        parameterSource.addValue("limit", limit);
+        parameterSource.addValue("after_date", Timestamp.valueOf(afterDate));
+        parameterSource.addValue("after_id", afterId);
+        return jdbc().query(queryService().getQuery("message.findDialogPageAfter"), parameterSource,
+                getDialogMapper());
     }
 
     @Override
-    public List<Message> findUnreadMessages(Long recipientId) {
+    public List<Message> findUnreadMessages(Long recipientId, int limit) {
         val parameterSource = new MapSqlParameterSource("recipientId", recipientId);
+        parameterSource.addValue("limit", limit);
         return jdbc().query(getUnreadMessagesQuery(), parameterSource, getDialogMapper());
     }
 
+    @Override
+    public long countUnreadMessages(Long recipientId) {
+        Assert.notNull(recipientId, "id of recipient must not be null");
+        return jdbc().queryForObject(queryService().getQuery("message.countUnread"),
+                new MapSqlParameterSource("recipientId", recipientId), Long.class);
+    }
+
+    @Override
+    public Long deleteReturningUnreadRecipient(Long id) {
+        Assert.notNull(id, "id must not be null");
+        List<Long> recipientIds = jdbc().queryForList(
+                queryService().getQuery("message.deleteReturningUnreadRecipient"),
+                new MapSqlParameterSource("id", id), Long.class);
+        return recipientIds.isEmpty() ? null : recipientIds.get(0);
+    }
+
+    @Override
+    public List<Long> markRead(Long recipientId, List<Long> messageIds) {
+        Assert.notNull(recipientId, "id of recipient must not be null");
+        if (messageIds == null || messageIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        val parameterSource = new MapSqlParameterSource("recipientId", recipientId);
+        parameterSource.addValue("ids", messageIds);
+        return jdbc().queryForList(queryService().getQuery("message.markRead"), parameterSource, Long.class);
+    }
+
     @Override
     protected RowMapper<Message> getMapper() {
         return (resultSet, i) -> {
@@ -137,10 +192,6 @@ public class MessageDaoImpl extends CrudDaoImpl<Message> implements MessageDao {
         return queryService().getQuery("message.select") + queryService().getQuery("message.getByTopicQuery");
     }
 
-    private String getByFriendQuery() {
-        return queryService().getQuery("message.getByFriendQuery");
-    }
-
     private String getUnreadMessagesQuery() {
         return queryService().getQuery("message.getUnreadMessagesQuery");
     }
@@ -1,28 +1,36 @@
 package com.overseer.dao.impl;
 
-import static com.overseer.util.DeadlineCalculator.getDeadline;
-
 import com.overseer.auth.service.SecurityContextService;
+import com.overseer.caching.SimpleInMemoryCache;
+import com.overseer.caching.impl.SimpleInMemoryCacheImpl;
 import com.overseer.dao.RequestDao;
+import com.overseer.dto.DashboardStatsDTO;
 import com.overseer.dto.DeadlineDTO;
 import com.overseer.dto.RequestDTO;
+import com.overseer.dto.UserStatisticDTO;
 import com.overseer.model.PriorityStatus;
 import com.overseer.model.Request;
 import com.overseer.model.User;
 import com.overseer.model.enums.ProgressStatus;
+import com.overseer.util.BusinessCalendar;
 import com.overseer.util.ProgressStatusUtil;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.sql.PreparedStatement;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 
 /**
@@ -36,8 +44,15 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
     private static final int HIGH = 1;
     private static final int NORMAL = 2;
     private static final int LOW = 3;
-    private static final int DEFAULT_DAY_IN_MONTH = 1;
-    private static final Long DEFAULT_MONTHS_STEP = 1L;
+    private static final long DASHBOARD_STATS_CACHE_LIFE_TIME_SECONDS = 10;
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Admin dashboard is polled by every open admin page, so statistic for the same period is computed once
+     * and shared for a few seconds.
+     */
+    private final SimpleInMemoryCache<LocalDate, DashboardStatsDTO> dashboardStatsCache =
+            new SimpleInMemoryCacheImpl<>(DASHBOARD_STATS_CACHE_LIFE_TIME_SECONDS);
 
     @Autowired
     private ProgressStatusUtil progressStatusUtil;
@@ -45,6 +60,9 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
     @Autowired
     private SecurityContextService securityContextService;
 
+    @Autowired
+    private BusinessCalendar businessCalendar;
+
 
     //-----------------------CRUD---------------------------
 
@@ -255,6 +273,23 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
         }
     }
 
+    @Override
+    public List<Request> fullTextSearch(String tsQuery, int pageSize, int pageNumber) {
+        Assert.state(pageNumber > 0, "page number must be greater then 0");
+        String query = this.queryService().getQuery("request.select")
+                .concat(queryService().getQuery("request.fullTextSearch"));
+        val parameterSource = new MapSqlParameterSource("query", tsQuery);
+        parameterSource.addValue("limit", pageSize);
+        parameterSource.addValue("offset", pageSize * (pageNumber - 1));
+        return jdbc().query(query, parameterSource, this.getMapper());
+    }
+
+    @Override
+    public Long countFullTextSearch(String tsQuery) {
+        return jdbc().queryForObject(queryService().getQuery("request.countFullTextSearch"),
+                new MapSqlParameterSource("query", tsQuery), Long.class);
+    }
+
     //-----------------------COUNT---------------------------
 
     @Override
@@ -286,27 +321,29 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
     }
 
     @Override
-    public List<Long> countRequestByProgressStatusForUser(Long userId) {
-        List<Long> progressListForUser = new LinkedList<>();
-        progressListForUser.add(countRequestByProgressStatusForReporter(userId, ProgressStatus.FREE));
-        progressListForUser.add(countRequestByProgressStatusForReporter(userId, ProgressStatus.JOINED));
-        progressListForUser.add(countRequestByProgressStatusForReporter(userId, ProgressStatus.IN_PROGRESS));
-
-        return progressListForUser;
-    }
-
-    /**
-     * Counts Request with given ProgressStatus for Reporter.
-     *
-     * @param reporterId     reporter id
-     * @param progressStatus specified progressStatus
-     */
-    private Long countRequestByProgressStatusForReporter(Long reporterId, ProgressStatus progressStatus) {
-        String quantityQueryForUser = queryService().getQuery("request.countByProgressStatusForUser");
-        val parameterSource = new MapSqlParameterSource();
-        parameterSource.addValue("userId", reporterId);
-        parameterSource.addValue("progress", progressStatus.getId());
-        return jdbc().queryForObject(quantityQueryForUser, parameterSource, Long.class);
+    public UserStatisticDTO statisticForUser(Long userId, LocalDate since) {
+        val parameterSource = new MapSqlParameterSource("userId", userId);
+        parameterSource.addValue("howLong", since);
+        Map<Long, Long> totalByProgressStatus = new HashMap<>();
+        long openInPeriod = 0;
+        long closedInPeriod = 0;
+        val rows = jdbc().queryForList(queryService().getQuery("request.statisticForUser"), parameterSource);
+        for (val row : rows) {
+            Long progressStatusId = ((Number) row.get("progress_status_id")).longValue();
+            long inPeriod = ((Number) row.get("in_period")).longValue();
+            totalByProgressStatus.put(progressStatusId, ((Number) row.get("total")).longValue());
+            if (ProgressStatus.CLOSED.getId().equals(progressStatusId)) {
+                closedInPeriod += inPeriod;
+            } else if (progressStatusId != 0) {
+                openInPeriod += inPeriod;
+            }
+        }
+        return new UserStatisticDTO(
+                totalByProgressStatus.getOrDefault(ProgressStatus.FREE.getId(), 0L),
+                totalByProgressStatus.getOrDefault(ProgressStatus.JOINED.getId(), 0L),
+                totalByProgressStatus.getOrDefault(ProgressStatus.IN_PROGRESS.getId(), 0L),
+                openInPeriod,
+                closedInPeriod);
     }
 
     @Override
@@ -334,68 +371,37 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
     }
 
     @Override
-    public List<Long> countOpenClosedRequestForUser(Long userId, Long howLong) {
+    public DashboardStatsDTO statisticForAdminDashBoard(Long howLong) {
         LocalDate localDate = LocalDate.now().minusMonths(howLong);
-        String quantityQuery = queryService().getQuery("request.countStatisticForForUser");
-        List<Long> userStatistic = new LinkedList<>();
-        val parameterSource = new MapSqlParameterSource("userId", userId);
-        parameterSource.addValue("howLong", localDate);
-        parameterSource.addValue("userId", userId);
-        userStatistic.add(jdbc().queryForObject(quantityQuery, parameterSource, Long.class));
-        val source = new MapSqlParameterSource();
-        source.addValue("howLong", localDate);
-        source.addValue("progress", ProgressStatus.CLOSED.getId());
-        source.addValue("userId", userId);
-        String quantityQueryClosed = queryService().getQuery("request.countStatisticForUserClosed");
-        userStatistic.add(jdbc().queryForObject(quantityQueryClosed, source, Long.class));
-        return userStatistic;
-    }
-
-    @Override
-    public List<Long> statisticForAdminDashBoard(Long howLong) {
-        LocalDate localDate = LocalDate.now().minusMonths(howLong);
-        List<Long> adminStatisticList = new LinkedList<>();
-        adminStatisticList.add(countStatisticForAdminDashBoardByProgressStatus(localDate, ProgressStatus.FREE));
-        adminStatisticList.add(countStatisticForAdminDashBoardByProgressStatus(localDate, ProgressStatus.JOINED));
-        adminStatisticList.add(countStatisticForAdminDashBoardByProgressStatus(localDate, ProgressStatus.IN_PROGRESS));
-        adminStatisticList.add(countStatisticForAdminDashBoardByProgressStatus(localDate, ProgressStatus.CLOSED));
-
-        String queryNotClosedRequests = queryService().getQuery("request.countStatisticForAdminDashBoardNotClosed");
-        adminStatisticList.add(jdbc().queryForObject(queryNotClosedRequests, new MapSqlParameterSource("howLong", localDate), Long.class));
-
-        adminStatisticList.add(countStatisticForAdminDashBoardByPriorityStatus(localDate, HIGH));
-        adminStatisticList.add(countStatisticForAdminDashBoardByPriorityStatus(localDate, NORMAL));
-        adminStatisticList.add(countStatisticForAdminDashBoardByPriorityStatus(localDate, LOW));
-
-        return adminStatisticList;
-    }
-
-    /**
-     * Counts Request with given ProgressStatus and Date.
-     *
-     * @param localDate      date
-     * @param progressStatus specified progressStatus
-     */
-    private Long countStatisticForAdminDashBoardByProgressStatus(LocalDate localDate, ProgressStatus progressStatus) {
-        String queryProgress = queryService().getQuery("request.countStatisticForAdminDashBoardByProgressStatus");
-        val parameterSource = new MapSqlParameterSource();
-        parameterSource.addValue("howLong", localDate);
-        parameterSource.addValue("progress", progressStatus.getId());
-        return jdbc().queryForObject(queryProgress, parameterSource, Long.class);
+        return dashboardStatsCache.computeIfAbsent(localDate, () -> loadStatisticForAdminDashBoard(localDate));
     }
 
     /**
-     * Counts Request with given PriorityStatus and Date.
+     * Counts requests by progress and priority status since given date in one query.
      *
-     * @param localDate date
-     * @param priority  specified progressStatus
+     * @param localDate start date of the period
+     * @return statistic for admin dashboard
      */
-    private Long countStatisticForAdminDashBoardByPriorityStatus(LocalDate localDate, int priority) {
-        String query = queryService().getQuery("request.countStatisticForAdminDashBoardByPriorityStatus");
+    private DashboardStatsDTO loadStatisticForAdminDashBoard(LocalDate localDate) {
         val parameterSource = new MapSqlParameterSource();
         parameterSource.addValue("howLong", localDate);
-        parameterSource.addValue("priority", priority);
-        return jdbc().queryForObject(query, parameterSource, Long.class);
+        parameterSource.addValue("free", ProgressStatus.FREE.getId());
+        parameterSource.addValue("joined", ProgressStatus.JOINED.getId());
+        parameterSource.addValue("inProgress", ProgressStatus.IN_PROGRESS.getId());
+        parameterSource.addValue("closed", ProgressStatus.CLOSED.getId());
+        parameterSource.addValue("high", HIGH);
+        parameterSource.addValue("normal", NORMAL);
+        parameterSource.addValue("low", LOW);
+        String query = queryService().getQuery("request.statisticForAdminDashBoard");
+        return jdbc().queryForObject(query, parameterSource, (resultSet, i) -> new DashboardStatsDTO(
+                resultSet.getLong("free"),
+                resultSet.getLong("joined"),
+                resultSet.getLong("in_progress"),
+                resultSet.getLong("closed"),
+                resultSet.getLong("not_closed"),
+                resultSet.getLong("high_priority"),
+                resultSet.getLong("normal_priority"),
+                resultSet.getLong("low_priority")));
     }
 
     @Override
@@ -413,153 +419,22 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
     //-----------------------REPORT---------------------------
 
     @Override
-    public RequestDTO findCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId) {
-        String findByPeriodQuery = this.queryService().getQuery("request.countByStatusAndPeriod");
-        try {
-            val parameterSource = new MapSqlParameterSource();
-            parameterSource.addValue("begin", java.sql.Date.valueOf(start));
-            parameterSource.addValue("end", java.sql.Date.valueOf(end));
-            parameterSource.addValue("progress_status_id", progressStatusId);
-            return jdbc().queryForObject(findByPeriodQuery,
-                    parameterSource, (resultSet, i) -> {
-                        RequestDTO requestDTO = new RequestDTO();
-                        requestDTO.setCount(resultSet.getLong("count"));
-                        requestDTO.setStartDateLimit(start);
-                        requestDTO.setEndDateLimit(end);
-                        return requestDTO;
-                    });
-        } catch (DataAccessException e) {
-            return null;
-        }
-    }
-
-    @Override
-    public RequestDTO findCountRequestsBySmallPeriod(LocalDate start, LocalDate end, Long progressStatusId) {
-        try {
-            val parameterSource = new MapSqlParameterSource();
-            parameterSource.addValue("begin", java.sql.Date.valueOf(start));
-            parameterSource.addValue("end", java.sql.Date.valueOf(end));
-            parameterSource.addValue("progress_status_id", progressStatusId);
-            return jdbc().queryForObject(this.queryService().getQuery("request.countByStatusAndSmallPeriod"),
-                    parameterSource, (resultSet, i) -> {
-                        RequestDTO request = new RequestDTO();
-                        request.setEndDateLimit(end);
-                        request.setCount(resultSet.getLong("summa"));
-                        request.setStartDateLimit(start);
-                        return request;
-                    });
-        } catch (DataAccessException e) {
-            return null;
-        }
-    }
-
-    @Override
-    public List<RequestDTO> findListCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId) {
-        String findCountByPeriodsQuery = this.queryService().getQuery("request.countByStatusesAndPeriods");
-        List<RequestDTO> list = new ArrayList<>();
-        try {
-            val parameterSource = new MapSqlParameterSource();
-            parameterSource.addValue("begin", java.sql.Date.valueOf(start));
-            parameterSource.addValue("end", java.sql.Date.valueOf(end));
-            parameterSource.addValue("progress_status_id", progressStatusId);
-            return jdbc().query(findCountByPeriodsQuery,
-                    parameterSource, resultSet -> {
-                        while (resultSet.next()) {
-                            RequestDTO requestDTO = new RequestDTO();
-
-                            int year = resultSet.getInt("year");
-                            int month = resultSet.getInt("month");
-                            LocalDate localStartDate = LocalDate.of(year, month, DEFAULT_DAY_IN_MONTH);
-                            requestDTO.setStartDateLimit(localStartDate);
-
-                            LocalDate localEndDate = LocalDate.of(year, month, DEFAULT_DAY_IN_MONTH);
-                            localEndDate = localEndDate.plusMonths(DEFAULT_MONTHS_STEP);
-                            requestDTO.setEndDateLimit(localEndDate);
-
-                            requestDTO.setCount(resultSet.getLong("count"));
-                            list.add(requestDTO);
-                        }
-                        return list;
-                    });
-        } catch (DataAccessException e) {
-            e.printStackTrace();
-            return null;
-        }
-    }
-
-    @Override
-    public RequestDTO findCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id) {
-        String findCountByManagerAndPeriodQuery = this.queryService().getQuery("request.countByManagerAndPeriod");
-        try {
-            val parameterSource = new MapSqlParameterSource();
-            parameterSource.addValue("begin", java.sql.Date.valueOf(start));
-            parameterSource.addValue("end", java.sql.Date.valueOf(end));
-            parameterSource.addValue("progress_status_id", progressStatusId);
-            parameterSource.addValue("assignee_id", id);
-            return jdbc().queryForObject(findCountByManagerAndPeriodQuery,
-                    parameterSource, (resultSet, i) -> {
-                        RequestDTO request = new RequestDTO();
-                        request.setStartDateLimit(start);
-                        request.setEndDateLimit(end);
-                        request.setCount(resultSet.getLong("count"));
-                        return request;
-                    });
-        } catch (DataAccessException e) {
-            return null;
-        }
-    }
-
-    @Override
-    public RequestDTO findCountRequestsByManagerAndSmallPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id) {
-        try {
-            val parameterSource = new MapSqlParameterSource();
-            parameterSource.addValue("progress_status_id", progressStatusId);
-            parameterSource.addValue("assignee_id", id);
-            parameterSource.addValue("begin", java.sql.Date.valueOf(start));
-            parameterSource.addValue("end", java.sql.Date.valueOf(end));
-            return jdbc().queryForObject(this.queryService().getQuery("request.countByManagerAndSmallPeriod"),
-                    parameterSource, (resultSet, i) -> {
-                        RequestDTO request = new RequestDTO();
-                        request.setCount(resultSet.getLong("summa"));
-                        request.setStartDateLimit(start);
-                        request.setEndDateLimit(end);
-                        return request;
-                    });
-        } catch (DataAccessException e) {
-            return null;
-        }
+    public List<RequestDTO> findDailyCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId) {
+        val parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("begin", java.sql.Date.valueOf(start));
+        parameterSource.addValue("end", java.sql.Date.valueOf(end));
+        parameterSource.addValue("progress_status_id", progressStatusId);
+        return jdbc().query(this.queryService().getQuery("request.countByStatusPerDay"), parameterSource, getDailyCountMapper());
     }
 
     @Override
-    public List<RequestDTO> findListCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id) {
-        List<RequestDTO> data = new ArrayList<>();
-        try {
-            val parameterSource = new MapSqlParameterSource();
-            parameterSource.addValue("begin", java.sql.Date.valueOf(start));
-            parameterSource.addValue("end", java.sql.Date.valueOf(end));
-            parameterSource.addValue("progress_status_id", progressStatusId);
-            parameterSource.addValue("assignee_id", id);
-            return jdbc().query(this.queryService().getQuery("request.countByManagerAndPeriods"),
-                    parameterSource, resultSet -> {
-                        while (resultSet.next()) {
-                            RequestDTO request = new RequestDTO();
-                            int year = resultSet.getInt("year");
-                            int month = resultSet.getInt("month");
-                            request.setCount(resultSet.getLong("count"));
-                            LocalDate localStartDate = LocalDate.of(year, month, DEFAULT_DAY_IN_MONTH);
-                            request.setStartDateLimit(localStartDate);
-
-                            LocalDate localEndDate = LocalDate.of(year, month, DEFAULT_DAY_IN_MONTH);
-                            localEndDate = localEndDate.plusMonths(DEFAULT_MONTHS_STEP);
-                            request.setEndDateLimit(localEndDate);
-                            data.add(request);
-                        }
-                        return data;
-                    });
-        } catch (DataAccessException e) {
-            e.printStackTrace();
-            return null;
-        }
+    public List<RequestDTO> findDailyCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id) {
+        val parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("begin", java.sql.Date.valueOf(start));
+        parameterSource.addValue("end", java.sql.Date.valueOf(end));
+        parameterSource.addValue("progress_status_id", progressStatusId);
+        parameterSource.addValue("assignee_id", id);
+        return jdbc().query(this.queryService().getQuery("request.countByManagerPerDay"), parameterSource, getDailyCountMapper());
     }
 
     @Override
@@ -588,6 +463,20 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
         }
     }
 
+    @Override
+    public boolean isDailyStatisticsBackfillNeeded() {
+        String query = this.queryService().getQuery("request.dailyStats.needsBackfill");
+        return jdbc().queryForObject(query, new MapSqlParameterSource(), Boolean.class);
+    }
+
+    @Override
+    public void rebuildDailyStatistics() {
+        val parameterSource = new MapSqlParameterSource();
+        jdbc().update(this.queryService().getQuery("request.dailyStats.lock"), parameterSource);
+        jdbc().update(this.queryService().getQuery("request.dailyStats.clear"), parameterSource);
+        jdbc().update(this.queryService().getQuery("request.dailyStats.fill"), parameterSource);
+    }
+
     //-----------------------LIFECYCLE---------------------------
 
     @Override
@@ -603,21 +492,26 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
     public List<DeadlineDTO> getDeadlinesByAssignee(Long assigneeID) {
         String getDeadlinesByAssignee = this.queryService().getQuery("deadlines.getByAssignee");
         List<DeadlineDTO> managerDeadlines = new ArrayList<>();
+        List<LocalDate> starts = new ArrayList<>();
+        List<Integer> estimates = new ArrayList<>();
         try {
             val parameterSource = new MapSqlParameterSource();
             parameterSource.addValue("assignee_id", assigneeID);
-            return jdbc().query(getDeadlinesByAssignee,
-                    parameterSource, resultSet -> {
-                        while (resultSet.next()) {
-                            DeadlineDTO deadline = new DeadlineDTO();
-                            deadline.setId(resultSet.getLong("id"));
-                            deadline.setTitle(resultSet.getString("title"));
-                            deadline.setDeadline(getDeadline(resultSet.getDate("date").toLocalDate(),
-                                    resultSet.getByte("estimate")));
-                            managerDeadlines.add(deadline);
-                        }
-                        return managerDeadlines;
-                    });
+            parameterSource.addValue("in_progress", ProgressStatus.IN_PROGRESS.getId());
+            jdbc().query(getDeadlinesByAssignee, parameterSource, (RowCallbackHandler) resultSet -> {
+                DeadlineDTO deadline = new DeadlineDTO();
+                deadline.setId(resultSet.getLong("id"));
+                deadline.setTitle(resultSet.getString("title"));
+                starts.add(resultSet.getDate("date").toLocalDate());
+                estimates.add((int) resultSet.getByte("estimate"));
+                managerDeadlines.add(deadline);
+            });
+            LocalDate[] deadlines = businessCalendar.getDeadlines(starts.toArray(new LocalDate[starts.size()]),
+                    estimates.stream().mapToInt(Integer::intValue).toArray());
+            for (int i = 0; i < deadlines.length; i++) {
+                managerDeadlines.get(i).setDeadline(deadlines[i]);
+            }
+            return managerDeadlines;
         } catch (DataAccessException e) {
             e.printStackTrace();
             return null;
@@ -625,15 +519,27 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
     }
 
     @Override
-    public List<Request> searchRequests(String searchQuery) {
+    public List<Request> searchRequests(String searchQuery, Map<String, Object> parameters) {
         String findByStatusQuery = this.queryService().getQuery("request.select").concat(searchQuery);
         try {
-            return jdbc().query(findByStatusQuery, this.getMapper());
+            return jdbc().query(findByStatusQuery, new MapSqlParameterSource(parameters), this.getMapper());
         } catch (DataAccessException e) {
             return null;
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Request> consumer) {
+        String query = this.queryService().getQuery("request.select").concat(";");
+        RowMapper<Request> mapper = this.getMapper();
+        jdbc().getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(query);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(mapper.mapRow(resultSet, resultSet.getRow())));
+    }
+
     //-----------------------QUERY---------------------------
 
     @Override
@@ -726,4 +632,20 @@ public class RequestDaoImpl extends CrudDaoImpl<Request> implements RequestDao {
             return request;
         };
     }
+
+    /**
+     * Returns {@link RowMapper} for per day request counts, every row is a one day long {@link RequestDTO}.
+     *
+     * @return {@link RowMapper} for per day request counts.
+     */
+    private RowMapper<RequestDTO> getDailyCountMapper() {
+        return (resultSet, i) -> {
+            LocalDate day = resultSet.getDate("day").toLocalDate();
+            RequestDTO requestDTO = new RequestDTO();
+            requestDTO.setStartDateLimit(day);
+            requestDTO.setEndDateLimit(day.plusDays(1));
+            requestDTO.setCount(resultSet.getLong("count"));
+            return requestDTO;
+        };
+    }
 }
@@ -1,30 +1,55 @@
 package com.overseer.dao.impl;
 
+import com.overseer.caching.SimpleInMemoryCache;
+import com.overseer.caching.impl.SimpleInMemoryCacheImpl;
 import com.overseer.dao.RequestSubscribersDao;
 import com.overseer.model.User;
 import com.overseer.service.QueryService;
+import com.overseer.util.TransactionUtils;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * /**
  * <p>
  * Implementation of {@link RequestSubscribersDao} interface.
  * </p>
+ * Subscribers are read on every progress status change, while subscriptions change rarely,
+ * so subscriber lists are kept in a per-request cache which is evicted on every write,
+ * once immediately and once more after commit, so a list read before commit does not stay cached.
  */
 @Repository
 public class RequestSubscribersDaoImpl implements RequestSubscribersDao {
 
+    private static final long SUBSCRIBERS_CACHE_LIFE_TIME_SECONDS = 300;
+
+    private final SimpleInMemoryCache<Long, List<User>> subscribersCache =
+            new SimpleInMemoryCacheImpl<>(SUBSCRIBERS_CACHE_LIFE_TIME_SECONDS);
+
+    /**
+     * Incremented on every eviction, lets bulk load detect evictions which happened while it was loading.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
     @Autowired
     private QueryService queryService;
 
@@ -47,6 +72,7 @@ public class RequestSubscribersDaoImpl implements RequestSubscribersDao {
         String insertQuery = queryService.getQuery("request.subscribe");
         KeyHolder keyHolder = new GeneratedKeyHolder();
         this.jdbc.update(insertQuery, parameter, keyHolder, new String[]{"id"});
+        evict(requestId);
     }
 
     @Override
@@ -56,41 +82,112 @@ public class RequestSubscribersDaoImpl implements RequestSubscribersDao {
         val parameter = new MapSqlParameterSource("subscriberId", subscriberId);
         parameter.addValue("requestId", requestId);
         this.jdbc.update(deleteQuery, parameter);
+        evict(requestId);
     }
 
     @Override
     public List<User> getSubscribersOfRequest(Long requestId) {
+        // loading future is dropped by a concurrent eviction, so loaded list is never cached after it
+        return new ArrayList<>(subscribersCache.computeIfAbsent(requestId, () -> loadSubscribersOfRequest(requestId)));
+    }
+
+    @Override
+    public Map<Long, List<User>> getSubscribersOfRequests(Collection<Long> requestIds) {
+        Assert.notNull(requestIds, "request ids must not be null");
+        Map<Long, List<User>> result = new HashMap<>();
+        Set<Long> missedIds = new HashSet<>();
+        for (Long requestId : requestIds) {
+            List<User> subscribers = subscribersCache.getData(requestId);
+            if (subscribers == null) {
+                missedIds.add(requestId);
+            } else {
+                result.put(requestId, new ArrayList<>(subscribers));
+            }
+        }
+        if (!missedIds.isEmpty()) {
+            final long evictionsBeforeLoad = evictions.get();
+            Map<Long, List<User>> loaded = new HashMap<>();
+            missedIds.forEach(requestId -> loaded.put(requestId, new ArrayList<>()));
+            jdbc.query(queryService.getQuery("request.subscribersOfRequests"),
+                    new MapSqlParameterSource("requestIds", missedIds),
+                    (RowCallbackHandler) resultSet -> loaded.get(resultSet.getLong("request_id")).add(mapSubscriber(resultSet)));
+            loaded.forEach((requestId, subscribers) -> {
+                subscribersCache.put(requestId, subscribers);
+                result.put(requestId, new ArrayList<>(subscribers));
+            });
+            // lists loaded before an eviction may be stale, so they are dropped and reloaded on next read
+            if (evictions.get() != evictionsBeforeLoad) {
+                missedIds.forEach(subscribersCache::remove);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void unsubscribeAll(Long requestId) {
+        String deleteAllQuery = queryService.getQuery("request.unsubscribe.all");
+        this.jdbc.update(deleteAllQuery, new MapSqlParameterSource("requestId", requestId));
+        evict(requestId);
+    }
+
+    /**
+     * Evicts cached subscribers of the request now and once more after current transaction is committed,
+     * so that list loaded from state before commit is not kept.
+     *
+     * @param requestId request id.
+     */
+    private void evict(Long requestId) {
+        evictNow(requestId);
+        TransactionUtils.afterCommit(() -> evictNow(requestId));
+    }
+
+    /**
+     * Counts eviction before removing the entry, so bulk load which put its entry after removal sees it.
+     *
+     * @param requestId request id.
+     */
+    private void evictNow(Long requestId) {
+        evictions.incrementAndGet();
+        subscribersCache.remove(requestId);
+    }
+
+    /**
+     * Loads subscribers of the request from database bypassing the cache.
+     *
+     * @param requestId request id.
+     * @return list of subscribers, empty if request has no subscribers.
+     */
+    private List<User> loadSubscribersOfRequest(Long requestId) {
         try {
             return jdbc.queryForObject(queryService.getQuery("request.subscribers"),
                     new MapSqlParameterSource("requestId", requestId), getMapper());
         } catch (EmptyResultDataAccessException e) {
             return new ArrayList<>();
         }
-
     }
 
-    @Override
-    public void unsubscribeAll(Long requestId) {
-        String deleteAllQuery = queryService.getQuery("request.unsubscribe.all");
-        this.jdbc.update(deleteAllQuery, new MapSqlParameterSource("requestId", requestId));
+    /**
+     * Maps current row of the result set to subscriber.
+     *
+     * @param resultSet result set positioned on subscriber row.
+     * @return subscriber with id, names and email.
+     * @throws SQLException if column can not be read.
+     */
+    private User mapSubscriber(ResultSet resultSet) throws SQLException {
+        User user = new User();
+        user.setId(resultSet.getLong("subscriber_id"));
+        user.setFirstName(resultSet.getString("first_name"));
+        user.setLastName(resultSet.getString("last_name"));
+        user.setEmail(resultSet.getString("email"));
+        return user;
     }
 
     protected RowMapper<List<User>> getMapper() {
         return (resultSet, i) -> {
-            User firstUser = new User();
-            firstUser.setId(resultSet.getLong("subscriber_id"));
-            firstUser.setFirstName(resultSet.getString("first_name"));
-            firstUser.setLastName(resultSet.getString("last_name"));
-            firstUser.setEmail(resultSet.getString("email"));
             List<User> list = new ArrayList<>();
-            list.add(firstUser);
+            list.add(mapSubscriber(resultSet));
             while (resultSet.next()) {
-                User user = new User();
-                user.setId(resultSet.getLong("subscriber_id"));
-                user.setFirstName(resultSet.getString("first_name"));
-                user.setLastName(resultSet.getString("last_name"));
-                user.setEmail(resultSet.getString("email"));
-                list.add(user);
+                list.add(mapSubscriber(resultSet));
             }
             return list;
         };
@@ -1,9 +1,12 @@
 package com.overseer.dao.impl;
 
+import com.overseer.caching.SimpleInMemoryCache;
+import com.overseer.caching.impl.SimpleInMemoryCacheImpl;
 import com.overseer.dao.RoleDao;
 import com.overseer.model.Role;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
 
 /**
  * <p>
@@ -13,6 +16,45 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class RoleDaoImpl extends SimpleEntityDaoImpl<Role> implements RoleDao {
 
+    /**
+     * Role changed on another instance is seen here at most after this time. Ids of deleted roles
+     * are never reused, so until then such role fails on foreign key instead of linking another role.
+     */
+    private static final long ROLE_IDS_CACHE_LIFE_TIME_SECONDS = 60;
+
+    private final SimpleInMemoryCache<String, Long> roleIdsCache =
+            new SimpleInMemoryCacheImpl<>(ROLE_IDS_CACHE_LIFE_TIME_SECONDS);
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Long findIdByName(String name) {
+        Assert.notNull(name, "name must not be null");
+        Long id = roleIdsCache.computeIfAbsent(name, () -> {
+            Role role = findByName(name);
+            return role == null ? null : role.getId();
+        });
+        if (id == null) {
+            // unknown name is not cached, so role created meanwhile is found by the next call
+            roleIdsCache.remove(name);
+        }
+        return id;
+    }
+
+    @Override
+    public Role save(Role entity) {
+        Role savedRole = super.save(entity);
+        roleIdsCache.cleanup();
+        return savedRole;
+    }
+
+    @Override
+    public void delete(Long id) {
+        super.delete(id);
+        roleIdsCache.cleanup();
+    }
+
     @Override
     protected String getFindByNameQuery() {
         return this.queryService().getQuery("role.findByName");
@@ -0,0 +1,32 @@
+package com.overseer.dao.impl;
+
+import com.overseer.dao.TableStatisticsDao;
+import com.overseer.service.QueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+
+/**
+ * <p>
+ * Implementation of {@link TableStatisticsDao} interface based on <code>pg_class.reltuples</code>.
+ * </p>
+ */
+@Repository
+public class TableStatisticsDaoImpl implements TableStatisticsDao {
+
+    @Autowired
+    private QueryService queryService;
+
+    @Autowired
+    private NamedParameterJdbcOperations jdbc;
+
+    @Override
+    public long estimateRowCount(String table) {
+        Assert.hasText(table, "table must not be empty");
+        Long estimate = jdbc.queryForObject(queryService.getQuery("table.estimateRowCount"),
+                new MapSqlParameterSource("table", table), Long.class);
+        return estimate == null ? -1 : estimate;
+    }
+}
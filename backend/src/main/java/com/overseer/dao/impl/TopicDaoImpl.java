@@ -4,7 +4,6 @@ import static com.overseer.util.ValidationUtil.validate;
 
 import com.overseer.dao.RoleDao;
 import com.overseer.dao.TopicDao;
-import com.overseer.dto.TopicRolesNumberDTO;
 import com.overseer.model.Message;
 import com.overseer.model.Role;
 import com.overseer.model.Topic;
@@ -22,9 +21,12 @@ import org.springframework.util.Assert;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>
@@ -39,6 +41,7 @@ public class TopicDaoImpl extends CrudDaoImpl<Topic> implements TopicDao {
 
     /**
      * {@inheritDoc}.
+     * Only changed fields and role links are written, so saving unchanged topic does not write anything.
      */
     @Override
     public Topic save(Topic entity) {
@@ -46,43 +49,61 @@ public class TopicDaoImpl extends CrudDaoImpl<Topic> implements TopicDao {
         MapSqlParameterSource parameterSource = new MapSqlParameterSource();
         parameterSource.addValue("title", entity.getTitle());
         parameterSource.addValue("description", entity.getDescription());
-        String insertQuery = this.getInsertQuery();
+        Set<Long> existingRoleIds = new HashSet<>();
 
         // inserting topic in db
         if (entity.isNew()) {
             KeyHolder keyHolder = new GeneratedKeyHolder();
-            this.jdbc().update(insertQuery, parameterSource, keyHolder, new String[]{"id"});
+            this.jdbc().update(this.getInsertQuery(), parameterSource, keyHolder, new String[]{"id"});
             long generatedId = keyHolder.getKey().longValue();
             entity.setId(generatedId);
         } else {
-            this.jdbc().update(insertQuery, parameterSource);
-            parameterSource = new MapSqlParameterSource("topic_id", entity.getId());
-            this.jdbc().update(getDeleteAllByTopicIdQuery(), parameterSource);
-        }
-
-        // inserting roles as topic_to_role db table
-        List<Role> rolesOfEntity = entity.getRoles();
-        for (int i = 0; i < rolesOfEntity.size(); i++) {
-            Role currentRoleWithoutId = rolesOfEntity.get(i);
-            Role currentRoleWithId = roleDao.findByName(currentRoleWithoutId.getName());
-            currentRoleWithoutId.setId(currentRoleWithId.getId());
-            saveTopicRole(currentRoleWithId.getId(), entity.getId());
+            parameterSource.addValue("id", entity.getId());
+            this.jdbc().update(this.getUpdateQuery(), parameterSource);
+            existingRoleIds.addAll(this.jdbc().queryForList(getFindRoleIdsQuery(),
+                    new MapSqlParameterSource("topic_id", entity.getId()), Long.class));
         }
 
+        saveTopicRoles(entity, existingRoleIds);
         return entity;
     }
 
     /**
-     * This method save role for topic.
-     * @param roleId id of role.
-     * @param topicId id of topic.
+     * Brings topic_to_role links of topic in line with its roles: removed links are deleted with one statement,
+     * added links are inserted with one batch. Role ids are resolved from in-memory index of {@link RoleDao}.
+     *
+     * @param topic           saved topic.
+     * @param existingRoleIds ids of roles linked to topic in db.
      */
-    private void saveTopicRole(Long roleId, Long topicId) {
-        MapSqlParameterSource parameterSource = new MapSqlParameterSource();
-        parameterSource.addValue("role_id", roleId);
-        parameterSource.addValue("topic_id", topicId);
-        String insertQuery = this.getInsertQueryForRole();
-        this.jdbc().update(insertQuery, parameterSource);
+    private void saveTopicRoles(Topic topic, Set<Long> existingRoleIds) {
+        Set<Long> roleIds = new LinkedHashSet<>();
+        for (Role role : topic.getRoles()) {
+            Long roleId = roleDao.findIdByName(role.getName());
+            Assert.notNull(roleId, "role " + role.getName() + " does not exist");
+            role.setId(roleId);
+            roleIds.add(roleId);
+        }
+
+        List<Long> removedRoleIds = new ArrayList<>(existingRoleIds);
+        removedRoleIds.removeAll(roleIds);
+        if (!removedRoleIds.isEmpty()) {
+            MapSqlParameterSource parameterSource = new MapSqlParameterSource("topic_id", topic.getId());
+            parameterSource.addValue("role_ids", removedRoleIds);
+            this.jdbc().update(getDeleteRolesQuery(), parameterSource);
+        }
+
+        List<MapSqlParameterSource> addedLinks = new ArrayList<>();
+        for (Long roleId : roleIds) {
+            if (!existingRoleIds.contains(roleId)) {
+                MapSqlParameterSource parameterSource = new MapSqlParameterSource("role_id", roleId);
+                parameterSource.addValue("topic_id", topic.getId());
+                addedLinks.add(parameterSource);
+            }
+        }
+        if (!addedLinks.isEmpty()) {
+            this.jdbc().batchUpdate(getInsertQueryForRole(),
+                    addedLinks.toArray(new MapSqlParameterSource[addedLinks.size()]));
+        }
     }
 
     /**
@@ -103,53 +124,45 @@ public class TopicDaoImpl extends CrudDaoImpl<Topic> implements TopicDao {
 
     /**
      * {@inheritDoc}.
+     * Ids of the page are selected from topic table first, then roles are fetched only for those topics.
      */
     @Override
     public List<Topic> fetchPage(int pageSize, int pageNumber) {
         Assert.state(pageNumber > 0, "page number must be greater then 0");
         Assert.state(pageSize > 0, "page size must be greater then 0");
-        String findAllQuery = this.getFindAllQuery();
-        return this.jdbc().query(findAllQuery, getParameterSourceForFetchPage(pageSize, pageNumber), new TopicObjectsExtractor());
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource("limit", pageSize);
+        parameterSource.addValue("offset", pageSize * (pageNumber - 1));
+        List<Long> ids = this.jdbc().queryForList(this.getFindAllQuery(), parameterSource, Long.class);
+        return findByIds(ids);
     }
 
     /**
-     * Calculation of correct {@code offset} and {@code limit} parameters for {@link MapSqlParameterSource} object
-     * for topic.
-     * @param pageSize necessary number of elements ({@link Topic} objects) for one page.
-     * @param pageNumber number of viewing page.
-     * @return {@link MapSqlParameterSource} object with correct {@code offset} and {@code limit} parameters.
+     * {@inheritDoc}.
      */
-    private MapSqlParameterSource getParameterSourceForFetchPage(int pageSize, int pageNumber) {
-        List<TopicRolesNumberDTO> topicRolesNumber = jdbc().query(getFindRoleNumbersForEachTopicQuery(),
-                new MapSqlParameterSource(), getTopicRolesNumberMapper());
-
-        // calculation of index of first row in db for current page
-        int numberOfRowsInDbForPreviousPages = 0;
-        int numberOfTopicsOnPreviousPages = (pageNumber - 1) * pageSize;
-        for (int i = 0; i < numberOfTopicsOnPreviousPages; i++) {
-            numberOfRowsInDbForPreviousPages += topicRolesNumber.get(i).getRolesNumber();
-        }
-        int indexOfFirstRowInDbForCurrentPage = numberOfRowsInDbForPreviousPages;
-
-        // calculation of number of rows in db for current page
-        int numberOfRowsInDbForCurrentPage = 0;
-        int lastIndexOfTopicOnCurrentPage = (numberOfTopicsOnPreviousPages + pageSize) < topicRolesNumber.size() ? (numberOfTopicsOnPreviousPages + pageSize) : topicRolesNumber.size();
-        for (int i = numberOfTopicsOnPreviousPages; i < lastIndexOfTopicOnCurrentPage; i++) {
-            numberOfRowsInDbForCurrentPage += topicRolesNumber.get(i).getRolesNumber();
+    @Override
+    public List<Topic> fetchPageAfter(String afterTitle, int pageSize) {
+        Assert.state(pageSize > 0, "page size must be greater then 0");
+        if (afterTitle == null) {
+            return fetchPage(pageSize, 1);
         }
-
-        MapSqlParameterSource parameterSource = new MapSqlParameterSource("offset", indexOfFirstRowInDbForCurrentPage);
-        parameterSource.addValue("limit", numberOfRowsInDbForCurrentPage);
-        return parameterSource;
+        MapSqlParameterSource parameterSource = new MapSqlParameterSource("limit", pageSize);
+        parameterSource.addValue("after_title", afterTitle);
+        List<Long> ids = this.jdbc().queryForList(this.getFindPageIdsAfterTitleQuery(), parameterSource, Long.class);
+        return findByIds(ids);
     }
 
-    protected RowMapper<TopicRolesNumberDTO> getTopicRolesNumberMapper() {
-        return (resultSet, i) -> {
-            TopicRolesNumberDTO topicRolesNumberDTO = new TopicRolesNumberDTO();
-            topicRolesNumberDTO.setTopicId(resultSet.getLong("topic_id"));
-            topicRolesNumberDTO.setRolesNumber(resultSet.getInt("roles_number"));
-            return topicRolesNumberDTO;
-        };
+    /**
+     * Fetches topics with their roles.
+     *
+     * @param ids ids of topics.
+     * @return list of topics ordered by title.
+     */
+    private List<Topic> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return this.jdbc().query(this.getFindByIdsQuery(), new MapSqlParameterSource("ids", ids),
+                new TopicObjectsExtractor());
     }
 
     /**
@@ -199,8 +212,16 @@ public class TopicDaoImpl extends CrudDaoImpl<Topic> implements TopicDao {
         return this.queryService().getQuery("topic_to_role.insert");
     }
 
-    private String getDeleteAllByTopicIdQuery() {
-        return this.queryService().getQuery("topic_to_role.delete_all_by_topic_id");
+    private String getFindRoleIdsQuery() {
+        return this.queryService().getQuery("topic_to_role.findRoleIds");
+    }
+
+    private String getDeleteRolesQuery() {
+        return this.queryService().getQuery("topic_to_role.delete_roles");
+    }
+
+    private String getUpdateQuery() {
+        return this.queryService().getQuery("topic.update");
     }
 
     private String getFindUserTopicsQuery() {
@@ -215,8 +236,12 @@ public class TopicDaoImpl extends CrudDaoImpl<Topic> implements TopicDao {
         return this.queryService().getQuery("topic.exists_by_title");
     }
 
-    private String getFindRoleNumbersForEachTopicQuery() {
-        return this.queryService().getQuery("topic.findRoleNumbersForEachTopic");
+    private String getFindPageIdsAfterTitleQuery() {
+        return this.queryService().getQuery("topic.findPageIdsAfterTitle");
+    }
+
+    private String getFindByIdsQuery() {
+        return this.queryService().getQuery("topic.findByIds");
     }
 
     @Override
@@ -241,11 +266,7 @@ public class TopicDaoImpl extends CrudDaoImpl<Topic> implements TopicDao {
 
     @Override
     protected String getFindAllQuery() {
-        return this.queryService().getQuery("topic.findAll") + getFetchPageQuery();
-    }
-
-    private String getFetchPageQuery() {
-        return this.queryService().getQuery("topic.fetchPage");
+        return this.queryService().getQuery("topic.findPageIds");
     }
 
     @Override
@@ -266,7 +287,7 @@ public class TopicDaoImpl extends CrudDaoImpl<Topic> implements TopicDao {
     private class TopicObjectsExtractor implements ResultSetExtractor<List<Topic>> {
         @Override
         public List<Topic> extractData(ResultSet resultSet) throws SQLException, DataAccessException {
-            Map<Long, Topic> map = new HashMap<>();
+            Map<Long, Topic> map = new LinkedHashMap<>();
 
             while (resultSet.next()) {
                 Long id = resultSet.getLong("topic_id");
@@ -13,6 +13,7 @@ import org.springframework.util.Assert;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -215,10 +216,10 @@ public class UserDaoImpl extends CrudDaoImpl<User> implements UserDao {
     }
 
     @Override
-    public List<User> searchRequests(String searchQuery) {
+    public List<User> searchRequests(String searchQuery, Map<String, Object> parameters) {
         String query = this.queryService().getQuery("user.search").concat(searchQuery);
         try {
-            return jdbc().query(query, this.getMapper());
+            return jdbc().query(query, new MapSqlParameterSource(parameters), this.getMapper());
         } catch (DataAccessException e) {
             return null;
         }
@@ -0,0 +1,14 @@
+package com.overseer.dto;
+
+import lombok.Value;
+
+/**
+ * Snapshot of admin dashboard counters pushed to admins when it changes.
+ */
+@Value
+public class DashboardCountersDTO {
+    private long totalRequests;
+    private long totalUsers;
+    private long requestsCreatedToday;
+    private long requestsRunningToday;
+}
@@ -0,0 +1,18 @@
+package com.overseer.dto;
+
+import lombok.Value;
+
+/**
+ * Request statistic for admin dashboard for the chosen period.
+ */
+@Value
+public class DashboardStatsDTO {
+    private long free;
+    private long joined;
+    private long inProgress;
+    private long closed;
+    private long notClosed;
+    private long highPriority;
+    private long normalPriority;
+    private long lowPriority;
+}
@@ -0,0 +1,15 @@
+package com.overseer.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Page of history messages of an entity, newest first.
+ * Next page is requested with {@link #nextCursor}, which is {@literal null} on the last page.
+ */
+@Value
+public class HistoryPageDTO {
+    private List<HistoryMessageDTO> records;
+    private String nextCursor;
+}
@@ -0,0 +1,18 @@
+package com.overseer.dto;
+
+import com.overseer.model.Message;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Page of dialog messages in chronological order.
+ * Older messages are requested with {@link #olderCursor}, which is {@literal null} when there are no older ones.
+ * Newer messages are requested with {@link #newerCursor}, which points to the newest message of the page.
+ */
+@Value
+public class MessagePageDTO {
+    private List<Message> messages;
+    private String olderCursor;
+    private String newerCursor;
+}
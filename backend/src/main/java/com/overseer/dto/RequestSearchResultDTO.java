@@ -0,0 +1,15 @@
+package com.overseer.dto;
+
+import com.overseer.model.Request;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One page of full-text request search results together with the total number of matching requests.
+ */
+@Value
+public class RequestSearchResultDTO {
+    private List<Request> requests;
+    private long totalHits;
+}
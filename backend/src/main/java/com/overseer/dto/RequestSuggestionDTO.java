@@ -0,0 +1,12 @@
+package com.overseer.dto;
+
+import lombok.Value;
+
+/**
+ * Request found by type-ahead search.
+ */
+@Value
+public class RequestSuggestionDTO {
+    private Long id;
+    private String title;
+}
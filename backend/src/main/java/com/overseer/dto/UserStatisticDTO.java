@@ -0,0 +1,16 @@
+package com.overseer.dto;
+
+import lombok.Value;
+
+/**
+ * Request statistic for user profile: requests of the user by progress status
+ * and open and closed requests created during the chosen period.
+ */
+@Value
+public class UserStatisticDTO {
+    private long free;
+    private long joined;
+    private long inProgress;
+    private long openInPeriod;
+    private long closedInPeriod;
+}
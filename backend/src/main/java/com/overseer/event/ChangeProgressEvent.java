@@ -4,6 +4,9 @@ import com.overseer.model.Request;
 import com.overseer.model.enums.ProgressStatus;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Custom ApplicationEvent which appears when ProgressStatus of Request is changed.
  */
@@ -11,6 +14,7 @@ public class ChangeProgressEvent extends ApplicationEvent {
     private Request request;
     private ProgressStatus progressStatus;
     private boolean isHandled;
+    private List<Request> changedJoinedRequests = new ArrayList<>();
 
     public ChangeProgressEvent(Object source, Request request, ProgressStatus progressStatus) {
         super(source);
@@ -33,4 +37,17 @@ public class ChangeProgressEvent extends ApplicationEvent {
     public void setIsHandled(boolean isHandled) {
         this.isHandled = isHandled;
     }
+
+    /**
+     * Returns joined requests whose progress status was changed together with the request, e.g. closed with parent.
+     *
+     * @return joined requests changed by handling of the event
+     */
+    public List<Request> getChangedJoinedRequests() {
+        return changedJoinedRequests;
+    }
+
+    public void addChangedJoinedRequest(Request joinedRequest) {
+        changedJoinedRequests.add(joinedRequest);
+    }
 }
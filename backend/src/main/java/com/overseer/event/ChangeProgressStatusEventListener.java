@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Listener for ChangeProgressStatusEvent.
@@ -74,9 +75,14 @@ public class ChangeProgressStatusEventListener {
                 requestDao.deleteParentRequestIfItHasNoChildren(parentRequestId);
             }
         } else {
+            // load subscribers of all joined requests at once, notifications below are served from cache
+            requestSubscribeService.getSubscribersOfRequests(joinedRequests.stream()
+                    .map(Request::getId)
+                    .collect(Collectors.toList()));
             for (Request joinedRequest : joinedRequests) {
                 joinedRequest.setParentId(null);
                 changeStatusAndSave(joinedRequest, changeProgressEvent.getProgressStatus());
+                changeProgressEvent.addChangedJoinedRequest(joinedRequest);
             }
             List<Request> subRequests = requestDao.findSubRequests(request);
             subRequests.forEach(requestDao::delete);
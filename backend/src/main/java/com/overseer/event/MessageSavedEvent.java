@@ -0,0 +1,20 @@
+package com.overseer.event;
+
+import com.overseer.model.Message;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Custom ApplicationEvent which appears when new private or topic message is saved.
+ */
+public class MessageSavedEvent extends ApplicationEvent {
+    private Message message;
+
+    public MessageSavedEvent(Object source, Message message) {
+        super(source);
+        this.message = message;
+    }
+
+    public Message getMessage() {
+        return message;
+    }
+}
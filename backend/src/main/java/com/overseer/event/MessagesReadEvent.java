@@ -0,0 +1,27 @@
+package com.overseer.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.List;
+
+/**
+ * Custom ApplicationEvent which appears when recipient acknowledges private messages as read.
+ */
+public class MessagesReadEvent extends ApplicationEvent {
+    private Long recipientId;
+    private List<Long> messageIds;
+
+    public MessagesReadEvent(Object source, Long recipientId, List<Long> messageIds) {
+        super(source);
+        this.recipientId = recipientId;
+        this.messageIds = messageIds;
+    }
+
+    public Long getRecipientId() {
+        return recipientId;
+    }
+
+    public List<Long> getMessageIds() {
+        return messageIds;
+    }
+}
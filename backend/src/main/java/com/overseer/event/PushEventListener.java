@@ -0,0 +1,120 @@
+package com.overseer.event;
+
+import com.overseer.dto.DashboardCountersDTO;
+import com.overseer.model.Message;
+import com.overseer.model.Request;
+import com.overseer.service.DashboardCounterService;
+import com.overseer.service.PushService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes changes of requests and messages to connected clients once they are committed.
+ */
+@Component
+public class PushEventListener {
+    public static final String DASHBOARD_EVENT = "dashboard";
+    public static final String DEADLINES_EVENT = "deadlines";
+    public static final String MESSAGE_EVENT = "message";
+    public static final String TOPIC_MESSAGE_EVENT = "topicMessage";
+    public static final String MESSAGES_READ_EVENT = "messagesRead";
+    public static final String MESSAGES_DELETED_EVENT = "messagesDeleted";
+
+    @Autowired
+    private PushService pushService;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    private final AtomicReference<DashboardCountersDTO> lastDashboardCounters = new AtomicReference<>();
+
+    /**
+     * Notifies assignee that deadlines changed and admins that dashboard changed.
+     *
+     * @param changeProgressEvent event of changing progress status
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ChangeProgressEvent changeProgressEvent) {
+        if (!changeProgressEvent.isHandled()) {
+            return;
+        }
+        Request request = changeProgressEvent.getRequest();
+        if (request.getAssignee() != null && request.getAssignee().getId() != null) {
+            pushService.pushToUser(request.getAssignee().getId(), DEADLINES_EVENT, Collections.singletonMap("requestId", request.getId()));
+        }
+        pushDashboardIfChanged();
+    }
+
+    /**
+     * Notifies admins that dashboard changed after requests were joined.
+     *
+     * @param joinRequestEvent event of joining requests
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestsJoined(JoinRequestEvent joinRequestEvent) {
+        pushDashboardIfChanged();
+    }
+
+    /**
+     * Delivers saved message: private message to its recipient, topic message to subscribers of the topic.
+     * Message is pushed with its text, so that clients do not load it again.
+     *
+     * @param messageSavedEvent event of saving message
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageSaved(MessageSavedEvent messageSavedEvent) {
+        Message message = messageSavedEvent.getMessage();
+        if (message.getTopic() != null && message.getTopic().getId() != null) {
+            pushService.pushToTopic(message.getTopic().getId(), TOPIC_MESSAGE_EVENT, message);
+            return;
+        }
+        if (message.getRecipient() == null || message.getRecipient().getId() == null || message.isRead()) {
+            return;
+        }
+        pushService.pushToUser(message.getRecipient().getId(), MESSAGE_EVENT, message);
+    }
+
+    /**
+     * Notifies every connection of recipient which messages were read, so that all tabs drop them from unread.
+     *
+     * @param messagesReadEvent event of reading messages
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessagesRead(MessagesReadEvent messagesReadEvent) {
+        pushService.pushToUser(messagesReadEvent.getRecipientId(), MESSAGES_READ_EVENT,
+                messagesReadEvent.getMessageIds());
+    }
+
+    /**
+     * Tells recipient which of its unread messages were deleted.
+     *
+     * @param messagesDeletedEvent event of deleting unread messages
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessagesDeleted(MessagesDeletedEvent messagesDeletedEvent) {
+        pushService.pushToUser(messagesDeletedEvent.getRecipientId(), MESSAGES_DELETED_EVENT,
+                messagesDeletedEvent.getMessageIds());
+    }
+
+    /**
+     * Pushes dashboard counters to admins if they changed since last push.
+     * Counters are in memory, so the check does not touch database.
+     */
+    @Scheduled(fixedDelayString = "${push.dashboard.check.millis}")
+    public void pushDashboardIfChanged() {
+        DashboardCountersDTO counters = new DashboardCountersDTO(
+                dashboardCounterService.getTotalRequests(),
+                dashboardCounterService.getTotalUsers(),
+                dashboardCounterService.getRequestsCreatedToday(),
+                dashboardCounterService.getRequestsRunningToday());
+        DashboardCountersDTO previous = lastDashboardCounters.getAndSet(counters);
+        if (!counters.equals(previous)) {
+            pushService.pushToAdmins(DASHBOARD_EVENT, counters);
+        }
+    }
+}
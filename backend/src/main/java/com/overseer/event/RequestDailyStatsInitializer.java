@@ -0,0 +1,38 @@
+package com.overseer.event;
+
+import com.overseer.dao.RequestDao;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fills request_daily_stats rollup on startup if it was just created over existing requests.
+ * Afterwards rollup is kept up to date by trigger on the request table.
+ */
+@Slf4j
+@Component
+public class RequestDailyStatsInitializer {
+    @Autowired
+    private RequestDao requestDao;
+
+    /**
+     * Backfills request daily statistics when rollup is empty but requests exist.
+     * Failure is only logged, so that application still starts with empty dashboards.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDailyStatistics() {
+        try {
+            if (requestDao.isDailyStatisticsBackfillNeeded()) {
+                log.info("Request daily statistics are empty, rebuilding from request table");
+                requestDao.rebuildDailyStatistics();
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to backfill request daily statistics", e);
+        }
+    }
+}
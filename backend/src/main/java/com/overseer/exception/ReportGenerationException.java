@@ -0,0 +1,17 @@
+package com.overseer.exception;
+
+/**
+ * Exception for situation when pdf report could not be generated.
+ */
+public class ReportGenerationException extends RuntimeException {
+
+    /**
+     * Constructs a new exception with the specified detail message and cause.
+     *
+     * @param message the detail message.
+     * @param cause   the cause of report failure.
+     */
+    public ReportGenerationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,240 @@
+package com.overseer.search;
+
+import com.overseer.dto.RequestSuggestionDTO;
+import com.overseer.model.Request;
+import com.overseer.model.User;
+import lombok.AllArgsConstructor;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * In-memory inverted index of requests: words of title, description, reporter and assignee names
+ * mapped to {@link PostingList} of request ids. Every word of a query is matched as a word prefix.
+ * All requests are indexed, but only top level ones are found, so that joined requests
+ * become searchable as soon as they are detached from parent.
+ */
+public class InvertedIndex {
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<Long, IndexedRequest> requests = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds request to the index or replaces its previous version.
+     *
+     * @param request request with reporter and assignee names
+     */
+    public void put(Request request) {
+        Assert.notNull(request.getId(), "id of request must not be null");
+        Set<String> words = Tokenizer.tokenize(request.getTitle(), request.getDescription(),
+                firstName(request.getReporter()), lastName(request.getReporter()),
+                firstName(request.getAssignee()), lastName(request.getAssignee()));
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(request.getId());
+            words.forEach(word -> postings.computeIfAbsent(word, w -> new PostingList()).add(request.getId()));
+            requests.put(request.getId(), new IndexedRequest(request.getTitle(), request.getParentId(), words));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes request from the index.
+     *
+     * @param id request id
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns ids of indexed requests joined into given parent or created as its sub requests.
+     *
+     * @param parentId id of parent request
+     * @return ids of child requests
+     */
+    public List<Long> childrenOf(Long parentId) {
+        lock.readLock().lock();
+        try {
+            return requests.entrySet().stream()
+                    .filter(entry -> parentId.equals(entry.getValue().parentId))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds top level requests containing every word of the text as a word prefix, newest first.
+     *
+     * @param text  searched text
+     * @param limit maximum number of found requests
+     * @return found requests
+     */
+    public List<RequestSuggestionDTO> search(String text, int limit) {
+        Set<String> words = Tokenizer.tokenize(text);
+        if (words.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            long[] found = null;
+            for (String word : words) {
+                long[] matching = matchPrefix(word);
+                found = found == null ? matching : intersect(found, matching);
+                if (found.length == 0) {
+                    return Collections.emptyList();
+                }
+            }
+            List<RequestSuggestionDTO> suggestions = new ArrayList<>();
+            for (int i = found.length - 1; i >= 0 && suggestions.size() < limit; i--) {
+                IndexedRequest request = requests.get(found[i]);
+                if (request.parentId == null) {
+                    suggestions.add(new RequestSuggestionDTO(found[i], request.title));
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of indexed requests.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return requests.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of distinct indexed words.
+     */
+    public int wordCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes request from postings of its words, must be called under write lock.
+     *
+     * @param id request id
+     */
+    private void removeUnlocked(Long id) {
+        IndexedRequest previous = requests.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous.words) {
+            PostingList postingList = postings.get(word);
+            if (postingList != null) {
+                postingList.remove(id);
+                if (postingList.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects ids of requests containing words which start with given prefix.
+     *
+     * @param prefix word prefix
+     * @return sorted distinct request ids
+     */
+    private long[] matchPrefix(String prefix) {
+        Collection<PostingList> matching = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        if (matching.size() == 1) {
+            return matching.iterator().next().toArray();
+        }
+        return matching.stream()
+                .flatMapToLong(postingList -> LongStream.of(postingList.toArray()))
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Intersects two sorted id arrays.
+     *
+     * @param first  sorted ids
+     * @param second sorted ids
+     * @return sorted ids contained in both arrays
+     */
+    private long[] intersect(long[] first, long[] second) {
+        long[] result = new long[Math.min(first.length, second.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns first name of user.
+     *
+     * @param user reporter or assignee, may be <code>null</code>
+     * @return first name or <code>null</code>
+     */
+    private String firstName(User user) {
+        return user == null ? null : user.getFirstName();
+    }
+
+    /**
+     * Returns last name of user.
+     *
+     * @param user reporter or assignee, may be <code>null</code>
+     * @return last name or <code>null</code>
+     */
+    private String lastName(User user) {
+        return user == null ? null : user.getLastName();
+    }
+
+    /**
+     * Indexed data of a request.
+     */
+    @AllArgsConstructor
+    private static class IndexedRequest {
+        private final String title;
+        private final Long parentId;
+        private final Set<String> words;
+    }
+}
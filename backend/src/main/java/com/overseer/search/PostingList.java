@@ -0,0 +1,138 @@
+package com.overseer.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted set of request ids stored as variable length encoded gaps between neighbouring ids.
+ * Ids come from a sequence, so new ids are appended and most gaps take one or two bytes.
+ * Not thread safe, access is guarded by {@link InvertedIndex}.
+ */
+public class PostingList {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int VALUE_BITS = 7;
+    private static final int VALUE_MASK = 0x7F;
+    private static final int CONTINUATION_BIT = 0x80;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int size;
+    private long last;
+
+    /**
+     * Adds id to the list.
+     *
+     * @param id request id
+     */
+    public void add(long id) {
+        if (size == 0 || id > last) {
+            append(id);
+            return;
+        }
+        long[] ids = toArray();
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return;
+        }
+        int insertion = -position - 1;
+        long[] extended = new long[ids.length + 1];
+        System.arraycopy(ids, 0, extended, 0, insertion);
+        extended[insertion] = id;
+        System.arraycopy(ids, insertion, extended, insertion + 1, ids.length - insertion);
+        encode(extended);
+    }
+
+    /**
+     * Removes id from the list.
+     *
+     * @param id request id
+     */
+    public void remove(long id) {
+        if (size == 0 || id > last) {
+            return;
+        }
+        long[] ids = toArray();
+        if (Arrays.binarySearch(ids, id) >= 0) {
+            encode(Arrays.stream(ids).filter(value -> value != id).toArray());
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return ids in ascending order.
+     */
+    public long[] toArray() {
+        long[] ids = new long[size];
+        long previous = 0;
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            long gap = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = data[offset++];
+                gap |= (long) (current & VALUE_MASK) << shift;
+                shift += VALUE_BITS;
+            } while ((current & CONTINUATION_BIT) != 0);
+            previous += gap;
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    /**
+     * @return number of bytes used by encoded ids.
+     */
+    public int encodedLength() {
+        return length;
+    }
+
+    /**
+     * Replaces content of the list with given sorted ids.
+     *
+     * @param ids ids in ascending order
+     */
+    private void encode(long[] ids) {
+        data = new byte[Math.max(INITIAL_CAPACITY, ids.length * 2)];
+        length = 0;
+        size = 0;
+        last = 0;
+        for (long id : ids) {
+            append(id);
+        }
+    }
+
+    /**
+     * Appends id which is greater than any id of the list.
+     *
+     * @param id request id
+     */
+    private void append(long id) {
+        long gap = id - last;
+        ensureCapacity(length + Long.BYTES + 2);
+        while (gap >= CONTINUATION_BIT) {
+            data[length++] = (byte) (gap & VALUE_MASK | CONTINUATION_BIT);
+            gap >>>= VALUE_BITS;
+        }
+        data[length++] = (byte) gap;
+        last = id;
+        size++;
+    }
+
+    /**
+     * Grows buffer of encoded ids.
+     *
+     * @param capacity required capacity
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > data.length) {
+            data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.overseer.search;
+
+import com.overseer.dto.RequestSuggestionDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Type-ahead request search served from in-memory {@link InvertedIndex}, without database queries.
+ */
+public interface RequestSearchService {
+
+    /**
+     * Finds top level requests containing every word of the text as a word prefix, newest first.
+     *
+     * @param text  searched text
+     * @param limit maximum number of found requests
+     * @return found requests
+     */
+    List<RequestSuggestionDTO> suggest(String text, int limit);
+
+    /**
+     * Reloads given requests and their child requests into the index once current transaction is committed.
+     * Requests which no longer exist are removed from the index.
+     *
+     * @param requestIds ids of changed, created or deleted requests
+     */
+    void reindex(Collection<Long> requestIds);
+
+    /**
+     * Rebuilds the index from all requests in background.
+     */
+    void rebuild();
+}
@@ -0,0 +1,28 @@
+package com.overseer.search;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Splits text into lower case words made of letters and digits.
+ */
+public class Tokenizer {
+    private static final String NON_WORD_CHARACTERS = "[^\\p{L}\\p{N}]+";
+
+    /**
+     * Tokenizes text.
+     *
+     * @param texts texts, <code>null</code> values are skipped
+     * @return distinct words in order of appearance
+     */
+    public static Set<String> tokenize(String... texts) {
+        return Arrays.stream(texts)
+                .filter(text -> text != null)
+                .flatMap(text -> Arrays.stream(text.toLowerCase(Locale.ROOT).split(NON_WORD_CHARACTERS)))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,141 @@
+package com.overseer.search.impl;
+
+import com.overseer.dao.RequestDao;
+import com.overseer.dto.RequestSuggestionDTO;
+import com.overseer.event.ChangeProgressEvent;
+import com.overseer.event.JoinRequestEvent;
+import com.overseer.model.Request;
+import com.overseer.search.InvertedIndex;
+import com.overseer.search.RequestSearchService;
+import com.overseer.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Implementation of {@link RequestSearchService} interface.
+ * Index is built by streaming all requests on startup and periodically, which also picks up renamed users,
+ * and is updated in between from request save and delete paths and request lifecycle events.
+ */
+@Slf4j
+@Service
+@PropertySource("classpath:resources.properties")
+public class RequestSearchServiceImpl implements RequestSearchService {
+
+    private final RequestDao requestDao;
+    private final ExecutorService searchIndexExecutor;
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    @Autowired
+    public RequestSearchServiceImpl(RequestDao requestDao,
+                                    @Qualifier("searchIndexExecutor") ExecutorService searchIndexExecutor) {
+        this.requestDao = requestDao;
+        this.searchIndexExecutor = searchIndexExecutor;
+    }
+
+    @Override
+    public List<RequestSuggestionDTO> suggest(String text, int limit) {
+        return index.search(text, limit);
+    }
+
+    @Override
+    public void reindex(Collection<Long> requestIds) {
+        List<Long> ids = new ArrayList<>(requestIds);
+        TransactionUtils.afterCommit(() -> searchIndexExecutor.execute(() -> reload(ids)));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.index.rebuild.millis}", fixedDelayString = "${search.index.rebuild.millis}")
+    public void rebuild() {
+        searchIndexExecutor.execute(this::build);
+    }
+
+    /**
+     * Reindexes request which progress status was changed. Closing a parent request detaches its joined requests,
+     * so they are reloaded as well.
+     *
+     * @param changeProgressEvent event of changing progress status
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ChangeProgressEvent changeProgressEvent) {
+        Long requestId = changeProgressEvent.getRequest().getId();
+        if (changeProgressEvent.isHandled() && requestId != null) {
+            searchIndexExecutor.execute(() -> reload(Collections.singletonList(requestId)));
+        }
+    }
+
+    /**
+     * Indexes created parent request and hides requests joined into it.
+     *
+     * @param joinRequestEvent event of joining requests
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestsJoined(JoinRequestEvent joinRequestEvent) {
+        List<Long> ids = new ArrayList<>();
+        if (joinRequestEvent.getParentRequest().getId() != null) {
+            ids.add(joinRequestEvent.getParentRequest().getId());
+        }
+        joinRequestEvent.getJoinedRequests().forEach(request -> ids.add(request.getId()));
+        searchIndexExecutor.execute(() -> reload(ids));
+    }
+
+    /**
+     * Builds new index from all requests and replaces current one with it.
+     * Updates queued while building are applied to the new index afterwards.
+     */
+    private void build() {
+        long start = System.currentTimeMillis();
+        InvertedIndex builtIndex = new InvertedIndex();
+        try {
+            requestDao.streamAll(builtIndex::put);
+        } catch (DataAccessException e) {
+            log.error("Failed to build request search index", e);
+            return;
+        }
+        index = builtIndex;
+        log.info("Built request search index of {} requests and {} words in {} ms",
+                builtIndex.size(), builtIndex.wordCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reloads requests and their children from database into the index.
+     *
+     * @param requestIds ids of requests
+     */
+    private void reload(List<Long> requestIds) {
+        InvertedIndex currentIndex = index;
+        Set<Long> ids = new LinkedHashSet<>();
+        requestIds.forEach(id -> {
+            ids.add(id);
+            ids.addAll(currentIndex.childrenOf(id));
+        });
+        try {
+            for (Long id : ids) {
+                Request request = requestDao.findOne(id);
+                if (request == null) {
+                    currentIndex.remove(id);
+                } else {
+                    currentIndex.put(request);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to update request search index", e);
+        }
+    }
+}
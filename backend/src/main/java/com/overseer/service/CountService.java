@@ -0,0 +1,54 @@
+package com.overseer.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Keeps counts shown by paged lists in memory, so that rendering a page does not scan the table.
+ * Counts are loaded once, adjusted by services on create, delete and progress status change,
+ * and reloaded after invalidation or periodically.
+ */
+public interface CountService {
+    String REQUESTS = "request.count";
+    String FREE_REQUESTS = "request.countFree";
+    String REQUESTS_BY_ASSIGNEE = "request.countByAssignee.";
+    String REQUEST_PREFIX = "request.";
+    String USERS = "user.count";
+    String TOPICS = "topic.count";
+
+    /**
+     * Returns exact count, loading it with given counter if it is not in memory yet.
+     *
+     * @param key          key of the count.
+     * @param exactCounter loads exact count from database.
+     * @return exact count.
+     */
+    long count(String key, Supplier<Long> exactCounter);
+
+    /**
+     * Returns count of rows of the table estimated by database planner if approximate mode is enabled
+     * and the table is larger than configured threshold, otherwise exact count.
+     * Estimate covers all rows of the table, so it fits only counts without filter.
+     *
+     * @param key          key of the count.
+     * @param table        table the count is based on.
+     * @param exactCounter loads exact count from database.
+     * @return estimated or exact count.
+     */
+    long approximateCount(String key, String table, Supplier<Long> exactCounter);
+
+    /**
+     * Adjusts loaded count once current transaction is committed. Count which is not loaded is left as is.
+     *
+     * @param key   key of the count.
+     * @param delta value to add.
+     */
+    void adjust(String key, long delta);
+
+    /**
+     * Drops all counts with given key prefix once current transaction is committed,
+     * they are reloaded on next read.
+     *
+     * @param keyPrefix prefix of keys.
+     */
+    void invalidate(String keyPrefix);
+}
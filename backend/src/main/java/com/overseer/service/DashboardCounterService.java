@@ -0,0 +1,57 @@
+package com.overseer.service;
+
+import com.overseer.model.Request;
+
+/**
+ * Keeps in memory counters shown on admin dashboard, so that polling them does not hit database.
+ */
+public interface DashboardCounterService {
+
+    /**
+     * @return number of all requests.
+     */
+    long getTotalRequests();
+
+    /**
+     * @return number of active users.
+     */
+    long getTotalUsers();
+
+    /**
+     * @return number of requests created today.
+     */
+    long getRequestsCreatedToday();
+
+    /**
+     * @return number of today's requests which are neither free nor closed.
+     */
+    long getRequestsRunningToday();
+
+    /**
+     * Counts newly created request once current transaction is committed.
+     *
+     * @param request created request.
+     */
+    void requestCreated(Request request);
+
+    /**
+     * Counts newly created or activated user once current transaction is committed.
+     */
+    void userCreated();
+
+    /**
+     * Uncounts deleted user once current transaction is committed.
+     */
+    void userDeleted();
+
+    /**
+     * Marks counters as outdated after change which can not be counted precisely,
+     * e.g. cascade deletion. Counters are reloaded from database shortly after.
+     */
+    void markStale();
+
+    /**
+     * Reloads all counters from database.
+     */
+    void reconcile();
+}
@@ -1,6 +1,7 @@
 package com.overseer.service;
 
 import com.overseer.dto.HistoryMessageDTO;
+import com.overseer.dto.HistoryPageDTO;
 import com.overseer.model.History;
 
 import java.util.List;
@@ -29,6 +30,18 @@ public interface HistoryService {
      */
     List<HistoryMessageDTO> getHistoryMessageDTOs(Long entityId, int maxNumberOfCharsInText);
 
+    /**
+     * Method returns a page of {@link HistoryMessageDTO} entities of transferred entity, newest first.
+     * Messages are built only for records of the page.
+     *
+     * @param entityId id of entity for which we need to get history of changes, must not be {@literal null}.
+     * @param cursor {@link HistoryPageDTO#getNextCursor()} of previous page, {@literal null} for the first page.
+     * @param pageSize max number of records in the page.
+     * @param maxNumberOfCharsInText max number of chars in long String values, if we need to use trimming of text.
+     * @return page of {@link HistoryMessageDTO} entities.
+     */
+    HistoryPageDTO getHistoryPage(Long entityId, String cursor, int pageSize, int maxNumberOfCharsInText);
+
     /**
      * Method create {@link HistoryMessageDTO} object and fill its messages.
      *
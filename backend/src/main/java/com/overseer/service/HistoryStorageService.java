@@ -0,0 +1,23 @@
+package com.overseer.service;
+
+/**
+ * Maintains history storage: creates monthly partitions of history table ahead of time
+ * and moves old history of closed requests into history archive.
+ */
+public interface HistoryStorageService {
+
+    /**
+     * Creates partitions of history table for the current and the next months.
+     *
+     * @return number of created partitions.
+     */
+    int preparePartitions();
+
+    /**
+     * Moves history of closed requests older than the archive age into history archive.
+     * Does nothing if archive age is not configured.
+     *
+     * @return number of requests whose history was moved.
+     */
+    int archiveClosedRequestsHistory();
+}
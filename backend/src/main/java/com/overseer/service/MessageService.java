@@ -1,5 +1,6 @@
 package com.overseer.service;
 
+import com.overseer.dto.MessagePageDTO;
 import com.overseer.model.Message;
 
 import java.util.List;
@@ -12,7 +13,17 @@ public interface MessageService extends CrudService<Message, Long> {
 
     List<Message> findByTopic(Long topicId);
 
-    List<Message> findDialogMessages(Long senderId, Long recipientId);
+    /**
+     * Returns page of decrypted messages between two users. Without cursors the newest messages are returned.
+     *
+     * @param senderId    id of one of the users.
+     * @param recipientId id of another user.
+     * @param before      cursor of older messages from previous page, may be {@literal null}.
+     * @param after       cursor of newer messages from previous page, may be {@literal null}.
+     * @param pageSize    max number of messages.
+     * @return page of messages in chronological order.
+     */
+    MessagePageDTO findDialogMessages(Long senderId, Long recipientId, String before, String after, int pageSize);
 
     /**
      * @param openMessage going to be encrypt.
@@ -29,5 +40,25 @@ public interface MessageService extends CrudService<Message, Long> {
      */
     Message decryptMessage(Message encryptedMessage);
 
-    List<Message> findUnreadMessages(Long recipientId);
+    /**
+     * @param recipientId id of recipient.
+     * @param limit       max number of messages.
+     * @return newest decrypted unread private messages of the recipient.
+     */
+    List<Message> findUnreadMessages(Long recipientId, int limit);
+
+    /**
+     * @param recipientId id of recipient.
+     * @return number of unread private messages of the recipient.
+     */
+    long countUnreadMessages(Long recipientId);
+
+    /**
+     * Acknowledges delivery of private messages to the recipient, marking them as read.
+     *
+     * @param recipientId id of recipient.
+     * @param messageIds  ids of delivered messages.
+     * @return ids of messages which were unread before.
+     */
+    List<Long> markRead(Long recipientId, List<Long> messageIds);
 }
@@ -0,0 +1,71 @@
+package com.overseer.service;
+
+import com.overseer.model.User;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Keeps open server-sent events connections and pushes events to them,
+ * so clients do not have to poll for changes.
+ */
+public interface PushService {
+
+    /**
+     * Opens new connection for the user. First event of connection is {@code connected}
+     * with id of the connection, which is used to subscribe the connection to topics.
+     *
+     * @param user connected user.
+     * @return emitter which is returned to the client.
+     */
+    SseEmitter subscribe(User user);
+
+    /**
+     * Sends event to every connection of the user.
+     *
+     * @param userId    id of recipient.
+     * @param eventName name of event.
+     * @param payload   payload of event, serialized to json once for all connections.
+     */
+    void pushToUser(Long userId, String eventName, Object payload);
+
+    /**
+     * Subscribes connection of the user to messages of the topic. Subscription lasts until connection is closed.
+     *
+     * @param userId       id of connection owner.
+     * @param connectionId id of connection.
+     * @param topicId      id of topic.
+     * @return false if the user has no open connection with such id.
+     */
+    boolean subscribeToTopic(Long userId, String connectionId, Long topicId);
+
+    /**
+     * Cancels subscription of connection of the user to messages of the topic.
+     *
+     * @param userId       id of connection owner.
+     * @param connectionId id of connection.
+     * @param topicId      id of topic.
+     * @return false if the user has no open connection with such id.
+     */
+    boolean unsubscribeFromTopic(Long userId, String connectionId, Long topicId);
+
+    /**
+     * Sends event to every connection subscribed to the topic.
+     *
+     * @param topicId   id of topic.
+     * @param eventName name of event.
+     * @param payload   payload of event, serialized to json once for all connections.
+     */
+    void pushToTopic(Long topicId, String eventName, Object payload);
+
+    /**
+     * Sends event to every connection of admins.
+     *
+     * @param eventName name of event.
+     * @param payload   payload of event, serialized to json once for all connections.
+     */
+    void pushToAdmins(String eventName, Object payload);
+
+    /**
+     * @return number of open connections.
+     */
+    int getConnectionCount();
+}
@@ -1,7 +1,9 @@
 package com.overseer.service;
 
 import com.overseer.dto.RequestDTO;
+import com.overseer.util.TimeGranularity;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -10,56 +12,66 @@ import java.util.List;
 public interface ReportService {
 
     /**
-     * Method generate PDF report for user role Admin.
+     * Method generates PDF report for user role Admin and writes it to the given stream page by page.
      *
      * @param start          period start.
      * @param end            period end.
      * @param countTop       count managers in top.
      * @param encryptedEmail user encrypted email.
-     * @return pdf doc in byte[].
+     * @param outputStream   stream the pdf document is written to, closed when document is finished.
+     * @throws com.overseer.exception.ReportGenerationException if report could not be generated.
      */
-    byte[] generateAdminPDFReport(String start, String end, int countTop, String encryptedEmail);
+    void writeAdminPDFReport(String start, String end, int countTop, String encryptedEmail, OutputStream outputStream);
 
     /**
-     * Method generate PDF report for user role Manager.
+     * Method generates PDF report for user role Manager and writes it to the given stream page by page.
      *
      * @param start          period start.
      * @param end            period end.
      * @param id             manager id.
      * @param encryptedEmail user encrypted email.
-     * @return pdf doc in byte[].
+     * @param outputStream   stream the pdf document is written to, closed when document is finished.
+     * @throws com.overseer.exception.ReportGenerationException if report could not be generated.
      */
-    byte[] generateManagerPDFReport(String start, String end, int id, String encryptedEmail);
+    void writeManagerPDFReport(String start, String end, int id, String encryptedEmail, OutputStream outputStream);
 
     /**
-     * The method returns all the created requests for a period of months.
+     * The method returns count of all the created requests for a period, grouped by given granularity.
      *
-     * @param start period start.
-     * @param end   period end.
-     * @return list of requests transfer objects.
+     * @param start       period start.
+     * @param end         last day of period, inclusive.
+     * @param granularity size of buckets.
+     * @return list of requests transfer objects, one per bucket.
      */
-    List<RequestDTO> getAllStatisticsOfFreeRequestsByPeriod(String start, String end);
+    List<RequestDTO> getAllStatisticsOfFreeRequestsByPeriod(String start, String end, TimeGranularity granularity);
 
     /**
-     * The method returns all the closed requests for a period of months.
+     * The method returns count of all the closed requests for a period, grouped by given granularity.
      *
-     * @param start period start.
-     * @param end   period end.
-     * @return list of requests transfer objects.
+     * @param start       period start.
+     * @param end         last day of period, inclusive.
+     * @param granularity size of buckets.
+     * @return list of requests transfer objects, one per bucket.
      */
-    List<RequestDTO> getAllStatisticsOfClosedRequestsByPeriod(String start, String end);
+    List<RequestDTO> getAllStatisticsOfClosedRequestsByPeriod(String start, String end, TimeGranularity granularity);
 
     /**
-     * The method returns all manager's closed requests for a period of months.
+     * The method returns count of manager's closed requests for a period, grouped by given granularity.
      *
-     * @param start period start.
-     * @param end   period end.
-     * @return list of requests transfer objects.
+     * @param start       period start.
+     * @param end         last day of period, inclusive.
+     * @param id          manager id.
+     * @param granularity size of buckets.
+     * @return list of requests transfer objects, one per bucket.
      */
-    List<RequestDTO> getManagerStatisticsOfClosedRequestsByPeriod(String start, String end, int id);
+    List<RequestDTO> getManagerStatisticsOfClosedRequestsByPeriod(String start, String end, int id, TimeGranularity granularity);
 
     /**
-     * Method generate PDF for request.
+     * Method generates PDF for request and writes it to the given stream.
+     *
+     * @param requestId    request id.
+     * @throws com.overseer.exception.ReportGenerationException if report could not be generated, also when there is no such request.
+     * @throws com.overseer.exception.ReportGenerationException if report could not be generated.
      */
-    byte[] generateRequestPDFReport(Long requestId);
+    void writeRequestPDFReport(Long requestId, OutputStream outputStream);
 }
@@ -1,12 +1,16 @@
 package com.overseer.service;
 
+import com.overseer.dto.DashboardStatsDTO;
 import com.overseer.dto.DeadlineDTO;
 import com.overseer.dto.RequestDTO;
 import com.overseer.dto.RequestSearchDTO;
+import com.overseer.dto.RequestSearchResultDTO;
+import com.overseer.dto.UserStatisticDTO;
 import com.overseer.model.PriorityStatus;
 import com.overseer.model.Request;
 import com.overseer.model.User;
 import com.overseer.model.enums.ProgressStatus;
+import com.overseer.util.TimeGranularity;
 import io.jsonwebtoken.lang.Assert;
 
 import java.time.LocalDate;
@@ -115,67 +119,28 @@ public interface RequestService extends CrudService<Request, Long> {
     List<Request> findRequestsByPeriod(LocalDate start, LocalDate end, int pageNumber);
 
     /**
-     * Returns a request DTO created in provided period.
+     * Returns zero-filled counts of requests created in provided period grouped by given granularity.
      *
      * @param start            period start.
-     * @param end              period end.
-     * @param progressStatusId progress status id.
-     * @return request DTO created in provided period.
-     */
-    RequestDTO findCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId);
-
-    /**
-     * Returns a request DTO created in small period.
-     *
-     * @param start            period start.
-     * @param end              period end.
-     * @param progressStatusId progress status id.
-     * @return request DTO created in small period.
-     */
-    RequestDTO findCountRequestsBySmallPeriod(LocalDate start, LocalDate end, Long progressStatusId);
-
-    /**
-     * Returns a request DTO created in provided period by manager id.
-     *
-     * @param start            period start.
-     * @param end              period end.
+     * @param end              last day of period, inclusive.
      * @param progressStatusId progress status id.
-     * @param id               manager id.
-     * @return request DTO created in provided period.
+     * @param granularity      size of buckets.
+     * @return list of request DTO per bucket.
      */
-    RequestDTO findCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id);
+    List<RequestDTO> findBucketedCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId, TimeGranularity granularity);
 
     /**
-     * Returns a request DTO created in small period by manager id.
+     * Returns zero-filled counts of manager's requests created in provided period grouped by given granularity.
      *
      * @param start            period start.
-     * @param end              period end.
+     * @param end              last day of period, inclusive.
      * @param progressStatusId progress status id.
      * @param id               manager id.
-     * @return request DTO created in small period.
+     * @param granularity      size of buckets.
+     * @return list of request DTO per bucket.
      */
-    RequestDTO findCountRequestsByManagerAndSmallPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id);
-
-    /**
-     * Returns a list of requests DTO created in provided period.
-     *
-     * @param start            period start.
-     * @param end              period end.
-     * @param progressStatusId progress status id.
-     * @return list of requests DTO created in provided period.
-     */
-    List<RequestDTO> findListCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId);
-
-    /**
-     * Returns a list of requests DTO created in provided period by manager id.
-     *
-     * @param start            period start.
-     * @param end              period end.
-     * @param progressStatusId progress status id.
-     * @param id               manager id.
-     * @return list of requests DTO created in provided period.
-     */
-    List<RequestDTO> findListCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id);
+    List<RequestDTO> findBucketedCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id,
+                                                                  TimeGranularity granularity);
 
     /**
      * Returns a list of best managers in provided period.
@@ -254,7 +219,6 @@ public interface RequestService extends CrudService<Request, Long> {
      */
     void closeAllRequestsOfGivenReporter(Long reporterId);
 
-
     /**
      * Delete all Free requests which have provided {@link User} as reporter.
      *
@@ -301,14 +265,24 @@ public interface RequestService extends CrudService<Request, Long> {
     List<Request> searchRequests(RequestSearchDTO searchDTO);
 
     /**
-     * @return list of statistic request by progress status for user.
+     * Returns page of requests found by full-text search over title, description, reporter and assignee names.
+     * Every word of the text is matched as a word prefix, results are ordered by relevance.
+     *
+     * @param text       searched text
+     * @param pageNumber page number, starting from 1
+     * @param size       page size
+     * @return found requests with total number of matching requests
      */
-    List<Long> quantityByProgressStatusForUser(Long userId);
+    RequestSearchResultDTO searchRequests(String text, int pageNumber, int size);
 
     /**
-     * @return list of closed and open requests for bar chart on user page.
+     * Returns statistic for user profile. Statistic is cached per user until requests of the user change.
+     *
+     * @param userId  id of reporter.
+     * @param howLong period in months for open and closed requests.
+     * @return statistic for user profile.
      */
-    List<Long> quantityOpenClosedRequestForUser(Long userId, Long howLong);
+    UserStatisticDTO getStatisticForUser(Long userId, Long howLong);
 
     /**
      * @return number of total Users.
@@ -331,9 +305,9 @@ public interface RequestService extends CrudService<Request, Long> {
     Long getRunningRequestToday();
 
     /**
-     * @return list of statistic for admin dashboard.
+     * @return statistic for admin dashboard.
      */
-    List<Long> countStatisticForAdminDashBoard(Long howLong);
+    DashboardStatsDTO countStatisticForAdminDashBoard(Long howLong);
 
     /**
      * @return list of manager deadlines information entities.
@@ -2,7 +2,9 @@ package com.overseer.service;
 
 import com.overseer.model.User;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provide service to subscribing/unsubscriping on requests changing events.
@@ -16,4 +18,12 @@ public interface RequestSubscribeService {
     void delete(Long requestId, Long subscriberId);
 
     List<User> getSubscribersOfRequest(Long requestId);
+
+    /**
+     * Returns subscribers of each of the given requests.
+     *
+     * @param requestIds ids of requests.
+     * @return map of request id to its subscribers.
+     */
+    Map<Long, List<User>> getSubscribersOfRequests(Collection<Long> requestIds);
 }
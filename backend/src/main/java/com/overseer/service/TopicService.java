@@ -24,4 +24,13 @@ public interface TopicService extends CrudService<Topic, Long> {
      * @param message topic message
      */
     Message saveTopicMessage(Message message);
+
+    /**
+     * Returns page of topics ordered by title which starts right after the given title.
+     *
+     * @param afterTitle title of the last topic of previous page, {@literal null} for the first page.
+     * @param size       max number of topics.
+     * @return list of topics ordered by title.
+     */
+    List<Topic> fetchPageAfter(String afterTitle, int size);
 }
@@ -0,0 +1,123 @@
+package com.overseer.service.impl;
+
+import com.overseer.caching.SimpleInMemoryCache;
+import com.overseer.caching.impl.SimpleInMemoryCacheImpl;
+import com.overseer.dao.TableStatisticsDao;
+import com.overseer.event.ChangeProgressEvent;
+import com.overseer.event.JoinRequestEvent;
+import com.overseer.model.Request;
+import com.overseer.model.enums.ProgressStatus;
+import com.overseer.service.CountService;
+import com.overseer.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of {@link CountService} interface.
+ */
+@Slf4j
+@Service
+@PropertySource("classpath:resources.properties")
+public class CountServiceImpl implements CountService {
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private final SimpleInMemoryCache<String, Long> estimates;
+    private final TableStatisticsDao tableStatisticsDao;
+    private final long approximateThreshold;
+
+    @Autowired
+    public CountServiceImpl(TableStatisticsDao tableStatisticsDao,
+                            @Value("${counts.approximate.threshold}") long approximateThreshold,
+                            @Value("${counts.approximate.refresh.seconds}") long estimateRefreshSeconds) {
+        this.tableStatisticsDao = tableStatisticsDao;
+        this.approximateThreshold = approximateThreshold;
+        this.estimates = new SimpleInMemoryCacheImpl<>(estimateRefreshSeconds);
+    }
+
+    @Override
+    public long count(String key, Supplier<Long> exactCounter) {
+        return counts.computeIfAbsent(key, k -> {
+            LongAdder count = new LongAdder();
+            Long exactCount = exactCounter.get();
+            count.add(exactCount == null ? 0 : exactCount);
+            log.debug("Loaded count {} = {}", k, exactCount);
+            return count;
+        }).sum();
+    }
+
+    @Override
+    public long approximateCount(String key, String table, Supplier<Long> exactCounter) {
+        if (approximateThreshold > 0) {
+            long estimate = estimates.computeIfAbsent(table, () -> tableStatisticsDao.estimateRowCount(table));
+            if (estimate >= approximateThreshold) {
+                return estimate;
+            }
+        }
+        return count(key, exactCounter);
+    }
+
+    @Override
+    public void adjust(String key, long delta) {
+        TransactionUtils.afterCommit(() -> {
+            LongAdder count = counts.get(key);
+            if (count != null) {
+                count.add(delta);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(String keyPrefix) {
+        TransactionUtils.afterCommit(() -> counts.keySet().removeIf(key -> key.startsWith(keyPrefix)));
+    }
+
+    /**
+     * Drops all counts, so that drift after rolled back or concurrent changes does not live long.
+     */
+    @Scheduled(fixedDelayString = "${counts.exact.reload.millis}")
+    public void reload() {
+        counts.clear();
+    }
+
+    /**
+     * Adjusts counts of free requests and requests of assignee when request is assigned.
+     * Closing and reopening may delete parent requests or clear assignee, so request counts are reloaded.
+     *
+     * @param changeProgressEvent event of changing progress status
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ChangeProgressEvent changeProgressEvent) {
+        if (!changeProgressEvent.isHandled()) {
+            return;
+        }
+        Request request = changeProgressEvent.getRequest();
+        if (changeProgressEvent.getProgressStatus() == ProgressStatus.IN_PROGRESS && request.getParentId() == null) {
+            adjust(FREE_REQUESTS, -1);
+            if (request.getAssignee() != null && request.getAssignee().getId() != null) {
+                adjust(REQUESTS_BY_ASSIGNEE + request.getAssignee().getId(), 1);
+            }
+        } else {
+            invalidate(REQUEST_PREFIX);
+        }
+    }
+
+    /**
+     * Joining creates parent request and changes several requests, so request counts are reloaded.
+     *
+     * @param joinRequestEvent event of joining requests
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestsJoined(JoinRequestEvent joinRequestEvent) {
+        invalidate(REQUEST_PREFIX);
+    }
+}
@@ -0,0 +1,222 @@
+package com.overseer.service.impl;
+
+import com.overseer.dao.RequestDao;
+import com.overseer.event.ChangeProgressEvent;
+import com.overseer.event.JoinRequestEvent;
+import com.overseer.model.Request;
+import com.overseer.model.enums.ProgressStatus;
+import com.overseer.service.DashboardCounterService;
+import com.overseer.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@link DashboardCounterService} interface.
+ * Counters are seeded from database on startup, updated by request and user lifecycle
+ * once transactions commit, and periodically reconciled with database to fix any drift.
+ */
+@Slf4j
+@Service
+@PropertySource("classpath:resources.properties")
+public class DashboardCounterServiceImpl implements DashboardCounterService {
+
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder totalUsers = new LongAdder();
+    private final LongAdder requestsCreatedToday = new LongAdder();
+    private final LongAdder requestsRunningToday = new LongAdder();
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile LocalDate countersDay = LocalDate.now();
+
+    private final RequestDao requestDao;
+
+    @Autowired
+    public DashboardCounterServiceImpl(RequestDao requestDao) {
+        this.requestDao = requestDao;
+    }
+
+    @Override
+    public long getTotalRequests() {
+        return totalRequests.sum();
+    }
+
+    @Override
+    public long getTotalUsers() {
+        return totalUsers.sum();
+    }
+
+    @Override
+    public long getRequestsCreatedToday() {
+        rollOverDay();
+        return requestsCreatedToday.sum();
+    }
+
+    @Override
+    public long getRequestsRunningToday() {
+        rollOverDay();
+        return requestsRunningToday.sum();
+    }
+
+    @Override
+    public void requestCreated(Request request) {
+        boolean createdToday = isCreatedToday(request);
+        boolean running = isRunning(request.getProgressStatus());
+        TransactionUtils.afterCommit(() -> {
+            totalRequests.increment();
+            if (createdToday) {
+                rollOverDay();
+                requestsCreatedToday.increment();
+                if (running) {
+                    requestsRunningToday.increment();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void userCreated() {
+        TransactionUtils.afterCommit(totalUsers::increment);
+    }
+
+    @Override
+    public void userDeleted() {
+        TransactionUtils.afterCommit(totalUsers::decrement);
+    }
+
+    @Override
+    public void markStale() {
+        stale.set(true);
+    }
+
+    @Override
+    public synchronized void reconcile() {
+        stale.set(false);
+        LocalDate today = LocalDate.now();
+        try {
+            adjustTo(totalRequests, requestDao.countTotalRequests());
+            adjustTo(totalUsers, requestDao.countTotalUsers());
+            adjustTo(requestsCreatedToday, requestDao.countRequestsCreatedToday());
+            adjustTo(requestsRunningToday, requestDao.countRequestsRunningToday());
+            countersDay = today;
+            log.debug("Dashboard counters reconciled: {} requests, {} users", totalRequests.sum(), totalUsers.sum());
+        } catch (DataAccessException e) {
+            stale.set(true);
+            log.error("Failed to reconcile dashboard counters", e);
+        }
+    }
+
+    /**
+     * Seeds counters once application is started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Reloads counters which were marked as outdated.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.counters.stale.check.millis}")
+    public void reconcileIfStale() {
+        if (stale.get()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Periodically reloads counters to fix drift.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.counters.reconcile.millis}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * Updates counters after progress status of request was changed and transaction committed.
+     * Closing may delete emptied parent requests, so it reloads counters instead of counting them.
+     *
+     * @param event event of changing progress status
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ChangeProgressEvent event) {
+        if (!event.isHandled()) {
+            return;
+        }
+        if (event.getProgressStatus() == ProgressStatus.CLOSED) {
+            markStale();
+        } else if (event.getProgressStatus() == ProgressStatus.IN_PROGRESS && isCreatedToday(event.getRequest())) {
+            rollOverDay();
+            requestsRunningToday.increment();
+        }
+    }
+
+    /**
+     * Joining creates parent request and changes status of several requests, so counters are reloaded.
+     *
+     * @param event event of joining requests
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestsJoined(JoinRequestEvent event) {
+        markStale();
+    }
+
+    /**
+     * Resets today's counters when the day is over.
+     */
+    private void rollOverDay() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(countersDay)) {
+            synchronized (this) {
+                if (!today.equals(countersDay)) {
+                    requestsCreatedToday.reset();
+                    requestsRunningToday.reset();
+                    countersDay = today;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if request was created today. Request without creation date is being created right now.
+     *
+     * @param request request to check
+     * @return true if request was created today
+     */
+    private boolean isCreatedToday(Request request) {
+        return request.getDateOfCreation() == null
+                || request.getDateOfCreation().toLocalDate().equals(LocalDate.now());
+    }
+
+    /**
+     * Checks if request with given progress status is considered running.
+     *
+     * @param progressStatus progress status of request
+     * @return true if request is neither free nor closed
+     */
+    private boolean isRunning(ProgressStatus progressStatus) {
+        return progressStatus != null
+                && progressStatus != ProgressStatus.FREE
+                && progressStatus != ProgressStatus.CLOSED;
+    }
+
+    /**
+     * Moves counter to the value by adding the difference, so increments made
+     * while value was loaded are not dropped as they would be by reset.
+     *
+     * @param counter counter to update
+     * @param value   new value
+     */
+    private static void adjustTo(LongAdder counter, Long value) {
+        counter.add((value == null ? 0 : value) - counter.sum());
+    }
+}
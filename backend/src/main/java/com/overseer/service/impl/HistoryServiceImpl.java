@@ -2,8 +2,10 @@ package com.overseer.service.impl;
 
 import com.overseer.dao.HistoryDAO;
 import com.overseer.dto.HistoryMessageDTO;
+import com.overseer.dto.HistoryPageDTO;
 import com.overseer.model.History;
 import com.overseer.service.HistoryService;
+import com.overseer.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -41,6 +43,27 @@ public class HistoryServiceImpl implements HistoryService{
         return convertHistoryInHistoryMessageDTO(findHistoryList(entityId), maxNumberOfCharsInText);
     }
 
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public HistoryPageDTO getHistoryPage(Long entityId, String cursor, int pageSize, int maxNumberOfCharsInText) {
+        Assert.notNull(entityId, "id of entity must not be null");
+        Assert.isTrue(pageSize > 0, "page size must be greater then 0");
+        KeysetCursor before = KeysetCursor.parse(cursor);
+        // one extra record tells whether there is a next page
+        List<History> histories = historyDAO.findPageForEntity(entityId,
+                before == null ? null : before.getDate(), before == null ? null : before.getId(), pageSize + 1);
+        String nextCursor = null;
+        if (histories.size() > pageSize) {
+            histories = histories.subList(0, pageSize);
+            History last = histories.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getDateOfChange(), last.getId()).toString();
+        }
+        log.debug("Fetched {} history records for entity with id: {}", histories.size(), entityId);
+        return new HistoryPageDTO(convertHistoryInHistoryMessageDTO(histories, maxNumberOfCharsInText), nextCursor);
+    }
+
     /**
      * {@inheritDoc}.
      */
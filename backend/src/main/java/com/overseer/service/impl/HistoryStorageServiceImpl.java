@@ -0,0 +1,101 @@
+package com.overseer.service.impl;
+
+import com.overseer.dao.HistoryDAO;
+import com.overseer.service.HistoryStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of {@link HistoryStorageService} interface.
+ * Every archive batch is committed separately, so that history table is never locked for long.
+ * Archiving is opt-in: it runs only when history.archive.after.months is set, and never on startup.
+ */
+@Slf4j
+@Service
+@PropertySource("classpath:resources.properties")
+public class HistoryStorageServiceImpl implements HistoryStorageService {
+
+    private final HistoryDAO historyDAO;
+    private final int partitionsAheadMonths;
+    private final int archiveAfterMonths;
+    private final int archiveBatchSize;
+
+    @Autowired
+    public HistoryStorageServiceImpl(HistoryDAO historyDAO,
+                                     @Value("${history.partitions.ahead.months}") int partitionsAheadMonths,
+                                     @Value("${history.archive.after.months:0}") int archiveAfterMonths,
+                                     @Value("${history.archive.batch.size}") int archiveBatchSize) {
+        this.historyDAO = historyDAO;
+        this.partitionsAheadMonths = partitionsAheadMonths;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveBatchSize = archiveBatchSize;
+    }
+
+    @Override
+    public int preparePartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        int created = historyDAO.createPartitions(currentMonth, currentMonth.plusMonths(partitionsAheadMonths));
+        log.debug("Created {} history partitions", created);
+        return created;
+    }
+
+    @Override
+    public int archiveClosedRequestsHistory() {
+        if (archiveAfterMonths <= 0) {
+            return 0;
+        }
+        LocalDateTime before = LocalDate.now().minusMonths(archiveAfterMonths).atStartOfDay();
+        int archived = 0;
+        int batch;
+        do {
+            batch = historyDAO.archiveClosedRequestsHistory(before, archiveBatchSize);
+            archived += batch;
+        } while (batch == archiveBatchSize);
+        log.info("Archived history of {} closed requests changed before {}", archived, before);
+        return archived;
+    }
+
+    /**
+     * Creates missing partitions on startup. Archiving is left to the nightly run,
+     * so that a large backlog is never moved on the startup thread.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparePartitionsOnStartup() {
+        tryPreparePartitions();
+    }
+
+    /**
+     * Runs history maintenance every night. Failures are only logged, e.g. partitions
+     * can not be created until history is migrated by db/scripts/migration/history_partitioning.sql.
+     */
+    @Scheduled(cron = "${history.maintenance.cron}")
+    public void maintain() {
+        tryPreparePartitions();
+        try {
+            archiveClosedRequestsHistory();
+        } catch (DataAccessException e) {
+            log.error("Failed to archive history of closed requests", e);
+        }
+    }
+
+    /**
+     * Creates partitions, logging failure instead of throwing it.
+     */
+    private void tryPreparePartitions() {
+        try {
+            preparePartitions();
+        } catch (DataAccessException e) {
+            log.warn("History partitions were not created, history table is probably not partitioned: {}", e.getMessage());
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.overseer.service.impl;
 
 import com.overseer.dao.MessageDao;
+import com.overseer.dto.MessagePageDTO;
+import com.overseer.event.MessageSavedEvent;
+import com.overseer.event.MessagesDeletedEvent;
+import com.overseer.event.MessagesReadEvent;
+import com.overseer.exception.entity.EntityAlreadyExistsException;
 import com.overseer.model.Message;
 import com.overseer.service.MessageService;
+import com.overseer.util.KeysetCursor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 
 import java.security.KeyFactory;
 import java.security.PrivateKey;
@@ -16,7 +25,9 @@ import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.PKCS8EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import javax.crypto.Cipher;
 
@@ -26,10 +37,12 @@ import javax.crypto.Cipher;
 @Service
 @Slf4j
 @PropertySource("cryptography.properties")
-public class MessageServiceImpl extends CrudServiceImpl<Message> implements MessageService {
+public class MessageServiceImpl extends CrudServiceImpl<Message> implements MessageService, ApplicationEventPublisherAware {
 
     private MessageDao messageDao;
 
+    private ApplicationEventPublisher publisher;
+
     @Value("${public.key}")
     private String publicKey;
 
@@ -41,6 +54,51 @@ public class MessageServiceImpl extends CrudServiceImpl<Message> implements Mess
         this.messageDao = messageDao;
     }
 
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.publisher = applicationEventPublisher;
+    }
+
+    @Override
+    public Message create(Message message) throws EntityAlreadyExistsException {
+        Message savedMessage = super.create(message);
+        publisher.publishEvent(new MessageSavedEvent(this, decryptedCopy(savedMessage)));
+        return savedMessage;
+    }
+
+    /**
+     * {@inheritDoc}.
+     * Recipient of deleted unread message is notified, so that its unread count does not go stale.
+     */
+    @Override
+    public void delete(Long id) {
+        Assert.notNull(id, "id must not be null");
+        Long unreadRecipientId = messageDao.deleteReturningUnreadRecipient(id);
+        log.debug("Deleted message with id {}", id);
+        if (unreadRecipientId != null) {
+            publisher.publishEvent(new MessagesDeletedEvent(this, unreadRecipientId,
+                    Collections.singletonList(id)));
+        }
+    }
+
+    /**
+     * Copy of message is delivered to recipient, because saved message is decrypted by caller.
+     *
+     * @param encryptedMessage saved message.
+     * @return decrypted copy of message.
+     */
+    private Message decryptedCopy(Message encryptedMessage) {
+        Message message = new Message();
+        message.setId(encryptedMessage.getId());
+        message.setSender(encryptedMessage.getSender());
+        message.setRecipient(encryptedMessage.getRecipient());
+        message.setTopic(encryptedMessage.getTopic());
+        message.setDateAndTime(encryptedMessage.getDateAndTime());
+        message.setRead(encryptedMessage.isRead());
+        message.setText(encryptedMessage.getText());
+        return decryptMessage(message);
+    }
+
     @Override
     public List<Message> findByTopic(Long topicId) {
         val list = messageDao.findByTopic(topicId);
@@ -48,12 +106,46 @@ public class MessageServiceImpl extends CrudServiceImpl<Message> implements Mess
         return list;
     }
 
+    /**
+     * {@inheritDoc}.
+     */
     @Override
-    public List<Message> findDialogMessages(Long senderId, Long recipientId) {
-        val list = messageDao.findDialogMessages(senderId, recipientId);
-        log.debug("Fetched messages for dialog for sender with id {} and recipient with id {}", senderId, recipientId);
+    public MessagePageDTO findDialogMessages(Long senderId, Long recipientId, String before, String after,
+                                             int pageSize) {
+        Assert.notNull(senderId, "id of sender must not be null");
+        Assert.notNull(recipientId, "id of recipient must not be null");
+        Assert.isTrue(pageSize > 0, "page size must be greater then 0");
+        KeysetCursor beforeCursor = KeysetCursor.parse(before);
+        KeysetCursor afterCursor = KeysetCursor.parse(after);
+        Assert.isTrue(beforeCursor == null || afterCursor == null, "only one of before and after cursors is allowed");
+        List<Message> messages;
+        String olderCursor = null;
+        if (afterCursor == null) {
+            // one extra message tells whether there are older messages
+            messages = new ArrayList<>(messageDao.findDialogMessagesBefore(senderId, recipientId,
+                    beforeCursor == null ? null : beforeCursor.getDate(),
+                    beforeCursor == null ? null : beforeCursor.getId(), pageSize + 1));
+            if (messages.size() > pageSize) {
+                messages = messages.subList(0, pageSize);
+                olderCursor = cursorOf(messages.get(pageSize - 1));
+            }
+            Collections.reverse(messages);
+        } else {
+            messages = messageDao.findDialogMessagesAfter(senderId, recipientId, afterCursor.getDate(),
+                    afterCursor.getId(), pageSize);
+        }
+        String newerCursor = messages.isEmpty() ? after : cursorOf(messages.get(messages.size() - 1));
+        log.debug("Fetched {} messages for dialog for sender with id {} and recipient with id {}",
+                messages.size(), senderId, recipientId);
+        return new MessagePageDTO(decryptListOfMessages(messages), olderCursor, newerCursor);
+    }
 
-        return decryptListOfMessages(list);
+    /**
+     * @param message message of the dialog.
+     * @return cursor pointing to the message.
+     */
+    private String cursorOf(Message message) {
+        return new KeysetCursor(message.getDateAndTime(), message.getId()).toString();
     }
 
     /**
@@ -146,9 +238,27 @@ public class MessageServiceImpl extends CrudServiceImpl<Message> implements Mess
     }
 
     @Override
-    public List<Message> findUnreadMessages(Long recipientId) {
-        val list = messageDao.findUnreadMessages(recipientId);
+    public List<Message> findUnreadMessages(Long recipientId, int limit) {
+        val list = messageDao.findUnreadMessages(recipientId, limit);
         log.debug("Fetched unread messages for recipient with id {}", recipientId);
         return decryptListOfMessages(list);
     }
+
+    @Override
+    public long countUnreadMessages(Long recipientId) {
+        return messageDao.countUnreadMessages(recipientId);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<Long> markRead(Long recipientId, List<Long> messageIds) {
+        List<Long> readIds = messageDao.markRead(recipientId, messageIds);
+        log.debug("Marked {} messages of recipient with id {} as read", readIds.size(), recipientId);
+        if (!readIds.isEmpty()) {
+            publisher.publishEvent(new MessagesReadEvent(this, recipientId, readIds));
+        }
+        return readIds;
+    }
 }
@@ -0,0 +1,331 @@
+package com.overseer.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overseer.model.User;
+import com.overseer.service.PushService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@link PushService} interface based on server-sent events.
+ * Payload is serialized once per event. Every connection queues its events in its own bounded queue, drained by
+ * push threads one connection at a time, so a slow client only delays itself. A connection whose queue is full
+ * is dropped, as client does not keep up with its events.
+ * Topic subscriptions belong to a connection, so a closed tab does not unsubscribe other tabs of the same user.
+ */
+@Slf4j
+@Service
+@PropertySource("classpath:resources.properties")
+public class PushServiceImpl implements PushService {
+    private static final String ADMIN_ROLE = "admin";
+    private static final String CONNECTED_EVENT = "connected";
+
+    private final Map<Long, Set<SseEmitter>> userConnections = new ConcurrentHashMap<>();
+    private final Set<SseEmitter> adminConnections = ConcurrentHashMap.newKeySet();
+    private final Map<String, Connection> connectionsById = new ConcurrentHashMap<>();
+    private final Map<SseEmitter, Connection> connectionsByEmitter = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseEmitter>> topicSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final ExecutorService pushExecutor;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final int connectionQueueSize;
+
+    @Autowired
+    public PushServiceImpl(@Qualifier("pushExecutor") ExecutorService pushExecutor,
+                           ObjectMapper objectMapper,
+                           @Value("${push.emitter.timeout.millis}") long emitterTimeoutMillis,
+                           @Value("${push.connection.queue.size}") int connectionQueueSize) {
+        this.pushExecutor = pushExecutor;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.connectionQueueSize = connectionQueueSize;
+    }
+
+    @Override
+    public SseEmitter subscribe(User user) {
+        Assert.notNull(user, "user must not be null");
+        SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+        Long userId = user.getId();
+        String connectionId = UUID.randomUUID().toString();
+        Connection connection = new Connection(connectionId, userId, emitter, new ArrayBlockingQueue<>(connectionQueueSize));
+        connectionsById.put(connectionId, connection);
+        connectionsByEmitter.put(emitter, connection);
+        boolean admin = user.getRole() != null && ADMIN_ROLE.equals(user.getRole().getName());
+        // connection is added inside compute, so it can not land in a set which a concurrent close just dropped
+        userConnections.compute(userId, (id, emitters) -> {
+            Set<SseEmitter> connections = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            connections.add(emitter);
+            return connections;
+        });
+        if (admin) {
+            adminConnections.add(emitter);
+        }
+        connectionCount.incrementAndGet();
+        emitter.onCompletion(() -> removeConnection(userId, connectionId, emitter));
+        emitter.onTimeout(() -> removeConnection(userId, connectionId, emitter));
+        // client needs id of its connection to subscribe it to topics
+        send(Collections.singletonList(emitter), CONNECTED_EVENT, Collections.singletonMap("connectionId", connectionId));
+        log.debug("User with id {} opened push connection, {} connections are open", userId, connectionCount.get());
+        return emitter;
+    }
+
+    @Override
+    public void pushToUser(Long userId, String eventName, Object payload) {
+        Set<SseEmitter> connections = userConnections.getOrDefault(userId, Collections.emptySet());
+        if (!connections.isEmpty()) {
+            send(new ArrayList<>(connections), eventName, payload);
+        }
+    }
+
+    @Override
+    public boolean subscribeToTopic(Long userId, String connectionId, Long topicId) {
+        Assert.notNull(userId, "id of user must not be null");
+        Assert.notNull(topicId, "id of topic must not be null");
+        Connection connection = findConnection(userId, connectionId);
+        if (connection == null) {
+            return false;
+        }
+        topicSubscribers.compute(topicId, (id, emitters) -> {
+            Set<SseEmitter> subscribers = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            subscribers.add(connection.emitter);
+            return subscribers;
+        });
+        // connection closed meanwhile may have already been removed from topics, so it is removed once more
+        if (!connectionsById.containsKey(connectionId)) {
+            removeFromTopic(topicId, connection.emitter);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean unsubscribeFromTopic(Long userId, String connectionId, Long topicId) {
+        Connection connection = findConnection(userId, connectionId);
+        if (connection == null) {
+            return false;
+        }
+        removeFromTopic(topicId, connection.emitter);
+        return true;
+    }
+
+    @Override
+    public void pushToTopic(Long topicId, String eventName, Object payload) {
+        Set<SseEmitter> connections = topicSubscribers.getOrDefault(topicId, Collections.emptySet());
+        if (!connections.isEmpty()) {
+            send(new ArrayList<>(connections), eventName, payload);
+        }
+    }
+
+    @Override
+    public void pushToAdmins(String eventName, Object payload) {
+        if (!adminConnections.isEmpty()) {
+            send(new ArrayList<>(adminConnections), eventName, payload);
+        }
+    }
+
+    @Override
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Sends comment to every connection, so that proxies keep idle connections open
+     * and connections of gone clients are detected and dropped.
+     */
+    @Scheduled(fixedDelayString = "${push.heartbeat.millis}")
+    public void heartbeat() {
+        Collection<SseEmitter> connections = new ArrayList<>();
+        userConnections.values().forEach(connections::addAll);
+        connections.forEach(emitter -> enqueue(emitter, SseEmitter.event().comment("heartbeat")));
+    }
+
+    /**
+     * Creates connection, overridden in tests.
+     *
+     * @param timeoutMillis time after which connection is closed
+     * @return new connection
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * Serializes payload and queues it to given connections.
+     *
+     * @param connections recipients of event
+     * @param eventName   name of event
+     * @param payload     payload of event
+     */
+    private void send(Collection<SseEmitter> connections, String eventName, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize push event {}", eventName, e);
+            return;
+        }
+        connections.forEach(emitter -> enqueue(emitter, SseEmitter.event().name(eventName).data(data, MediaType.TEXT_PLAIN)));
+    }
+
+    /**
+     * Queues event to connection and schedules draining of its queue unless it is already scheduled.
+     * Connection with full queue is dropped, as its client does not keep up with events.
+     *
+     * @param emitter connection
+     * @param event   event to write
+     */
+    private void enqueue(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        Connection connection = connectionsByEmitter.get(emitter);
+        if (connection == null) {
+            return;
+        }
+        if (!connection.events.offer(event)) {
+            log.debug("Push connection of user with id {} is too slow, dropping it", connection.userId);
+            close(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    /**
+     * Schedules draining of connection queue, at most one drain of a connection runs at a time.
+     *
+     * @param connection connection with queued events
+     */
+    private void scheduleDrain(Connection connection) {
+        if (connection.draining.compareAndSet(false, true)) {
+            try {
+                pushExecutor.execute(() -> drain(connection));
+            } catch (RejectedExecutionException e) {
+                connection.draining.set(false);
+                log.debug("Push executor is shut down: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes queued events to connection, dropping the connection if client is gone.
+     *
+     * @param connection connection with queued events
+     */
+    private void drain(Connection connection) {
+        SseEmitter.SseEventBuilder event;
+        while ((event = connection.events.poll()) != null) {
+            try {
+                connection.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Push connection is closed: {}", e.getMessage());
+                close(connection);
+                return;
+            }
+        }
+        connection.draining.set(false);
+        // event queued after the last poll but before the flag was reset would wait for the next event otherwise
+        if (!connection.events.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    /**
+     * Completes connection and forgets it at once, without waiting for completion callback of the container.
+     *
+     * @param connection connection to drop
+     */
+    private void close(Connection connection) {
+        connection.events.clear();
+        try {
+            connection.emitter.complete();
+        } catch (IllegalStateException e) {
+            log.debug("Push connection is already completed: {}", e.getMessage());
+        }
+        removeConnection(connection.userId, connection.id, connection.emitter);
+    }
+
+    /**
+     * Finds open connection of the user.
+     *
+     * @param userId       id of connection owner
+     * @param connectionId id of connection
+     * @return connection or null if there is no such open connection of the user
+     */
+    private Connection findConnection(Long userId, String connectionId) {
+        Connection connection = connectionId == null ? null : connectionsById.get(connectionId);
+        return connection != null && connection.userId.equals(userId) ? connection : null;
+    }
+
+    /**
+     * Removes connection from subscribers of the topic.
+     *
+     * @param topicId id of topic
+     * @param emitter connection
+     */
+    private void removeFromTopic(Long topicId, SseEmitter emitter) {
+        topicSubscribers.computeIfPresent(topicId, (id, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * Forgets closed connection together with its topic subscriptions.
+     *
+     * @param userId       id of connection owner
+     * @param connectionId id of closed connection
+     * @param emitter      closed connection
+     */
+    private void removeConnection(Long userId, String connectionId, SseEmitter emitter) {
+        adminConnections.remove(emitter);
+        connectionsByEmitter.remove(emitter);
+        // connection is forgotten before topics are cleaned, so topic subscribe running concurrently notices it
+        connectionsById.remove(connectionId);
+        topicSubscribers.keySet().forEach(topicId -> removeFromTopic(topicId, emitter));
+        AtomicBoolean removed = new AtomicBoolean();
+        // removal and emptiness check are done in one compute, so a concurrent subscribe is never lost
+        userConnections.computeIfPresent(userId, (id, emitters) -> {
+            removed.set(emitters.remove(emitter));
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (removed.get()) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Open connection of a user with events waiting to be written to it.
+     */
+    @RequiredArgsConstructor
+    private static class Connection {
+        private final String id;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> events;
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+}
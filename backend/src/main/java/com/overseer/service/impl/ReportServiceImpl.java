@@ -4,22 +4,27 @@ import com.itextpdf.text.Document;
 import com.itextpdf.text.pdf.PdfWriter;
 import com.overseer.dao.RequestDao;
 import com.overseer.dto.RequestDTO;
+import com.overseer.exception.ReportGenerationException;
+import com.overseer.exception.entity.NoSuchEntityException;
+import com.overseer.model.Request;
 import com.overseer.model.enums.ProgressStatus;
 import com.overseer.service.HistoryService;
 import com.overseer.service.ReportService;
 import com.overseer.service.RequestService;
 import com.overseer.service.impl.report.AdminReportBuilder;
+import com.overseer.service.impl.report.AdminReportSpec;
 import com.overseer.service.impl.report.ManagerReportBuilder;
+import com.overseer.service.impl.report.ManagerReportSpec;
 import com.overseer.service.impl.report.RequestReportPdfBuilder;
+import com.overseer.service.impl.report.RequestReportSpec;
 import com.overseer.util.LocalDateFormatter;
+import com.overseer.util.TimeGranularity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.time.Period;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -30,8 +35,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
 
-    private static final Long DEFAULT_MONTHS_STEP = 1L;
-    private static final int COUNT_MONTHS_IN_YEAR = 12;
     private final RequestService requestService;
     private final RequestDao requestDao;
     private final HistoryService historyService;
@@ -43,254 +46,108 @@ public class ReportServiceImpl implements ReportService {
      * {@inheritDoc}.
      */
     @Override
-    public byte[] generateAdminPDFReport(String beginDate, String endDate, int countTop, String encryptedEmail) {
-        adminReportBuilder.setDatePeriod(beginDate, endDate, countTop, encryptedEmail);
-        Document document = new Document();
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        try {
-            PdfWriter.getInstance(document, byteArrayOutputStream);
-            adminReportBuilder.buildPdfDocument(document);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return byteArrayOutputStream.toByteArray();
+    public void writeAdminPDFReport(String beginDate, String endDate, int countTop, String encryptedEmail, OutputStream outputStream) {
+        AdminReportSpec spec = new AdminReportSpec(beginDate, endDate, countTop, encryptedEmail);
+        writePdf(outputStream, "admin report", document -> adminReportBuilder.buildPdfDocument(document, spec));
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public byte[] generateManagerPDFReport(String beginDate, String endDate, int id, String encryptedEmail) {
-        Document document = new Document();
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        managerReportBuilder.setDatePeriod(beginDate, endDate, id, encryptedEmail);
-        try {
-            PdfWriter.getInstance(document, byteArrayOutputStream);
-            managerReportBuilder.buildPdfDocument(document);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return byteArrayOutputStream.toByteArray();
+    public void writeManagerPDFReport(String beginDate, String endDate, int id, String encryptedEmail, OutputStream outputStream) {
+        ManagerReportSpec spec = new ManagerReportSpec(beginDate, endDate, id, encryptedEmail);
+        writePdf(outputStream, "manager report", document -> managerReportBuilder.buildPdfDocument(document, spec));
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public List<RequestDTO> getAllStatisticsOfFreeRequestsByPeriod(String beginDate, String endDate) {
-
-        //Convert dates to LocalDate format
+    public List<RequestDTO> getAllStatisticsOfFreeRequestsByPeriod(String beginDate, String endDate, TimeGranularity granularity) {
         LocalDate start = LocalDate.parse(beginDate, LocalDateFormatter.FORMATTER);
         LocalDate end = LocalDate.parse(endDate, LocalDateFormatter.FORMATTER);
-
-        //Create main list with request transfer objects
-        List<RequestDTO> allRequests = new ArrayList<>();
-        LocalDate localStart;
-        LocalDate localEnd;
-        switch (getDifferenceBetweenDates(start, end)) {
-            case 0:
-                //Receive data from small period, without dividing to other intervals
-                allRequests.add(requestService.findCountRequestsBySmallPeriod(start, end, ProgressStatus.FREE.getId()));
-                break;
-            case 1:
-                //Round the date until next month
-                localStart = start.plusDays((start.lengthOfMonth() - start.getDayOfMonth()) + 1);
-                //Receive data before the 1st day of the next month (after start date)
-                allRequests.add(requestService.findCountRequestsBySmallPeriod(start, localStart, ProgressStatus.FREE.getId()));
-                if (start.getDayOfMonth() != end.getDayOfMonth()) {
-                    allRequests.add(requestService.findCountRequestsBySmallPeriod(localStart, end, ProgressStatus.FREE.getId()));
-                }
-                break;
-            default:
-                //Round the date until next month
-                localStart = start.plusDays((start.lengthOfMonth() - start.getDayOfMonth()) + 1);
-                //Receive data before the 1st day of the next month (after start date)
-                allRequests.add(requestService.findCountRequestsBySmallPeriod(start, localStart, ProgressStatus.FREE.getId()));
-
-                //Round the date of the last month by the 1st day of this month
-                localEnd = end.minusDays(end.getDayOfMonth() - 1);
-                //Receive data between the 1st day of the next month and the 1st day of the last month
-                List<RequestDTO> dataFromCentralDates = requestService.findListCountRequestsByPeriod(localStart, localEnd, ProgressStatus.FREE.getId());
-                LocalDate local = loadGeneralList(allRequests, dataFromCentralDates, localStart, localEnd);
-                if (!(end.equals(local))) {
-                    //Receive data from the 1st day of the last month
-                    allRequests.add(requestService.findCountRequestsBySmallPeriod(local, end, ProgressStatus.FREE.getId()));
-                }
-                break;
-        }
-        return allRequests;
-    }
-
-    /**
-     * Gets Difference between two dates in months.
-     *
-     * @param start date from.
-     * @param end   date to.
-     * @return return count months between dates.
-     */
-    private int getDifferenceBetweenDates(LocalDate start, LocalDate end) {
-
-        //Dates difference in months
-        int countYears = Period.between(start, end).getYears();
-        int countMonth;
-        if (countYears != 0) {
-            countMonth = countYears * COUNT_MONTHS_IN_YEAR + Period.between(start, end).getMonths();
-        } else {
-            countMonth = Period.between(start, end).getMonths();
-        }
-        return countMonth;
-    }
-
-    /**
-     * Gets general list of request transfer objects which created in the same period.
-     *
-     * @param generalList main collection with DTO's.
-     * @param hourlyList  collection with DTO's in period between the 1st day of the second month and the 1st day of the last month.
-     * @param localStart  date from.
-     * @param localEnd    date to.
-     * @return return last date from period and load list of request DTO's from this period of time.
-     */
-    private LocalDate loadGeneralList(List<RequestDTO> generalList, List<RequestDTO> hourlyList, LocalDate localStart, LocalDate localEnd) {
-
-        int countMonth = getDifferenceBetweenDates(localStart, localEnd);
-        if (countMonth == 0) {
-            return localEnd;
-        }
-        boolean key;
-        LocalDate local = null;
-
-        //Load main collection with data
-        for (int i = 0; i < countMonth; i++) {
-            key = false;
-            for (RequestDTO r : hourlyList) {
-                if (localStart.equals(r.getStartDateLimit())) {
-                    generalList.add(r);
-                    key = true;
-                    break;
-                }
-            }
-            local = localStart.plusMonths(DEFAULT_MONTHS_STEP);
-            if (!key) {
-                RequestDTO temp = new RequestDTO();
-                temp.setStartDateLimit(localStart);
-                temp.setCount(0L);
-                temp.setEndDateLimit(local);
-                generalList.add(temp);
-            }
-            localStart = local;
-        }
-        return local;
+        return requestService.findBucketedCountRequestsByPeriod(start, end, ProgressStatus.FREE.getId(), granularity);
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public List<RequestDTO> getAllStatisticsOfClosedRequestsByPeriod(String beginDate, String endDate) {
-
-        //Convert dates to LocalDate format
+    public List<RequestDTO> getAllStatisticsOfClosedRequestsByPeriod(String beginDate, String endDate, TimeGranularity granularity) {
         LocalDate start = LocalDate.parse(beginDate, LocalDateFormatter.FORMATTER);
         LocalDate end = LocalDate.parse(endDate, LocalDateFormatter.FORMATTER);
-
-        //Main list with request transfer objects
-        List<RequestDTO> allRequests = new ArrayList<>();
-
-        LocalDate localStart;
-        LocalDate localEnd;
-        switch (getDifferenceBetweenDates(start, end)) {
-            case 0:
-                //Receive data from small period, without dividing to other intervals
-                allRequests.add(requestService.findCountRequestsByPeriod(start, end, ProgressStatus.CLOSED.getId()));
-                break;
-            case 1:
-                //Round the date until next month
-                localStart = start.plusDays((start.lengthOfMonth() - start.getDayOfMonth()) + 1);
-                //Receive data before the 1st day of the next month (after start date)
-                allRequests.add(requestService.findCountRequestsByPeriod(start, localStart, ProgressStatus.CLOSED.getId()));
-                if (start.getDayOfMonth() != end.getDayOfMonth()) {
-                    allRequests.add(requestService.findCountRequestsByPeriod(localStart, end, ProgressStatus.CLOSED.getId()));
-                }
-                break;
-            default:
-                //Round the date until next month
-                localStart = start.plusDays((start.lengthOfMonth() - start.getDayOfMonth()) + 1);
-                //Receive data before the 1st day of the next month (after start date)
-                allRequests.add(requestService.findCountRequestsBySmallPeriod(start, localStart, ProgressStatus.CLOSED.getId()));
-
-                //Round the date of the last month by the 1st day of this month
-                localEnd = end.minusDays(end.getDayOfMonth() - 1);
-                //Receive data between the 1st day of the next month and the 1st day of the last month
-                List<RequestDTO> dataFromCentralDates = requestService.findListCountRequestsByPeriod(localStart, localEnd, ProgressStatus.CLOSED.getId());
-                LocalDate local = loadGeneralList(allRequests, dataFromCentralDates, localStart, localEnd);
-                if (!(end.equals(local))) {
-                    //Receive data from the 1st day of the last month
-                    allRequests.add(requestService.findCountRequestsBySmallPeriod(local, end, ProgressStatus.CLOSED.getId()));
-                }
-                break;
-        }
-        return allRequests;
-
+        return requestService.findBucketedCountRequestsByPeriod(start, end, ProgressStatus.CLOSED.getId(), granularity);
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public List<RequestDTO> getManagerStatisticsOfClosedRequestsByPeriod(String beginDate, String endDate, int id) {
-
+    public List<RequestDTO> getManagerStatisticsOfClosedRequestsByPeriod(String beginDate, String endDate, int id,
+                                                                         TimeGranularity granularity) {
         LocalDate start = LocalDate.parse(beginDate, LocalDateFormatter.FORMATTER);
         LocalDate end = LocalDate.parse(endDate, LocalDateFormatter.FORMATTER);
-
-        List<RequestDTO> requests = new ArrayList<>();
-
-        LocalDate localStart;
-        LocalDate localEnd;
-        switch (getDifferenceBetweenDates(start, end)) {
-            case 0:
-                //Receive data from small period, without dividing to other intervals
-                requests.add(requestService.findCountRequestsByManagerAndSmallPeriod(start, end, ProgressStatus.CLOSED.getId(), id));
-                break;
-            case 1:
-                //Round the date until next month
-                localStart = start.plusDays((start.lengthOfMonth() - start.getDayOfMonth()) + 1);
-                //Receive data before the 1st day of the next month (after start date)
-                requests.add(requestService.findCountRequestsByManagerAndSmallPeriod(start, localStart, ProgressStatus.CLOSED.getId(), id));
-                if (start.getDayOfMonth() != end.getDayOfMonth()) {
-                    requests.add(requestService.findCountRequestsByManagerAndSmallPeriod(localStart, end, ProgressStatus.CLOSED.getId(), id));
-                }
-                break;
-            default:
-                localStart = start.plusDays((start.lengthOfMonth() - start.getDayOfMonth()) + 1);
-                requests.add(requestService.findCountRequestsByManagerAndSmallPeriod(start, localStart, ProgressStatus.CLOSED.getId(), id));
-                localEnd = end.minusDays(end.getDayOfMonth() - 1);
-                List<RequestDTO> dataFromCentralDates = requestService.findListCountRequestsByManagerAndPeriod(localStart, localEnd, ProgressStatus.CLOSED.getId(), id);
-                LocalDate local = loadGeneralList(requests, dataFromCentralDates, localStart, localEnd);
-                if (!(end.equals(local))) {
-                    requests.add(requestService.findCountRequestsByManagerAndSmallPeriod(local, end, ProgressStatus.CLOSED.getId(), id));
-                }
-                break;
-        }
-        return requests;
+        return requestService.findBucketedCountRequestsByManagerAndPeriod(start, end, ProgressStatus.CLOSED.getId(), id, granularity);
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public byte[] generateRequestPDFReport(Long requestId) {
-        requestReportPdfBuilder.setRequest(requestDao.findOne(requestId));
-        requestReportPdfBuilder.setSubRequests(requestDao.findSubRequests(requestId));
-        requestReportPdfBuilder.setJoinedRequests(requestDao.findJoinedRequests(requestId));
-        requestReportPdfBuilder.setHistoryList(historyService.findHistoryList(requestId));
+    public void writeRequestPDFReport(Long requestId, OutputStream outputStream) {
+        writePdf(outputStream, "report for request with id: " + requestId, document -> {
+            Request request = requestDao.findOne(requestId);
+            if (request == null) {
+                throw new NoSuchEntityException("Request with given id: " + requestId + " is absent in DB");
+            }
+            RequestReportSpec spec = new RequestReportSpec(request,
+                    requestDao.findSubRequests(requestId),
+                    requestDao.findJoinedRequests(requestId),
+                    historyService.findHistoryList(requestId));
+            requestReportPdfBuilder.buildPdfDocument(document, spec);
+        });
+    }
 
+    /**
+     * Writes pdf document built by given builder to the stream. Data of the report is loaded by the builder too,
+     * so any failure is reported as {@link ReportGenerationException}. On failure document is still closed,
+     * but the stream is left open so caller can discard what was buffered and report an error instead.
+     *
+     * @param outputStream stream the pdf document is written to.
+     * @param description  report description used in error message.
+     * @param builder      fills and closes the document.
+     * @throws ReportGenerationException if document could not be built.
+     */
+    private void writePdf(OutputStream outputStream, String description, PdfDocumentBuilder builder) {
         Document document = new Document();
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        PdfWriter writer = null;
+        boolean completed = false;
         try {
-            PdfWriter.getInstance(document, byteArrayOutputStream);
-            requestReportPdfBuilder.buildPdfDocument(document);
+            writer = PdfWriter.getInstance(document, outputStream);
+            builder.build(document);
+            completed = true;
         } catch (Exception e) {
-            e.printStackTrace();
+            throw new ReportGenerationException("Failed to write " + description, e);
+        } finally {
+            if (document.isOpen()) {
+                if (!completed && writer != null) {
+                    writer.setCloseStream(false);
+                }
+                try {
+                    document.close();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to close pdf document of " + description, e);
+                }
+            }
         }
-        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Fills pdf document with report content.
+     */
+    @FunctionalInterface
+    private interface PdfDocumentBuilder {
+        void build(Document document) throws Exception;
     }
 }
@@ -1,36 +1,53 @@
 package com.overseer.service.impl;
 
+import com.overseer.caching.SimpleInMemoryCache;
+import com.overseer.caching.impl.SimpleInMemoryCacheImpl;
 import com.overseer.dao.CommentDao;
 import com.overseer.dao.RequestDao;
 import com.overseer.dao.RequestSubscribersDao;
 import com.overseer.dao.UserDao;
+import com.overseer.dto.DashboardStatsDTO;
 import com.overseer.dto.DeadlineDTO;
 import com.overseer.dto.RequestDTO;
 import com.overseer.dto.RequestSearchDTO;
+import com.overseer.dto.RequestSearchResultDTO;
+import com.overseer.dto.UserStatisticDTO;
 import com.overseer.event.ChangeProgressEvent;
 import com.overseer.event.JoinRequestEvent;
 import com.overseer.exception.InappropriateProgressStatusException;
+import com.overseer.exception.entity.EntityAlreadyExistsException;
 import com.overseer.exception.entity.NoSuchEntityException;
 import com.overseer.model.PriorityStatus;
 import com.overseer.model.Request;
 import com.overseer.model.User;
 import com.overseer.model.enums.ProgressStatus;
+import com.overseer.search.RequestSearchService;
+import com.overseer.service.CountService;
+import com.overseer.service.DashboardCounterService;
 import com.overseer.service.RequestService;
-import com.overseer.service.impl.builder.SqlQueryBuilder;
+import com.overseer.service.impl.builder.SearchCriteriaBuilder;
+import com.overseer.util.FullTextQueryBuilder;
 import com.overseer.util.LocalDateFormatter;
+import com.overseer.util.TimeBucketCalculator;
+import com.overseer.util.TimeGranularity;
+import com.overseer.util.TransactionUtils;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.Assert;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -42,21 +59,35 @@ import java.util.stream.Collectors;
 public class RequestServiceImpl extends CrudServiceImpl<Request> implements RequestService, ApplicationEventPublisherAware {
 
     private static final short DEFAULT_PAGE_SIZE = 20;
+    private static final long USER_STATISTIC_CACHE_LIFE_TIME_SECONDS = 600;
+
+    /**
+     * Statistic of user profile by user id and start of the period, evicted when requests of the user change.
+     */
+    private final SimpleInMemoryCache<Long, Map<LocalDate, UserStatisticDTO>> userStatisticCache =
+            new SimpleInMemoryCacheImpl<>(USER_STATISTIC_CACHE_LIFE_TIME_SECONDS);
 
     private RequestSubscribersDao requestSubscribersDao;
     private CommentDao commentDao;
     private RequestDao requestDao;
     private UserDao userDao;
+    private DashboardCounterService dashboardCounterService;
+    private CountService countService;
+    private RequestSearchService requestSearchService;
 
     private ApplicationEventPublisher publisher;
 
     public RequestServiceImpl(RequestDao requestDao, UserDao userDao, RequestSubscribersDao requestSubscribersDao,
-                              CommentDao commentDao) {
+                              CommentDao commentDao, DashboardCounterService dashboardCounterService,
+                              CountService countService, RequestSearchService requestSearchService) {
         super(requestDao);
         this.userDao = userDao;
         this.requestDao = requestDao;
         this.requestSubscribersDao = requestSubscribersDao;
         this.commentDao = commentDao;
+        this.dashboardCounterService = dashboardCounterService;
+        this.countService = countService;
+        this.requestSearchService = requestSearchService;
     }
 
     @Override
@@ -66,6 +97,19 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
 
     //-----------------------CRUD---------------------------
 
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Request create(Request request) throws EntityAlreadyExistsException {
+        Request createdRequest = super.create(request);
+        dashboardCounterService.requestCreated(createdRequest);
+        evictUserStatistic(createdRequest);
+        countCreatedRequest(createdRequest);
+        requestSearchService.reindex(Collections.singletonList(createdRequest.getId()));
+        return createdRequest;
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -73,7 +117,9 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
     public Request update(Request request) throws NoSuchEntityException {
         Assert.notNull(request, "request must not be null");
         log.debug("Updating request with id: {} ", request.getId());
-        return super.update(request);
+        Request updatedRequest = super.update(request);
+        requestSearchService.reindex(Collections.singletonList(updatedRequest.getId()));
+        return updatedRequest;
     }
 
     /**
@@ -83,11 +129,16 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
     public void delete(Long idRequest) {
         Assert.notNull(idRequest, "id of request must not be null");
         log.debug("Delete request with id: {} ", idRequest);
-        Long requestId = requestDao.findOne(idRequest).getId();
+        Request request = requestDao.findOne(idRequest);
+        Long requestId = request.getId();
         requestSubscribersDao.unsubscribeAll(requestId);
         commentDao.deleteAllByRequest(requestId);
         requestDao.deleteAllSubRequestByParent(requestId);
         super.delete(requestId);
+        dashboardCounterService.markStale();
+        evictUserStatistic(request);
+        countService.invalidate(CountService.REQUEST_PREFIX);
+        requestSearchService.reindex(Collections.singletonList(requestId));
     }
 
     //-----------------------FIND---------------------------
@@ -215,7 +266,7 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
 
     @Override
     public List<Request> searchRequests(RequestSearchDTO searchDTO) {
-        SqlQueryBuilder sqlQueryBuilder = new SqlQueryBuilder();
+        SearchCriteriaBuilder sqlQueryBuilder = new SearchCriteriaBuilder();
 
         sqlQueryBuilder.where().isNull("r.parent_id");
 
@@ -236,7 +287,11 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
 
         String estimate = searchDTO.getEstimate();
         if (!estimate.isEmpty()) {
-            sqlQueryBuilder.and().equal("r.estimate_time_in_days", estimate);
+            Integer estimateInDays = parseEstimate(estimate);
+            if (estimateInDays == null) {
+                return Collections.emptyList();
+            }
+            sqlQueryBuilder.and().equal("r.estimate_time_in_days", estimateInDays);
         }
 
         String progress = searchDTO.getProgress();
@@ -259,84 +314,75 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
 
         String query = sqlQueryBuilder.build();
 
-        return requestDao.searchRequests(query);
+        return requestDao.searchRequests(query, sqlQueryBuilder.getParameters());
     }
 
-    //-----------------------REPORT---------------------------
-
-    /**
-     * {@inheritDoc}.
-     */
     @Override
-    public RequestDTO findCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId) {
-        Assert.notNull(start, "Start date must be not null");
-        Assert.notNull(end, "End date must be not null");
-        RequestDTO requestDTO = this.requestDao.findCountRequestsByPeriod(start, end, progressStatusId);
-        log.debug("Fetched {} count of requests for period {} - {}", requestDTO, start, end);
-        return requestDTO;
-    }
-
-    /**
-     * {@inheritDoc}.
-     */
-    @Override
-    public RequestDTO findCountRequestsBySmallPeriod(LocalDate start, LocalDate end, Long progressStatusId) {
-        Assert.notNull(start, "Start date must be not null");
-        Assert.notNull(end, "End date must be not null");
-        RequestDTO requestDTO = this.requestDao.findCountRequestsBySmallPeriod(start, end, progressStatusId);
-        log.debug("Fetched {} count of requests for period {} - {}", requestDTO, start, end);
-        return requestDTO;
+    public RequestSearchResultDTO searchRequests(String text, int pageNumber, int size) {
+        Assert.state(size > 0, "page size must be greater then 0");
+        String tsQuery = FullTextQueryBuilder.toPrefixQuery(text);
+        if (tsQuery.isEmpty()) {
+            return new RequestSearchResultDTO(Collections.emptyList(), 0);
+        }
+        List<Request> requests = requestDao.fullTextSearch(tsQuery, size, pageNumber);
+        long totalHits = requests.size() < size && pageNumber == 1
+                ? requests.size()
+                : requestDao.countFullTextSearch(tsQuery);
+        return new RequestSearchResultDTO(requests, totalHits);
     }
 
     /**
-     * {@inheritDoc}.
+     * Parses estimate search parameter.
+     *
+     * @param estimate estimate in days
+     * @return estimate or <code>null</code> if it is not a number, so that nothing can match it
      */
-    @Override
-    public List<RequestDTO> findListCountRequestsByPeriod(LocalDate beginDate, LocalDate endDate, Long progressStatusId) {
-        Assert.notNull(beginDate, "Start date must be not null");
-        Assert.notNull(endDate, "End date must be not null");
-        List<RequestDTO> list = this.requestDao.findListCountRequestsByPeriod(beginDate, endDate, progressStatusId);
-        log.debug("Fetched {} request DTO's for period {} - {}", list.size(), beginDate, endDate);
-        return list;
+    private Integer parseEstimate(String estimate) {
+        try {
+            return Integer.valueOf(estimate.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
-    /**
-     * {@inheritDoc}.
-     */
-    @Override
-    public RequestDTO findCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id) {
-        Assert.notNull(start, "Start date must be not null");
-        Assert.notNull(end, "End date must be not null");
-        Assert.notNull(id, "Manager id must be not null");
-        RequestDTO requestDTO = this.requestDao.findCountRequestsByManagerAndPeriod(start, end, progressStatusId, id);
-        log.debug("Fetched {} count of requests for period {} - {}", requestDTO, start, end);
-        return requestDTO;
-    }
+    //-----------------------REPORT---------------------------
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public RequestDTO findCountRequestsByManagerAndSmallPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id) {
-        Assert.notNull(id, "Manager id must be not null");
+    public List<RequestDTO> findBucketedCountRequestsByPeriod(LocalDate start, LocalDate end, Long progressStatusId,
+                                                              TimeGranularity granularity) {
         Assert.notNull(start, "Start date must be not null");
         Assert.notNull(end, "End date must be not null");
-        RequestDTO request = this.requestDao.findCountRequestsByManagerAndSmallPeriod(start, end, progressStatusId, id);
-        log.debug("Fetched {} count of requests for period {} - {}", request, start, end);
-        return request;
+        if (start.isAfter(end)) {
+            return new ArrayList<>();
+        }
+        // callers pass the last day of the period, queries and buckets take exclusive end
+        LocalDate exclusiveEnd = end.plusDays(1);
+        val days = this.requestDao.findDailyCountRequestsByPeriod(start, exclusiveEnd, progressStatusId);
+        val buckets = TimeBucketCalculator.getBuckets(start, exclusiveEnd, days, granularity);
+        log.debug("Fetched {} buckets by {} for period {} - {}", buckets.size(), granularity, start, end);
+        return buckets;
     }
 
     /**
      * {@inheritDoc}.
      */
     @Override
-    public List<RequestDTO> findListCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id) {
+    public List<RequestDTO> findBucketedCountRequestsByManagerAndPeriod(LocalDate start, LocalDate end, Long progressStatusId, int id,
+                                                                        TimeGranularity granularity) {
         Assert.notNull(start, "Start date must be not null");
         Assert.notNull(end, "End date must be not null");
-        Assert.notNull(id, "Manager id must be not null");
-        val list = this.requestDao.findListCountRequestsByManagerAndPeriod(start, end, progressStatusId, id);
-        log.debug("Fetched {} request DTO's for period {} - {}", list.size(), start, end);
-        return list;
+        if (start.isAfter(end)) {
+            return new ArrayList<>();
+        }
+        // callers pass the last day of the period, queries and buckets take exclusive end
+        LocalDate exclusiveEnd = end.plusDays(1);
+        val days = this.requestDao.findDailyCountRequestsByManagerAndPeriod(start, exclusiveEnd, progressStatusId, id);
+        val buckets = TimeBucketCalculator.getBuckets(start, exclusiveEnd, days, granularity);
+        log.debug("Fetched {} buckets by {} for manager {} and period {} - {}", buckets.size(), granularity, id, start, end);
+        return buckets;
     }
 
     /**
@@ -358,16 +404,59 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
      * {@inheritDoc}.
      */
     @Override
-    public List<Long> quantityByProgressStatusForUser(Long userId) {
-        return requestDao.countRequestByProgressStatusForUser(userId);
+    public UserStatisticDTO getStatisticForUser(Long userId, Long howLong) {
+        Assert.notNull(userId, "id of user must not be null");
+        Assert.notNull(howLong, "period must not be null");
+        LocalDate since = LocalDate.now().minusMonths(howLong);
+        return userStatisticCache.computeIfAbsent(userId, ConcurrentHashMap::new)
+                .computeIfAbsent(since, date -> requestDao.statisticForUser(userId, date));
     }
 
     /**
-     * {@inheritDoc}.
+     * Evicts statistic of reporter of the request which changed progress status
+     * and of reporters of joined requests which were closed together with it.
+     *
+     * @param changeProgressEvent event of changing progress status
      */
-    @Override
-    public List<Long> quantityOpenClosedRequestForUser(Long userId, Long howLong) {
-        return requestDao.countOpenClosedRequestForUser(userId, howLong);
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictUserStatistic(ChangeProgressEvent changeProgressEvent) {
+        evictUserStatistic(changeProgressEvent.getRequest());
+        changeProgressEvent.getChangedJoinedRequests().forEach(this::evictUserStatistic);
+    }
+
+    /**
+     * Evicts statistic of reporters of joined requests and of parent request.
+     *
+     * @param joinRequestEvent event of joining requests
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictUserStatistic(JoinRequestEvent joinRequestEvent) {
+        evictUserStatistic(joinRequestEvent.getParentRequest());
+        joinRequestEvent.getJoinedRequests().forEach(this::evictUserStatistic);
+    }
+
+    /**
+     * Evicts cached statistic of the request reporter once current transaction is committed.
+     *
+     * @param request changed request
+     */
+    private void evictUserStatistic(Request request) {
+        if (request != null && request.getReporter() != null) {
+            evictUserStatistic(request.getReporter().getId());
+        }
+    }
+
+    /**
+     * Evicts cached statistic of the user once current transaction is committed,
+     * so that statistic is not reloaded from uncommitted state.
+     *
+     * @param userId id of user
+     */
+    private void evictUserStatistic(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> userStatisticCache.remove(userId));
     }
 
     //-----------------------LIFECYCLE---------------------------
@@ -379,7 +468,12 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
     public Request saveSubRequest(Request subRequest) {
         Assert.notNull(subRequest, "sub request must not be null");
         log.debug("Create sub request {} for parent request with id {}", subRequest, subRequest.getParentId());
-        return requestDao.save(subRequest);
+        Request createdSubRequest = requestDao.save(subRequest);
+        dashboardCounterService.requestCreated(createdSubRequest);
+        evictUserStatistic(createdSubRequest);
+        countCreatedRequest(createdSubRequest);
+        requestSearchService.reindex(Collections.singletonList(createdSubRequest.getId()));
+        return createdSubRequest;
     }
 
     /**
@@ -516,6 +610,10 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
         idsOfProgresStatuses.add(ProgressStatus.FREE.getId());
         List<Request> requests = requestDao.findRequestsByProgressStatusesAndReporterId(idsOfProgresStatuses, reporterId);
         requests.forEach(requestDao::delete);
+        dashboardCounterService.markStale();
+        evictUserStatistic(reporterId);
+        countService.invalidate(CountService.REQUEST_PREFIX);
+        requestSearchService.reindex(requests.stream().map(Request::getId).collect(Collectors.toList()));
     }
 
     //-----------------------COUNT---------------------------
@@ -524,7 +622,7 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
      * {@inheritDoc}.
      */
     @Override
-    public List<Long> countStatisticForAdminDashBoard(Long howLong) {
+    public DashboardStatsDTO countStatisticForAdminDashBoard(Long howLong) {
         return requestDao.statisticForAdminDashBoard(howLong);
     }
 
@@ -533,7 +631,7 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
      */
     @Override
     public Long getRunningRequestToday() {
-        return requestDao.countRequestsRunningToday();
+        return dashboardCounterService.getRequestsRunningToday();
     }
 
     /**
@@ -541,7 +639,7 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
      */
     @Override
     public Long countRequestsCreatedToday() {
-        return requestDao.countRequestsCreatedToday();
+        return dashboardCounterService.getRequestsCreatedToday();
     }
 
     /**
@@ -549,7 +647,7 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
      */
     @Override
     public Long countTotalUsers() {
-        return requestDao.countTotalUsers();
+        return dashboardCounterService.getTotalUsers();
     }
 
     /**
@@ -557,7 +655,16 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
      */
     @Override
     public Long countTotalRequests() {
-        return requestDao.countTotalRequests();
+        return dashboardCounterService.getTotalRequests();
+    }
+
+    /**
+     * {@inheritDoc}.
+     * Count excludes sub requests, so it is kept exact in memory instead of being estimated from the whole table.
+     */
+    @Override
+    public Long getCount() {
+        return countService.count(CountService.REQUESTS, super::getCount);
     }
 
     @Override
@@ -578,14 +685,15 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
 
     @Override
     public Long countFreeRequests() {
-        val freeRequestsQuantity = requestDao.countFree();
+        val freeRequestsQuantity = countService.count(CountService.FREE_REQUESTS, requestDao::countFree);
         log.debug("Counted {} requests with Free progress status", freeRequestsQuantity);
         return freeRequestsQuantity;
     }
 
     @Override
     public Long countRequestsByAssignee(Long assigneeId) {
-        val requestsByAssignee = requestDao.countRequestsByAssignee(assigneeId);
+        val requestsByAssignee = countService.count(CountService.REQUESTS_BY_ASSIGNEE + assigneeId,
+                () -> requestDao.countRequestsByAssignee(assigneeId));
         log.debug("Counted {} requests for user with id: {}", requestsByAssignee, assigneeId);
         return requestsByAssignee;
     }
@@ -595,6 +703,29 @@ public class RequestServiceImpl extends CrudServiceImpl<Request> implements Requ
         request.setDateOfCreation(LocalDateTime.now());
         request.setProgressStatus(ProgressStatus.FREE);
         request.setAssignee(new User());
-        return requestDao.save(request);
+        Request createdRequest = requestDao.save(request);
+        dashboardCounterService.requestCreated(createdRequest);
+        evictUserStatistic(createdRequest);
+        countCreatedRequest(createdRequest);
+        requestSearchService.reindex(Collections.singletonList(createdRequest.getId()));
+        return createdRequest;
+    }
+
+    /**
+     * Adjusts counts of paged request lists after request was created.
+     *
+     * @param request created request
+     */
+    private void countCreatedRequest(Request request) {
+        boolean assigned = request.getAssignee() != null && request.getAssignee().getId() != null;
+        if (request.getParentId() == null) {
+            countService.adjust(CountService.REQUESTS, 1);
+            if (request.getProgressStatus() == ProgressStatus.FREE && !assigned) {
+                countService.adjust(CountService.FREE_REQUESTS, 1);
+            }
+        }
+        if (assigned) {
+            countService.adjust(CountService.REQUESTS_BY_ASSIGNEE + request.getAssignee().getId(), 1);
+        }
     }
 }
@@ -6,7 +6,9 @@ import com.overseer.service.RequestSubscribeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@inheritDoc}.
@@ -36,4 +38,9 @@ public class RequestSubscribeServiceImpl implements RequestSubscribeService {
     public List<User> getSubscribersOfRequest(Long requestId) {
         return requestSubscribersDao.getSubscribersOfRequest(requestId);
     }
+
+    @Override
+    public Map<Long, List<User>> getSubscribersOfRequests(Collection<Long> requestIds) {
+        return requestSubscribersDao.getSubscribersOfRequests(requestIds);
+    }
 }
@@ -2,11 +2,15 @@ package com.overseer.service.impl;
 
 import com.overseer.dao.MessageDao;
 import com.overseer.dao.TopicDao;
+import com.overseer.event.MessageSavedEvent;
 import com.overseer.exception.entity.EntityAlreadyExistsException;
 import com.overseer.model.Message;
 import com.overseer.model.Topic;
+import com.overseer.service.CountService;
 import com.overseer.service.TopicService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
@@ -19,16 +23,26 @@ import java.util.List;
  */
 @Service
 @Slf4j
-public class TopicServiceImpl extends CrudServiceImpl<Topic> implements TopicService {
+public class TopicServiceImpl extends CrudServiceImpl<Topic> implements TopicService, ApplicationEventPublisherAware {
 
     private TopicDao topicDao;
 
     private MessageDao messageDao;
 
-    public TopicServiceImpl(TopicDao topicDao, MessageDao messageDao) {
+    private CountService countService;
+
+    private ApplicationEventPublisher publisher;
+
+    public TopicServiceImpl(TopicDao topicDao, MessageDao messageDao, CountService countService) {
         super(topicDao);
         this.topicDao = topicDao;
         this.messageDao = messageDao;
+        this.countService = countService;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.publisher = applicationEventPublisher;
     }
 
     /**
@@ -44,7 +58,9 @@ public class TopicServiceImpl extends CrudServiceImpl<Topic> implements TopicSer
             throw new EntityAlreadyExistsException("Failed to perform create operation. Topic with this title is already existed: " + entity);
         }
 
-        return topicDao.save(entity);
+        Topic createdTopic = topicDao.save(entity);
+        countService.adjust(CountService.TOPICS, 1);
+        return createdTopic;
     }
 
     /**
@@ -56,6 +72,15 @@ public class TopicServiceImpl extends CrudServiceImpl<Topic> implements TopicSer
         log.debug("Deleting entity with id: {}", id);
         topicDao.delete(id);
         messageDao.deleteByTopicId(id);
+        countService.adjust(CountService.TOPICS, -1);
+    }
+
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public Long getCount() {
+        return countService.approximateCount(CountService.TOPICS, "topic", super::getCount);
     }
 
     /**
@@ -72,7 +97,9 @@ public class TopicServiceImpl extends CrudServiceImpl<Topic> implements TopicSer
      */
     @Override
     public Message saveTopicMessage(Message message) {
-        return topicDao.saveTopicMessage(message);
+        Message savedMessage = topicDao.saveTopicMessage(message);
+        publisher.publishEvent(new MessageSavedEvent(this, savedMessage));
+        return savedMessage;
     }
 
     /**
@@ -85,5 +112,15 @@ public class TopicServiceImpl extends CrudServiceImpl<Topic> implements TopicSer
         return topics;
     }
 
+    /**
+     * {@inheritDoc}.
+     */
+    @Override
+    public List<Topic> fetchPageAfter(String afterTitle, int size) {
+        List<Topic> topics = topicDao.fetchPageAfter(afterTitle, size);
+        log.debug("Fetched {} topics after title: {}", topics.size(), afterTitle);
+        return topics;
+    }
+
     
 }
@@ -8,11 +8,13 @@ import com.overseer.exception.entity.EntityAlreadyExistsException;
 import com.overseer.exception.entity.NoSuchEntityException;
 import com.overseer.model.Role;
 import com.overseer.model.User;
+import com.overseer.service.CountService;
+import com.overseer.service.DashboardCounterService;
 import com.overseer.service.EmailBuilder;
 import com.overseer.service.EmailService;
 import com.overseer.service.RequestService;
 import com.overseer.service.UserService;
-import com.overseer.service.impl.builder.SqlQueryBuilder;
+import com.overseer.service.impl.builder.SearchCriteriaBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -44,15 +46,21 @@ public class UserServiceImpl extends CrudServiceImpl<User> implements UserServic
     private EmailBuilder<User> emailStrategy;
     private UserDao userDao;
     private RequestService requestService;
+    private DashboardCounterService dashboardCounterService;
+    private CountService countService;
 
     public UserServiceImpl(UserDao userDao,
                            RequestService requestService,
                            SecurityContextService securityContextService,
                            EmailService emailService,
-                           @Qualifier("recoverBuilderImpl") EmailBuilder<User> emailStrategy) {
+                           @Qualifier("recoverBuilderImpl") EmailBuilder<User> emailStrategy,
+                           DashboardCounterService dashboardCounterService,
+                           CountService countService) {
         super(userDao);
         this.userDao = userDao;
         this.requestService = requestService;
+        this.dashboardCounterService = dashboardCounterService;
+        this.countService = countService;
         this.securityContextService = securityContextService;
         this.emailService = emailService;
         this.emailStrategy = emailStrategy;
@@ -66,7 +74,10 @@ public class UserServiceImpl extends CrudServiceImpl<User> implements UserServic
         if (!this.emailAvailable(user)) {
             throw new EntityAlreadyExistsException("Supplied email is already taken: " + user.getEmail());
         }
-        return super.create(user);
+        User createdUser = super.create(user);
+        dashboardCounterService.userCreated();
+        countService.adjust(CountService.USERS, 1);
+        return createdUser;
     }
 
     /**
@@ -84,6 +95,8 @@ public class UserServiceImpl extends CrudServiceImpl<User> implements UserServic
         requestService.closeAllRequestsOfGivenReporter(id);
         requestService.deleteAllFreeRequestsOfGivenReporter(id);
         super.delete(id);
+        dashboardCounterService.userDeleted();
+        countService.adjust(CountService.USERS, -1);
     }
 
     /**
@@ -172,6 +185,17 @@ public class UserServiceImpl extends CrudServiceImpl<User> implements UserServic
         Assert.notNull(id, "id must not be null");
         log.debug("Activating entity with id: {}", id);
         userDao.activate(id);
+        dashboardCounterService.userCreated();
+        countService.adjust(CountService.USERS, 1);
+    }
+
+    /**
+     * {@inheritDoc}.
+     * Count excludes deactivated users, so it is kept exact in memory instead of being estimated from the whole table.
+     */
+    @Override
+    public Long getCount() {
+        return countService.count(CountService.USERS, super::getCount);
     }
 
     /**
@@ -188,7 +212,7 @@ public class UserServiceImpl extends CrudServiceImpl<User> implements UserServic
      */
     @Override
     public List<User> searchUsers(UserSearchDTO searchDTO) {
-        SqlQueryBuilder sqlQueryBuilder = new SqlQueryBuilder();
+        SearchCriteriaBuilder sqlQueryBuilder = new SearchCriteriaBuilder();
 
         sqlQueryBuilder.where().notNull("u.role");
 
@@ -227,7 +251,7 @@ public class UserServiceImpl extends CrudServiceImpl<User> implements UserServic
 
         String query = sqlQueryBuilder.build();
 
-        return userDao.searchRequests(query);
+        return userDao.searchRequests(query, sqlQueryBuilder.getParameters());
     }
 
     /**
@@ -0,0 +1,131 @@
+package com.overseer.service.impl.builder;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds sql 'WHERE' conditions of search queries with named parameters instead of inlined values.
+ * Values never become part of the sql text, so the same set of filters always produces the same statement,
+ * which lets database reuse its plan and keeps user input out of the query.
+ */
+public class SearchCriteriaBuilder {
+    private static final String PARAMETER_PREFIX = "p";
+    private static final String LIMIT_PARAMETER = "limit";
+
+    private final StringBuilder builder;
+    private final Map<String, Object> parameters;
+
+    public SearchCriteriaBuilder() {
+        this.builder = new StringBuilder();
+        this.parameters = new LinkedHashMap<>();
+    }
+
+    public SearchCriteriaBuilder where() {
+        builder.append(" WHERE ");
+        return this;
+    }
+
+    public SearchCriteriaBuilder and() {
+        builder.append(" AND ");
+        return this;
+    }
+
+    public SearchCriteriaBuilder or() {
+        builder.append(" OR ");
+        return this;
+    }
+
+    public SearchCriteriaBuilder isNull(String field) {
+        builder.append(format(" %s IS NULL ", field));
+        return this;
+    }
+
+    public SearchCriteriaBuilder notNull(String field) {
+        builder.append(format(" %s IS NOT NULL ", field));
+        return this;
+    }
+
+    public SearchCriteriaBuilder is(String field) {
+        builder.append(field);
+        return this;
+    }
+
+    public SearchCriteriaBuilder equal(String field, Object value) {
+        builder.append(format("%s = :%s", field, addParameter(value)));
+        return this;
+    }
+
+    public SearchCriteriaBuilder equalDate(String field, String value) {
+        builder.append(format("CAST(%s AS date) = CAST(:%s AS date)", field, addParameter(value)));
+        return this;
+    }
+
+    public SearchCriteriaBuilder like(String field, String value) {
+        builder.append(format("lower(%s) LIKE lower(:%s)", field, addParameter(containsPattern(value))));
+        return this;
+    }
+
+    public SearchCriteriaBuilder like(String[] fields, String value) {
+        builder.append(format("lower(%s) LIKE lower(:%s)", concat(fields), addParameter(containsPattern(value))));
+        return this;
+    }
+
+    public SearchCriteriaBuilder limit(int value) {
+        builder.append(format(" LIMIT :%s", LIMIT_PARAMETER));
+        parameters.put(LIMIT_PARAMETER, value);
+        return this;
+    }
+
+    /**
+     * @return sql conditions with named parameters.
+     */
+    public String build() {
+        return builder.toString() + ";";
+    }
+
+    /**
+     * @return values of named parameters used in built conditions.
+     */
+    public Map<String, Object> getParameters() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    /**
+     * Registers value of next parameter.
+     *
+     * @param value value of parameter
+     * @return name of parameter
+     */
+    private String addParameter(Object value) {
+        String name = PARAMETER_PREFIX + parameters.size();
+        parameters.put(name, value);
+        return name;
+    }
+
+    /**
+     * Makes LIKE pattern which matches values containing given text literally.
+     *
+     * @param value searched text
+     * @return pattern with escaped wildcards
+     */
+    private String containsPattern(String value) {
+        String escaped = value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Joins non empty fields with space.
+     *
+     * @param values fields
+     * @return concatenation expression
+     */
+    private String concat(String... values) {
+        String formattedValues = Arrays.stream(values).filter(s -> !s.isEmpty()).collect(Collectors.joining(", "));
+        return format("concat_ws(' ', %s)", formattedValues);
+    }
+}
@@ -5,69 +5,70 @@ import static com.itextpdf.text.FontFactory.*;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.draw.LineSeparator;
+import com.overseer.dto.RequestDTO;
 import com.overseer.model.enums.ProgressStatus;
 import com.overseer.service.RequestService;
 import com.overseer.service.impl.builder.PdfPTableBuilder;
 import com.overseer.service.impl.builder.ReportDocumentBuilder;
 import com.overseer.util.LocalDateFormatter;
+import com.overseer.util.TimeGranularity;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Service;
 
-import java.net.URL;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Class for generating pdf reports for Administrator.
+ * Builder keeps no per-report state, all report parameters come with {@link AdminReportSpec}.
  */
 @Service
 @RequiredArgsConstructor
-@PropertySource("classpath:resources.properties")
 public class AdminReportBuilder {
 
-    @Value("${reports.image.logo}")
-    private String logoImg;
-
-    @Value("${reports.gravatar.link}")
-    private String gravatarLink;
-
-    private String start;
-    private String end;
-    private int countTop;
-    private String encryptedEmail;
     private final RequestService requestService;
+    private final ExecutorService reportSectionExecutor;
+    private final ReportAssetCache reportAssetCache;
 
+    private static final int AVATAR_SIZE = 150;
     private static final float DEFAULT_TABLE_WIDTH = 100.0f;
     private static final int DEFAULT_TABLE_SPACING = 10;
 
-    public void setDatePeriod(String start, String end, int countTop, String encryptedEmail) {
-        this.start = start;
-        this.end = end;
-        this.countTop = countTop;
-        this.encryptedEmail = encryptedEmail;
+    /**
+     * Starts loading count of requests with given progress status by period on report section executor.
+     *
+     * @param beginDate      date from.
+     * @param endDate        date to.
+     * @param progressStatus progress status.
+     * @return future with list of request transfer objects.
+     */
+    private CompletableFuture<java.util.List<RequestDTO>> loadCountRequestsByPeriod(String beginDate, String endDate,
+                                                                                   ProgressStatus progressStatus) {
+        return CompletableFuture.supplyAsync(() -> {
+            LocalDate start = LocalDate.parse(beginDate, LocalDateFormatter.FORMATTER);
+            LocalDate end = LocalDate.parse(endDate, LocalDateFormatter.FORMATTER);
+            return requestService.findBucketedCountRequestsByPeriod(start, end, progressStatus.getId(), TimeGranularity.MONTH);
+        }, reportSectionExecutor);
     }
 
     /**
-     * Gets period and load PdfPTable with data for adding in report.
+     * Load PdfPTable with data for adding in report.
      *
-     * @param beginDate date from.
-     * @param endDate   date to.
+     * @param collection     count of requests by period.
+     * @param progressStatus progress status the requests were counted for.
      * @return return configured PdfPTable with data.
      */
-    private PdfPTable getTableWithCountRequestsByPeriod(String beginDate, String endDate, ProgressStatus progressStatus) throws DocumentException {
-        LocalDate start = LocalDate.parse(beginDate, LocalDateFormatter.FORMATTER);
-        LocalDate end = LocalDate.parse(endDate, LocalDateFormatter.FORMATTER);
-        val collection = requestService.findListCountRequestsByPeriod(start, end, progressStatus.getId());
+    private PdfPTable getTableWithCountRequestsByPeriod(java.util.List<RequestDTO> collection, ProgressStatus progressStatus) throws DocumentException {
 
         final int tableColumnNum = 3;
         final int colorR = 185;
         final int colorG = 247;
         final int colorB = 166;
         PdfPTable table = new PdfPTableBuilder(tableColumnNum, DEFAULT_TABLE_WIDTH, DEFAULT_TABLE_SPACING)
-                .addPdfPCells(new BaseColor(colorR, colorG, colorB), getFont(HELVETICA_BOLD),
+                .addPdfPCells(new BaseColor(colorR, colorG, colorB), reportAssetCache.getFont(HELVETICA_BOLD),
                         "Count of " + progressStatus.getName() + " requests", "Start Date", "End Date")
                 .build();
         collection
@@ -81,15 +82,13 @@ public class AdminReportBuilder {
     }
 
     /**
-     * Gets period and load it to PDF list.
+     * Load best managers to PDF list.
      *
-     * @param start date from.
-     * @param end   date to.
+     * @param collection best managers in period.
      * @return return configured Pdf list with data.
      */
-    private List getListWithBestManagers(String start, String end, int countTop) {
+    private List getListWithBestManagers(java.util.List<RequestDTO> collection) {
         List list = new List();
-        val collection = requestService.findBestManagersByPeriod(start, end, ProgressStatus.CLOSED.getId(), countTop);
         for (int i = 0; i < collection.size(); i++) {
             list.add(new ListItem(String.valueOf(i + 1)) + " " + new ListItem("Closed requests") + " " + collection.get(i).getCount()
                     + " " + new ListItem("Name") + " " + collection.get(i).getManagerFirstName() + " " + collection.get(i).getManagerLastName());
@@ -102,9 +101,10 @@ public class AdminReportBuilder {
      * Gets period and load it to PDF list.
      *
      * @param document new pdf document.
+     * @param spec     report parameters.
      * @return return configured Pdf list with data.
      */
-    public Document buildPdfDocument(Document document) throws Exception {
+    public Document buildPdfDocument(Document document, AdminReportSpec spec) throws Exception {
 
         final int countNewLine = 8;
         final float imgLogoX = 370f;
@@ -112,27 +112,35 @@ public class AdminReportBuilder {
         final float imgAvatarX = 60f;
         final float imgAvatarY = 680f;
         final int fontSize = 8;
-        Font font = getFont(HELVETICA, fontSize);
+        Font font = reportAssetCache.getFont(HELVETICA, fontSize);
         val dateNow = LocalDateTime.now();
+        String start = spec.getStart();
+        String end = spec.getEnd();
+
+        // independent sections are loaded concurrently and rendered in order once all of them completed
+        val freeRequests = loadCountRequestsByPeriod(start, end, ProgressStatus.FREE);
+        val inProgressRequests = loadCountRequestsByPeriod(start, end, ProgressStatus.IN_PROGRESS);
+        val bestManagers = CompletableFuture.supplyAsync(() -> requestService.findBestManagersByPeriod(start, end,
+                ProgressStatus.CLOSED.getId(), spec.getCountTop()), reportSectionExecutor);
 
         return new ReportDocumentBuilder(document)
-                .addImage(Image.getInstance(new URL(this.gravatarLink + this.encryptedEmail + "?s=150")), imgAvatarX, imgAvatarY)
-                .addImage(Image.getInstance(getClass().getClassLoader().getResource(logoImg)), imgLogoX, imgLogoY)
+                .addImage(reportAssetCache.getAvatar(spec.getEncryptedEmail(), AVATAR_SIZE), imgAvatarX, imgAvatarY)
+                .addImage(reportAssetCache.getLogo(), imgLogoX, imgLogoY)
                 .addNewLine(countNewLine)
                 .addParagraph(new Paragraph(dateNow.toLocalDate().toString() + ": " + dateNow.toLocalTime().toString()), Element.ALIGN_LEFT)
                 .addParagraph(new Paragraph("ADMIN REPORTS"), Element.ALIGN_TOP)
-                .addParagraph(new Paragraph("For period: " + this.start + " : " + this.end, getFont(HELVETICA_BOLD)), Paragraph.ALIGN_LEFT)
+                .addParagraph(new Paragraph("For period: " + start + " : " + end, reportAssetCache.getFont(HELVETICA_BOLD)), Paragraph.ALIGN_LEFT)
                 .addLineSeparator(new LineSeparator())
                 .addLineSeparator(new LineSeparator())
                 .addParagraph(new Paragraph("Statistics of created requests in period from "
                         + start + " to " + end), Element.ALIGN_CENTER)
                 .addParagraph(new Paragraph("Node: Data are presented with rounding up to a near month", font), Element.ALIGN_LEFT)
-                .addTable(getTableWithCountRequestsByPeriod(start, end, ProgressStatus.FREE))
-                .addTable(getTableWithCountRequestsByPeriod(start, end, ProgressStatus.IN_PROGRESS))
+                .addTable(getTableWithCountRequestsByPeriod(freeRequests.join(), ProgressStatus.FREE))
+                .addTable(getTableWithCountRequestsByPeriod(inProgressRequests.join(), ProgressStatus.IN_PROGRESS))
                 .addLineSeparator(new LineSeparator())
                 .addParagraph(new Paragraph("Best managers: "), Element.ALIGN_CENTER)
                 .addParagraph(new Paragraph("Node: Data are presented with rounding up to a month", font), Element.ALIGN_LEFT)
-                .addList(getListWithBestManagers(start, end, countTop))
+                .addList(getListWithBestManagers(bestManagers.join()))
                 .buildDocument();
     }
 }
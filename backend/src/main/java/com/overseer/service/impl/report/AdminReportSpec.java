@@ -0,0 +1,14 @@
+package com.overseer.service.impl.report;
+
+import lombok.Value;
+
+/**
+ * Immutable parameters of a single admin report, passed to {@link AdminReportBuilder} per invocation.
+ */
+@Value
+public class AdminReportSpec {
+    private final String start;
+    private final String end;
+    private final int countTop;
+    private final String encryptedEmail;
+}
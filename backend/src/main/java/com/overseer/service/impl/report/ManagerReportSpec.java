@@ -0,0 +1,14 @@
+package com.overseer.service.impl.report;
+
+import lombok.Value;
+
+/**
+ * Immutable parameters of a single office manager report, passed to {@link ManagerReportBuilder} per invocation.
+ */
+@Value
+public class ManagerReportSpec {
+    private final String start;
+    private final String end;
+    private final int managerId;
+    private final String encryptedEmail;
+}
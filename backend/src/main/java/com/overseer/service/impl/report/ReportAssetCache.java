@@ -0,0 +1,154 @@
+package com.overseer.service.impl.report;
+
+import com.itextpdf.text.BadElementException;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.FontFactory;
+import com.itextpdf.text.Image;
+import com.overseer.caching.impl.BoundedExpiringCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps images and fonts used by pdf reports, so rendering a report does not read the classpath
+ * or call gravatar every time.
+ * Logo and placeholder are decoded once per process, avatars are kept in a bounded cache for a limited time
+ * and replaced with placeholder when gravatar does not respond in time. Fonts are shared as prototypes only,
+ * every caller gets its own copy, as iText fonts are mutable.
+ */
+@Slf4j
+@Component
+@PropertySource("classpath:resources.properties")
+public class ReportAssetCache {
+
+    private final Image logo;
+    private final Image avatarPlaceholder;
+    private final String gravatarLink;
+    private final int avatarTimeoutMillis;
+    private final long avatarFailureCacheMillis;
+
+    private final BoundedExpiringCache<String, byte[]> avatarCache;
+    private final Map<String, Font> fonts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportAssetCache(@Value("${reports.image.logo}") String logoImg,
+                            @Value("${reports.image.avatar.placeholder}") String avatarPlaceholderImg,
+                            @Value("${reports.gravatar.link}") String gravatarLink,
+                            @Value("${reports.avatar.cache.seconds}") long avatarCacheSeconds,
+                            @Value("${reports.avatar.cache.size}") int avatarCacheSize,
+                            @Value("${reports.avatar.timeout.millis}") int avatarTimeoutMillis,
+                            @Value("${reports.avatar.failure.cache.seconds}") long avatarFailureCacheSeconds) {
+        this.logo = loadClasspathImage(logoImg);
+        this.avatarPlaceholder = loadClasspathImage(avatarPlaceholderImg);
+        this.gravatarLink = gravatarLink;
+        this.avatarTimeoutMillis = avatarTimeoutMillis;
+        this.avatarFailureCacheMillis = TimeUnit.SECONDS.toMillis(avatarFailureCacheSeconds);
+        this.avatarCache = new BoundedExpiringCache<>(avatarCacheSize, TimeUnit.SECONDS.toMillis(avatarCacheSeconds));
+    }
+
+    /**
+     * Returns copy of the report logo, so callers can position it independently.
+     *
+     * @return logo image.
+     */
+    public Image getLogo() throws BadElementException {
+        return Image.getInstance(logo);
+    }
+
+    /**
+     * Returns gravatar image of user, placeholder image is returned if gravatar can not be loaded.
+     *
+     * @param encryptedEmail user encrypted email.
+     * @param size           avatar size in pixels.
+     * @return avatar image.
+     */
+    public Image getAvatar(String encryptedEmail, int size) throws BadElementException {
+        String link = gravatarLink + encryptedEmail + "?s=" + size;
+        byte[] avatar = avatarCache.getData(link);
+        if (avatar == null) {
+            avatar = loadAvatar(link);
+            if (avatar.length == 0) {
+                // failure is kept only briefly, so gravatar is asked again soon
+                avatarCache.put(link, avatar, avatarFailureCacheMillis);
+            } else {
+                avatarCache.put(link, avatar);
+            }
+        }
+        if (avatar.length == 0) {
+            return Image.getInstance(avatarPlaceholder);
+        }
+        try {
+            return Image.getInstance(avatar);
+        } catch (IOException e) {
+            log.debug("Avatar {} can not be decoded, placeholder is used", link);
+            return Image.getInstance(avatarPlaceholder);
+        }
+    }
+
+    /**
+     * Returns new copy of font with given name, font is looked up once per process.
+     *
+     * @param fontName font name from {@link FontFactory}.
+     * @return font owned by caller.
+     */
+    public Font getFont(String fontName) {
+        return new Font(fonts.computeIfAbsent(fontName, FontFactory::getFont));
+    }
+
+    /**
+     * Returns new copy of font with given name and size, font is looked up once per process.
+     *
+     * @param fontName font name from {@link FontFactory}.
+     * @param size     font size.
+     * @return font owned by caller.
+     */
+    public Font getFont(String fontName, float size) {
+        return new Font(fonts.computeIfAbsent(fontName + ':' + size, key -> FontFactory.getFont(fontName, size)));
+    }
+
+    /**
+     * Downloads avatar, failed downloads are returned as empty array so they are cached for a short time
+     * and a slow gravatar does not slow down every report.
+     *
+     * @param link avatar link.
+     * @return image bytes or empty array.
+     */
+    private byte[] loadAvatar(String link) {
+        try {
+            URLConnection connection = new URL(link).openConnection();
+            connection.setConnectTimeout(avatarTimeoutMillis);
+            connection.setReadTimeout(avatarTimeoutMillis);
+            try (InputStream inputStream = connection.getInputStream()) {
+                return StreamUtils.copyToByteArray(inputStream);
+            }
+        } catch (IOException e) {
+            log.debug("Avatar {} can not be loaded, placeholder is used", link);
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Reads and decodes image from classpath.
+     *
+     * @param path image path.
+     * @return decoded image.
+     */
+    private Image loadClasspathImage(String path) {
+        try {
+            return Image.getInstance(getClass().getClassLoader().getResource(path));
+        } catch (BadElementException | IOException e) {
+            throw new IllegalStateException("Report image " + path + " can not be loaded", e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.overseer.service.impl.report;
 
 import static com.itextpdf.text.FontFactory.HELVETICA_BOLD;
-import static com.itextpdf.text.FontFactory.getFont;
 import static java.lang.String.format;
 import static java.lang.String.valueOf;
 
@@ -15,9 +14,6 @@ import com.overseer.service.HistoryService;
 import com.overseer.service.impl.builder.PdfPTableBuilder;
 import com.overseer.service.impl.builder.ReportDocumentBuilder;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.PropertySource;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -26,21 +22,14 @@ import java.util.List;
 
 /**
  * Class for generating pdf reports for request.
+ * Builder keeps no per-report state, all report data comes with {@link RequestReportSpec}.
  */
 @Service
 @RequiredArgsConstructor
-@Setter
-@PropertySource("classpath:resources.properties")
 public class RequestReportPdfBuilder {
 
-    @Value("${reports.image.logo}")
-    private String logoImg;
-
-    private Request request;
-    private List<Request> subRequests;
-    private List<Request> joinedRequests;
-    private List<History> historyList;
     private final HistoryService historyService;
+    private final ReportAssetCache reportAssetCache;
 
     private static final float DEFAULT_TABLE_WIDTH = 100.0f;
     private static final int DEFAULT_TABLE_SPACING = 10;
@@ -49,17 +38,22 @@ public class RequestReportPdfBuilder {
      * Method build pdf document.
      *
      * @param document new pdf document.
+     * @param spec     report data.
      * @return return configured Pdf list with data.
      */
-    public Document buildPdfDocument(Document document) throws Exception {
-        Font font = getFont(HELVETICA_BOLD);
+    public Document buildPdfDocument(Document document, RequestReportSpec spec) throws Exception {
+        Request request = spec.getRequest();
+        List<Request> subRequests = spec.getSubRequests();
+        List<Request> joinedRequests = spec.getJoinedRequests();
+        List<History> historyList = spec.getHistoryList();
+        Font font = reportAssetCache.getFont(HELVETICA_BOLD);
         final float imgLogoX = 370f;
         final float imgLogoY = 760f;
         final int detailsTableColumnNum = 2;
         final int countNewLine = 3;
 
         return new ReportDocumentBuilder(document)
-                .addImage(Image.getInstance(getClass().getClassLoader().getResource(logoImg)), imgLogoX, imgLogoY)
+                .addImage(reportAssetCache.getLogo(), imgLogoX, imgLogoY)
                 .addNewLine(countNewLine)
                 .addParagraph(new Paragraph("Details:", font), Paragraph.ALIGN_LEFT)
                 .addTable(new PdfPTableBuilder(detailsTableColumnNum, DEFAULT_TABLE_WIDTH, DEFAULT_TABLE_SPACING)
@@ -92,7 +86,7 @@ public class RequestReportPdfBuilder {
     private PdfPTable generateSubRequestsTable(List<Request> subRequests) {
         final int subRequestsTableColumnNum = 3;
         PdfPTable subRequestsTable = new PdfPTableBuilder(subRequestsTableColumnNum, DEFAULT_TABLE_WIDTH, DEFAULT_TABLE_SPACING)
-                .addPdfPCells(BaseColor.LIGHT_GRAY, getFont(HELVETICA_BOLD),
+                .addPdfPCells(BaseColor.LIGHT_GRAY, reportAssetCache.getFont(HELVETICA_BOLD),
                         "Title", "Description", "Date of creation")
                 .build();
 
@@ -115,7 +109,7 @@ public class RequestReportPdfBuilder {
     private PdfPTable generateJoinedRequestsTable(List<Request> joinedRequests) {
         final int joinedTableColumnNum = 5;
         PdfPTable joinedRequestsTable = new PdfPTableBuilder(joinedTableColumnNum, DEFAULT_TABLE_WIDTH, DEFAULT_TABLE_SPACING)
-                .addPdfPCells(BaseColor.LIGHT_GRAY, getFont(HELVETICA_BOLD),
+                .addPdfPCells(BaseColor.LIGHT_GRAY, reportAssetCache.getFont(HELVETICA_BOLD),
                         "Column name", "Reporter", "Priority", "Date of creation")
                 .build();
 
@@ -140,7 +134,7 @@ public class RequestReportPdfBuilder {
         final int joinedTableColumnNum = 3;
         final int maxNumberOfCharsInHistoryValue = 20;
         PdfPTable historyTable = new PdfPTableBuilder(joinedTableColumnNum, DEFAULT_TABLE_WIDTH, DEFAULT_TABLE_SPACING)
-                .addPdfPCells(BaseColor.LIGHT_GRAY, getFont(HELVETICA_BOLD),
+                .addPdfPCells(BaseColor.LIGHT_GRAY, reportAssetCache.getFont(HELVETICA_BOLD),
                         "Message", "Changer", "Date")
                 .build();
 
@@ -166,10 +160,8 @@ public class RequestReportPdfBuilder {
         if (user == null) {
             return "";
         }
-        if (user.getSecondName() == null) {
-            user.setSecondName("");
-        }
-        return format("%s %s %s", user.getLastName(), user.getFirstName(), user.getSecondName());
+        String secondName = user.getSecondName() == null ? "" : user.getSecondName();
+        return format("%s %s %s", user.getLastName(), user.getFirstName(), secondName);
     }
 
     /**
@@ -0,0 +1,27 @@
+package com.overseer.service.impl.report;
+
+import com.overseer.model.History;
+import com.overseer.model.Request;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable data of a single request report, passed to {@link RequestReportPdfBuilder} per invocation.
+ */
+@Value
+public class RequestReportSpec {
+    private final Request request;
+    private final List<Request> subRequests;
+    private final List<Request> joinedRequests;
+    private final List<History> historyList;
+
+    public RequestReportSpec(Request request, List<Request> subRequests, List<Request> joinedRequests, List<History> historyList) {
+        this.request = request;
+        this.subRequests = Collections.unmodifiableList(new ArrayList<>(subRequests));
+        this.joinedRequests = Collections.unmodifiableList(new ArrayList<>(joinedRequests));
+        this.historyList = Collections.unmodifiableList(new ArrayList<>(historyList));
+    }
+}
@@ -0,0 +1,198 @@
+package com.overseer.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Calendar of working days: weekends and configured public holidays are days off.
+ * Working days are added in constant time: whole weeks and remaining weekdays are added arithmetically,
+ * then the result is moved forward by the number of holidays it passed, counted in per year holiday bitsets.
+ */
+@Component
+@PropertySource("classpath:resources.properties")
+public class BusinessCalendar {
+    private static final int WORKING_DAYS_IN_WEEK = 5;
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int WEEKEND_DAYS = 2;
+    private static final int MONTH_DAY_LENGTH = 5;
+
+    private final Set<MonthDay> annualHolidays = new HashSet<>();
+    private final Set<LocalDate> holidays = new HashSet<>();
+    private final Map<Integer, BitSet> holidaysByYear = new ConcurrentHashMap<>();
+
+    /**
+     * Creates calendar with given holidays.
+     *
+     * @param holidays comma separated holidays, either 'MM-dd' for every year or 'yyyy-MM-dd' for a single date
+     */
+    @Autowired
+    public BusinessCalendar(@Value("${deadlines.holidays:}") String holidays) {
+        Arrays.stream(holidays.split(","))
+                .map(String::trim)
+                .filter(holiday -> !holiday.isEmpty())
+                .forEach(holiday -> {
+                    if (holiday.length() == MONTH_DAY_LENGTH) {
+                        annualHolidays.add(MonthDay.parse("--" + holiday));
+                    } else {
+                        this.holidays.add(LocalDate.parse(holiday));
+                    }
+                });
+    }
+
+    /**
+     * Calculates deadline date according to assign date and estimate time in working days.
+     * Assign date is the first day of the estimate.
+     *
+     * @param start    date of request assigning.
+     * @param estimate estimate time in working days.
+     * @return deadline date.
+     */
+    public LocalDate getDeadline(LocalDate start, int estimate) {
+        Assert.notNull(start, "start date must not be null");
+        return estimate > 1 ? plusWorkingDays(start, estimate - 1) : start;
+    }
+
+    /**
+     * Calculates deadlines of many requests at once.
+     *
+     * @param starts    dates of request assigning.
+     * @param estimates estimate times in working days, in the same order as dates.
+     * @return deadline dates in the same order as dates.
+     */
+    public LocalDate[] getDeadlines(LocalDate[] starts, int[] estimates) {
+        Assert.isTrue(starts.length == estimates.length, "every start date must have an estimate");
+        LocalDate[] deadlines = new LocalDate[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            deadlines[i] = getDeadline(starts[i], estimates[i]);
+        }
+        return deadlines;
+    }
+
+    /**
+     * Returns the working day which is given number of working days after the date.
+     *
+     * @param date start date, not counted.
+     * @param days number of working days, not negative.
+     * @return resulting working day, or the date itself for zero days.
+     */
+    public LocalDate plusWorkingDays(LocalDate date, int days) {
+        Assert.isTrue(days >= 0, "number of working days must not be negative");
+        LocalDate result = plusWeekdays(date, days);
+        int passedHolidays = countHolidays(date, result);
+        while (passedHolidays > 0) {
+            LocalDate next = plusWeekdays(result, passedHolidays);
+            passedHolidays = countHolidays(result, next);
+            result = next;
+        }
+        return result;
+    }
+
+    /**
+     * @param date date to check.
+     * @return <code>true</code> if date is neither weekend nor holiday.
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        return !isWeekend(date) && !holidaysOf(date.getYear()).get(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * Adds weekdays ignoring holidays: whole weeks at once, then the remainder with a weekend jump if it is crossed.
+     *
+     * @param date start date, not counted.
+     * @param days number of weekdays.
+     * @return resulting weekday, or the date itself for zero days.
+     */
+    private LocalDate plusWeekdays(LocalDate date, int days) {
+        if (days == 0) {
+            return date;
+        }
+        int dayOfWeek = date.getDayOfWeek().getValue();
+        LocalDate base = date;
+        if (dayOfWeek > WORKING_DAYS_IN_WEEK) {
+            // from weekend the next weekday is the same as from preceding Friday
+            base = date.minusDays(dayOfWeek - WORKING_DAYS_IN_WEEK);
+            dayOfWeek = WORKING_DAYS_IN_WEEK;
+        }
+        int weeks = days / WORKING_DAYS_IN_WEEK;
+        int remainder = days % WORKING_DAYS_IN_WEEK;
+        long shift = (long) weeks * DAYS_IN_WEEK + remainder;
+        if (dayOfWeek + remainder > WORKING_DAYS_IN_WEEK) {
+            shift += WEEKEND_DAYS;
+        }
+        return base.plusDays(shift);
+    }
+
+    /**
+     * Counts holidays falling on weekdays after one date up to another one.
+     *
+     * @param after first date, not counted.
+     * @param until last date, counted.
+     * @return number of holidays.
+     */
+    private int countHolidays(LocalDate after, LocalDate until) {
+        if (!until.isAfter(after)) {
+            return 0;
+        }
+        int count = 0;
+        for (int year = after.getYear(); year <= until.getYear(); year++) {
+            int from = year == after.getYear() ? after.getDayOfYear() : 0;
+            int to = year == until.getYear() ? until.getDayOfYear() : LocalDate.ofYearDay(year, 1).lengthOfYear();
+            count += holidaysOf(year).get(from, to).cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * Returns holidays of the year which fall on weekdays, computed once per year.
+     *
+     * @param year year.
+     * @return bitset indexed by day of year minus one.
+     */
+    private BitSet holidaysOf(int year) {
+        return holidaysByYear.computeIfAbsent(year, y -> {
+            BitSet bits = new BitSet(LocalDate.ofYearDay(y, 1).lengthOfYear());
+            annualHolidays.stream()
+                    .filter(monthDay -> monthDay.isValidYear(y))
+                    .map(monthDay -> monthDay.atYear(y))
+                    .forEach(date -> markWeekday(bits, date));
+            holidays.stream()
+                    .filter(date -> date.getYear() == y)
+                    .forEach(date -> markWeekday(bits, date));
+            return bits;
+        });
+    }
+
+    /**
+     * Marks holiday in bitset of its year unless it falls on weekend.
+     *
+     * @param bits holidays of the year.
+     * @param date holiday.
+     */
+    private void markWeekday(BitSet bits, LocalDate date) {
+        if (!isWeekend(date)) {
+            bits.set(date.getDayOfYear() - 1);
+        }
+    }
+
+    /**
+     * @param date date to check.
+     * @return <code>true</code> for Saturday and Sunday.
+     */
+    private boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+}
@@ -0,0 +1,30 @@
+package com.overseer.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Converts text typed by user into PostgreSQL tsquery which matches documents containing
+ * every word of the text as a word prefix.
+ */
+public class FullTextQueryBuilder {
+    private static final String NON_WORD_CHARACTERS = "[^\\p{L}\\p{N}]+";
+
+    /**
+     * Builds prefix tsquery from user text. Only letters and digits are kept,
+     * so tsquery operators typed by user are treated as word separators.
+     *
+     * @param text searched text
+     * @return tsquery, e.g. {@code print:* & room:*}, or empty string if text contains no words
+     */
+    public static String toPrefixQuery(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split(NON_WORD_CHARACTERS))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
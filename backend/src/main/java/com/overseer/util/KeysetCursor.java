@@ -0,0 +1,45 @@
+package com.overseer.util;
+
+import lombok.Value;
+import org.springframework.util.Assert;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Position in a list ordered by date and id, passed to clients as '&lt;ISO date time&gt;_&lt;id&gt;'.
+ * Next page is read by index right after the position, no matter how many rows are before it.
+ */
+@Value
+public class KeysetCursor {
+    private static final String SEPARATOR = "_";
+
+    private LocalDateTime date;
+    private Long id;
+
+    /**
+     * Parses cursor returned to client by {@link #toString()}.
+     *
+     * @param cursor cursor string.
+     * @return parsed cursor, or {@literal null} if cursor is {@literal null} or empty.
+     * @throws IllegalArgumentException if cursor is malformed.
+     */
+    public static KeysetCursor parse(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        int separator = cursor.lastIndexOf(SEPARATOR);
+        Assert.isTrue(separator > 0, "invalid cursor: " + cursor);
+        try {
+            return new KeysetCursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.valueOf(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return date + SEPARATOR + id;
+    }
+}
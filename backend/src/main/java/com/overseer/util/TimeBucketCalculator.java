@@ -0,0 +1,59 @@
+package com.overseer.util;
+
+import com.overseer.dto.RequestDTO;
+import org.springframework.util.Assert;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Calculator which groups daily request counts into buckets of any {@link TimeGranularity}.
+ */
+public class TimeBucketCalculator {
+
+    /**
+     * Groups daily counts into zero-filled buckets covering period from start (inclusive) to end (exclusive).
+     * Buckets are aligned to granularity, so the first and the last ones are cut by period bounds.
+     * Daily counts are read in a single pass, so they must be sorted by day; missing days count as zero.
+     *
+     * @param start       period start.
+     * @param end         period end, exclusive.
+     * @param dailyCounts request counts per day, {@link RequestDTO#getStartDateLimit()} is the day.
+     * @param granularity size of buckets.
+     * @return list of buckets in chronological order.
+     */
+    public static List<RequestDTO> getBuckets(LocalDate start, LocalDate end, List<RequestDTO> dailyCounts,
+                                              TimeGranularity granularity) {
+        Assert.notNull(start, "Start date must be not null");
+        Assert.notNull(end, "End date must be not null");
+        Assert.notNull(dailyCounts, "Daily counts must be not null");
+        Assert.notNull(granularity, "Granularity must be not null");
+
+        List<RequestDTO> buckets = new ArrayList<>();
+        Iterator<RequestDTO> days = dailyCounts.iterator();
+        RequestDTO day = days.hasNext() ? days.next() : null;
+        LocalDate bucketStart = start;
+        while (bucketStart.isBefore(end)) {
+            LocalDate bucketEnd = granularity.next(granularity.truncate(bucketStart));
+            if (bucketEnd.isAfter(end)) {
+                bucketEnd = end;
+            }
+            long count = 0;
+            while (day != null && day.getStartDateLimit().isBefore(bucketEnd)) {
+                if (!day.getStartDateLimit().isBefore(bucketStart)) {
+                    count += day.getCount();
+                }
+                day = days.hasNext() ? days.next() : null;
+            }
+            RequestDTO bucket = new RequestDTO();
+            bucket.setStartDateLimit(bucketStart);
+            bucket.setEndDateLimit(bucketEnd);
+            bucket.setCount(count);
+            buckets.add(bucket);
+            bucketStart = bucketEnd;
+        }
+        return buckets;
+    }
+}
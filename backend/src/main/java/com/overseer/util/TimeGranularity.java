@@ -0,0 +1,60 @@
+package com.overseer.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Size of a time bucket used to group statistics.
+ */
+public enum TimeGranularity {
+    DAY {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate bucketStart) {
+            return bucketStart.plusDays(1);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate next(LocalDate bucketStart) {
+            return bucketStart.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate next(LocalDate bucketStart) {
+            return bucketStart.plusMonths(1);
+        }
+    };
+
+    /**
+     * Returns first day of the bucket the given date belongs to.
+     *
+     * @param date any date.
+     * @return first day of the bucket.
+     */
+    public abstract LocalDate truncate(LocalDate date);
+
+    /**
+     * Returns first day of the bucket following the given one.
+     *
+     * @param bucketStart first day of a bucket.
+     * @return first day of the next bucket.
+     */
+    public abstract LocalDate next(LocalDate bucketStart);
+}
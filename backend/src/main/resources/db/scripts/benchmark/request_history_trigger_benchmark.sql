@@ -0,0 +1,87 @@
+-- Compares bulk-update throughput of row-level and statement-level request history triggers.
+-- Usage: psql -d <database> -v rows=10000 -f request_history_trigger_benchmark.sql
+-- Everything runs in one transaction which is rolled back, so the database is left unchanged.
+-- Both variants run the same UPDATE on the same rows, each from the same starting state:
+-- changes of the first variant are rolled back to a savepoint before the second one runs.
+-- Other request triggers stay enabled and cost the same for both variants.
+
+\if :{?rows}
+\else
+\set rows 10000
+\endif
+
+\set ON_ERROR_STOP on
+\timing off
+
+BEGIN;
+
+CREATE TEMP TABLE benchmark_request (id INTEGER PRIMARY KEY) ON COMMIT DROP;
+
+WITH changer AS (
+    SELECT id FROM "user" ORDER BY id LIMIT 1
+), inserted AS (
+    INSERT INTO request (title, description, priority_status_id, progress_status_id, reporter_id, assignee_id,
+                         estimate_time_in_days, date_of_creation, last_changer_id)
+    SELECT 'History benchmark ' || g,
+           'Request created by history trigger benchmark number ' || g,
+           2, 5, changer.id, NULL, 1,
+           localtimestamp - interval '1 year' + g * interval '1 millisecond',
+           changer.id
+      FROM generate_series(1, :rows) g, changer
+    RETURNING id
+)
+INSERT INTO benchmark_request SELECT id FROM inserted;
+
+ANALYZE benchmark_request;
+
+-- Fails the script, and so the whole transaction, when the variants wrote different history.
+CREATE FUNCTION pg_temp.benchmark_check_counts(row_level jsonb, statement_level jsonb) RETURNS VOID AS
+$BODY$
+BEGIN
+    IF row_level IS DISTINCT FROM statement_level THEN
+        RAISE EXCEPTION 'variants wrote different history rows: row-level %, statement-level %',
+            row_level, statement_level;
+    END IF;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+-- Reads the benchmark rows once, so that neither variant pays for cold pages.
+SELECT count(*) AS benchmark_requests FROM request r WHERE r.id IN (SELECT id FROM benchmark_request);
+
+SAVEPOINT before_variants;
+
+\echo
+\echo 'Row-level trigger (request_history_trigger_simple_variant.sql)'
+\ir ../trigger/request_history_trigger_simple_variant.sql
+\ir request_history_trigger_benchmark_update.sql
+SELECT coalesce(jsonb_object_agg(h.column_name, h.history_rows), '{}') AS row_level_counts
+  FROM (SELECT column_name, count(*) AS history_rows
+          FROM history
+         WHERE record_id IN (SELECT id FROM benchmark_request)
+         GROUP BY column_name) h
+\gset
+
+ROLLBACK TO SAVEPOINT before_variants;
+
+\echo
+\echo 'Statement-level trigger (request_history_trigger.sql)'
+\ir ../trigger/request_history_trigger.sql
+\ir request_history_trigger_benchmark_update.sql
+SELECT coalesce(jsonb_object_agg(h.column_name, h.history_rows), '{}') AS statement_level_counts
+  FROM (SELECT column_name, count(*) AS history_rows
+          FROM history
+         WHERE record_id IN (SELECT id FROM benchmark_request)
+         GROUP BY column_name) h
+\gset
+
+\echo
+\echo 'History rows written per column by each variant'
+SELECT coalesce(r.key, s.key) AS column_name, r.value AS row_level, s.value AS statement_level
+  FROM jsonb_each_text(:'row_level_counts') r
+  FULL JOIN jsonb_each_text(:'statement_level_counts') s ON s.key = r.key
+ ORDER BY 1;
+
+SELECT pg_temp.benchmark_check_counts(:'row_level_counts', :'statement_level_counts');
+
+ROLLBACK;
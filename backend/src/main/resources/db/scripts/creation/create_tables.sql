@@ -23,9 +23,59 @@ CREATE TABLE "public"."history" (
  "demonstration_of_new_value" varchar(200),
  "changer_id" int4 NOT NULL,
  "record_id" int4 NOT NULL,
- "date_of_change" TIMESTAMP NOT NULL
+ "date_of_change" TIMESTAMP NOT NULL,
+ PRIMARY KEY ("id", "date_of_change")
+) PARTITION BY RANGE ("date_of_change");
+
+-- Catches rows outside of created partitions, stays empty while partitions are created ahead of time.
+CREATE TABLE "public"."history_default" PARTITION OF "public"."history" DEFAULT;
+
+-- Creates missing monthly partitions history_yYYYYmMM covering months from first_month to last_month.
+CREATE FUNCTION create_history_partitions(first_month DATE, last_month DATE) RETURNS INTEGER AS
+$BODY$
+DECLARE
+    month DATE := date_trunc('month', first_month);
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month <= last_month LOOP
+        partition_name := 'history_y' || to_char(month, 'YYYY') || 'm' || to_char(month, 'MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF history FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month, month + interval '1 month');
+            created := created + 1;
+        END IF;
+        month := month + interval '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+-- Monthly partitions are created ahead of time by the application, these cover the first months.
+SELECT create_history_partitions(CAST(localtimestamp AS DATE), CAST(localtimestamp + interval '3 months' AS DATE));
+
+-- ----------------------------
+-- Table structure for history_archive
+-- Cold tier of history: old history of a closed request moved out of history as one row of
+-- per-column arrays, compressed by TOAST down to toast_tuple_target
+-- ----------------------------
+CREATE TABLE "public"."history_archive" (
+ "id" int4 DEFAULT nextval('main_id_seq'::regclass) NOT NULL PRIMARY KEY,
+ "record_id" int4 NOT NULL,
+ "oldest_change" TIMESTAMP NOT NULL,
+ "newest_change" TIMESTAMP NOT NULL,
+ "archived_at" TIMESTAMP NOT NULL,
+ "ids" int4[] NOT NULL,
+ "column_names" varchar(45)[] NOT NULL,
+ "old_values" varchar(200)[] NOT NULL,
+ "new_values" varchar(200)[] NOT NULL,
+ "demonstrations_of_old_value" varchar(200)[] NOT NULL,
+ "demonstrations_of_new_value" varchar(200)[] NOT NULL,
+ "changer_ids" int4[] NOT NULL,
+ "dates_of_change" TIMESTAMP[] NOT NULL
 )
-WITH (OIDS=FALSE);
+WITH (OIDS=FALSE, toast_tuple_target=128);
 
 -- ----------------------------
 -- Table structure for message
@@ -37,7 +87,8 @@ CREATE TABLE "public"."message" (
 "recipient_id" int4,
 "topic_id" int4,
 "text" varchar(500) COLLATE "default" NOT NULL,
-"date_and_time" TIMESTAMP NOT NULL
+"date_and_time" TIMESTAMP NOT NULL,
+"read" bool NOT NULL DEFAULT FALSE
 )
 WITH (OIDS=FALSE);
 
@@ -78,7 +129,9 @@ CREATE TABLE "public"."request" (
 "estimate_time_in_days" int4,
 "date_of_creation" TIMESTAMP NOT NULL,
 "parent_id" int4,
- "last_changer_id" int4 NOT NULL
+ "last_changer_id" int4 NOT NULL,
+"search_vector" tsvector,
+"assigned_at" TIMESTAMP
 )
 WITH (OIDS=FALSE);
 
@@ -167,10 +220,53 @@ CREATE TABLE "public"."comment" (
 )
 WITH (OIDS=FALSE);
 
+-- ----------------------------
+-- Table structure for request_daily_stats
+-- Rollup of request counts per creation day, maintained by trigger/request_daily_stats_trigger.sql.
+-- Missing priority, progress or assignee are stored as 0.
+-- ----------------------------
+--DROP TABLE IF EXISTS "public"."request_daily_stats";
+CREATE TABLE "public"."request_daily_stats" (
+"day" date NOT NULL,
+"progress_status_id" int4 NOT NULL DEFAULT 0,
+"priority_status_id" int4 NOT NULL DEFAULT 0,
+"assignee_id" int4 NOT NULL DEFAULT 0,
+"reporter_id" int4 NOT NULL,
+"request_count" int4 NOT NULL
+)
+WITH (OIDS=FALSE);
+
+-- ----------------------------
+-- Table structure for unread_counter
+-- Number of unread private messages of user from each peer, maintained by trigger/unread_counter_trigger.sql.
+-- Only pairs with unread messages are stored.
+-- ----------------------------
+--DROP TABLE IF EXISTS "public"."unread_counter";
+CREATE TABLE "public"."unread_counter" (
+"user_id" int4 NOT NULL,
+"peer_id" int4 NOT NULL,
+"unread_count" int4 NOT NULL
+)
+WITH (OIDS=FALSE);
+
 -- ----------------------------
 -- Indexes structure for table request
 -- ----------------------------
 CREATE UNIQUE INDEX request_reporter_date_uindex ON "public"."request" (reporter_id, date_of_creation);
+CREATE INDEX request_search_vector_index ON "public"."request" USING gin (search_vector);
+CREATE INDEX request_assignee_progress_index ON "public"."request" (assignee_id, progress_status_id);
+
+-- ----------------------------
+-- Indexes structure for table request_daily_stats
+-- ----------------------------
+ALTER TABLE "public"."request_daily_stats" ADD PRIMARY KEY ("day", "progress_status_id", "priority_status_id", "assignee_id", "reporter_id");
+CREATE INDEX request_daily_stats_reporter_index ON "public"."request_daily_stats" (reporter_id, progress_status_id, day);
+CREATE INDEX request_daily_stats_assignee_index ON "public"."request_daily_stats" (assignee_id, progress_status_id, day);
+
+-- ----------------------------
+-- Indexes structure for table unread_counter
+-- ----------------------------
+ALTER TABLE "public"."unread_counter" ADD PRIMARY KEY ("user_id", "peer_id");
 
 -- ----------------------------
 -- Indexes structure for table role
@@ -205,13 +301,14 @@ ALTER SEQUENCE "public"."main_id_seq" OWNED BY "role"."id";
 -- ----------------------------
 -- Indexes structure for table history
 -- ----------------------------
-CREATE INDEX "custom_main_row_id_idx" ON "public"."history" USING btree ("record_id");
+-- Created on the parent, so every partition gets them.
+CREATE INDEX "history_record_date_id_idx" ON "public"."history" USING btree ("record_id", "date_of_change" DESC, "id" DESC);
 CREATE INDEX "history_fk_history_detail_ver2_user1_idx" ON "public"."history" USING btree ("changer_id");
 
 -- ----------------------------
--- Primary Key structure for table history
+-- Indexes structure for table history_archive
 -- ----------------------------
-ALTER TABLE "public"."history" ADD PRIMARY KEY ("id");
+CREATE INDEX "history_archive_record_idx" ON "public"."history_archive" USING btree ("record_id", "newest_change" DESC);
 
 -- ----------------------------
 -- Indexes structure for table message
@@ -219,6 +316,9 @@ ALTER TABLE "public"."history" ADD PRIMARY KEY ("id");
 CREATE INDEX "message_fk_message_topic2_idx" ON "public"."message" USING btree ("topic_id");
 CREATE INDEX "message_fk_message_user1_idx" ON "public"."message" USING btree ("recipient_id");
 CREATE INDEX "message_fk_message_user3_idx" ON "public"."message" USING btree ("sender_id");
+CREATE INDEX "message_dialog_date_id_idx" ON "public"."message" USING btree ("sender_id", "recipient_id", "date_and_time" DESC, "id" DESC);
+CREATE UNIQUE INDEX "message_sender_date_uindex" ON "public"."message" USING btree ("sender_id", "date_and_time");
+CREATE INDEX "message_unread_idx" ON "public"."message" USING btree ("recipient_id", "date_and_time" DESC) WHERE "read" = FALSE AND "topic_id" IS NULL;
 
 -- ----------------------------
 -- Indexes structure for table comment
@@ -283,6 +383,7 @@ ALTER TABLE "public"."topic" ADD PRIMARY KEY ("id");
 -- Indexes structure for table topic_to_role
 -- ----------------------------
 CREATE UNIQUE INDEX "topic_to_role_id_uindex" ON "public"."topic_to_role" USING btree ("id");
+CREATE INDEX "topic_to_role_topic_role_idx" ON "public"."topic_to_role" USING btree ("topic_id", "role_id");
 
 -- ----------------------------
 -- Primary Key structure for table topic_to_role
@@ -332,6 +433,12 @@ ALTER TABLE "public"."request" ADD FOREIGN KEY ("reporter_id") REFERENCES "publi
 ALTER TABLE "public"."topic_to_role" ADD FOREIGN KEY ("role_id") REFERENCES "public"."role" ("id") ON DELETE NO ACTION ON UPDATE NO ACTION;
 ALTER TABLE "public"."topic_to_role" ADD FOREIGN KEY ("topic_id") REFERENCES "public"."topic" ("id") ON DELETE CASCADE ON UPDATE NO ACTION;
 
+-- ----------------------------
+-- Foreign Key structure for table "public"."unread_counter"
+-- ----------------------------
+ALTER TABLE "public"."unread_counter" ADD FOREIGN KEY ("user_id") REFERENCES "public"."user" ("id") ON DELETE CASCADE ON UPDATE NO ACTION;
+ALTER TABLE "public"."unread_counter" ADD FOREIGN KEY ("peer_id") REFERENCES "public"."user" ("id") ON DELETE CASCADE ON UPDATE NO ACTION;
+
 -- ----------------------------
 -- Foreign Key structure for table "public"."user"
 -- ----------------------------
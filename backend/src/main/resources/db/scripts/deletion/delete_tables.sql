@@ -7,6 +7,12 @@
 -- Delete Table for history
 -- ----------------------------
 DROP TABLE IF EXISTS "public"."history";
+DROP FUNCTION IF EXISTS create_history_partitions(DATE, DATE);
+
+-- ----------------------------
+-- Delete Table for history_archive
+-- ----------------------------
+DROP TABLE IF EXISTS "public"."history_archive";
 
 -- ----------------------------
 -- Delete Table for message
@@ -23,6 +29,16 @@ DROP TABLE IF EXISTS "public"."topic_to_role";
 -- ----------------------------
 DROP TABLE IF EXISTS "public"."topic";
 
+-- ----------------------------
+-- Delete Table for unread_counter
+-- ----------------------------
+DROP TABLE IF EXISTS "public"."unread_counter";
+
+-- ----------------------------
+-- Delete Table for request_daily_stats
+-- ----------------------------
+DROP TABLE IF EXISTS "public"."request_daily_stats";
+
 -- ----------------------------
 -- Delete Table for request
 -- ----------------------------
@@ -0,0 +1,100 @@
+-- Turns history into a table partitioned by month of date_of_change and creates history_archive,
+-- the cold tier for history of closed requests, if it is missing. Requires PostgreSQL 11 or newer.
+-- Run once on a database created before create_tables.sql made history partitioned,
+-- on an empty or a filled history table. The resulting schema is the one create_tables.sql creates.
+-- Afterwards the application creates partitions ahead of time and moves old history of closed requests
+-- into history_archive (see history.* properties in resources.properties).
+
+BEGIN;
+
+LOCK TABLE history IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE history RENAME TO history_unpartitioned;
+
+CREATE TABLE "public"."history" (
+ "id" int4 DEFAULT nextval('main_id_seq'::regclass) NOT NULL,
+ "column_name" varchar(45) COLLATE "default" NOT NULL,
+ "old_value" varchar(200) COLLATE "default",
+ "new_value" varchar(200) COLLATE "default",
+ "demonstration_of_old_value" varchar(200),
+ "demonstration_of_new_value" varchar(200),
+ "changer_id" int4 NOT NULL,
+ "record_id" int4 NOT NULL,
+ "date_of_change" TIMESTAMP NOT NULL,
+ PRIMARY KEY ("id", "date_of_change")
+) PARTITION BY RANGE ("date_of_change");
+
+-- Catches rows outside of created partitions, stays empty while partitions are created ahead of time.
+CREATE TABLE "public"."history_default" PARTITION OF "public"."history" DEFAULT;
+
+DROP FUNCTION IF EXISTS create_history_partitions(DATE, DATE);
+
+-- Creates missing monthly partitions history_yYYYYmMM covering months from first_month to last_month.
+CREATE FUNCTION create_history_partitions(first_month DATE, last_month DATE) RETURNS INTEGER AS
+$BODY$
+DECLARE
+    month DATE := date_trunc('month', first_month);
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month <= last_month LOOP
+        partition_name := 'history_y' || to_char(month, 'YYYY') || 'm' || to_char(month, 'MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF history FOR VALUES FROM (%L) TO (%L)',
+                           partition_name, month, month + interval '1 month');
+            created := created + 1;
+        END IF;
+        month := month + interval '1 month';
+    END LOOP;
+    RETURN created;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+SELECT create_history_partitions(
+           coalesce((SELECT CAST(min(date_of_change) AS DATE) FROM history_unpartitioned), CAST(localtimestamp AS DATE)),
+           CAST(localtimestamp + interval '3 months' AS DATE));
+
+INSERT INTO history (id, column_name, old_value, new_value, demonstration_of_old_value, demonstration_of_new_value,
+                     changer_id, record_id, date_of_change)
+SELECT id, column_name, old_value, new_value, demonstration_of_old_value, demonstration_of_new_value,
+       changer_id, record_id, date_of_change
+  FROM history_unpartitioned;
+
+DROP TABLE history_unpartitioned;
+
+-- Created on the parent, so every partition gets them. Ordered scans of the newest partitions
+-- stop as soon as a page is filled, older partitions are not touched.
+CREATE INDEX "history_record_date_id_idx" ON "public"."history" USING btree ("record_id", "date_of_change" DESC, "id" DESC);
+CREATE INDEX "history_fk_history_detail_ver2_user1_idx" ON "public"."history" USING btree ("changer_id");
+ALTER TABLE "public"."history" ADD FOREIGN KEY ("changer_id") REFERENCES "public"."user" ("id") ON DELETE NO ACTION ON UPDATE NO ACTION;
+
+-- ----------------------------
+-- Cold tier: history of a closed request older than the archive age, moved in batches.
+-- All rows of one batch of one request are kept as one row of per-column arrays, newest first:
+-- no per-row tuple headers, no index entries per change, and the repetitive column names and
+-- values compress well. toast_tuple_target lets TOAST compress a row down to 128 bytes
+-- instead of the default ~2 kB once it is toasted.
+-- ----------------------------
+CREATE TABLE IF NOT EXISTS "public"."history_archive" (
+ "id" int4 DEFAULT nextval('main_id_seq'::regclass) NOT NULL PRIMARY KEY,
+ "record_id" int4 NOT NULL,
+ "oldest_change" TIMESTAMP NOT NULL,
+ "newest_change" TIMESTAMP NOT NULL,
+ "archived_at" TIMESTAMP NOT NULL,
+ "ids" int4[] NOT NULL,
+ "column_names" varchar(45)[] NOT NULL,
+ "old_values" varchar(200)[] NOT NULL,
+ "new_values" varchar(200)[] NOT NULL,
+ "demonstrations_of_old_value" varchar(200)[] NOT NULL,
+ "demonstrations_of_new_value" varchar(200)[] NOT NULL,
+ "changer_ids" int4[] NOT NULL,
+ "dates_of_change" TIMESTAMP[] NOT NULL
+)
+WITH (OIDS=FALSE, toast_tuple_target=128);
+
+CREATE INDEX IF NOT EXISTS "history_archive_record_idx" ON "public"."history_archive" USING btree ("record_id", "newest_change" DESC);
+
+ANALYZE history;
+
+COMMIT;
@@ -0,0 +1,11 @@
+-- Fills request.assigned_at for requests which were in progress before trg_request_assigned_at was installed.
+-- Moment of assignment is the last change of the request, as deadlines were counted before.
+-- History moved to history_archive counts too, so the script may run before or after archiving.
+-- Run once after adding the column and trigger.
+
+UPDATE request r
+   SET assigned_at = coalesce(greatest((SELECT max(h.date_of_change) FROM history h WHERE h.record_id = r.id),
+                                       (SELECT max(a.newest_change) FROM history_archive a WHERE a.record_id = r.id)),
+                              r.date_of_creation)
+ WHERE r.progress_status_id = 7
+   AND r.assigned_at IS NULL;
@@ -0,0 +1,22 @@
+-- Rebuilds request_daily_stats from request table.
+-- Run once after creating the rollup table and trigger, or whenever the rollup has to be reconciled.
+-- The application runs the same statements on startup when the rollup is empty.
+
+BEGIN;
+
+LOCK TABLE request IN SHARE MODE;
+
+DELETE FROM request_daily_stats;
+
+INSERT INTO request_daily_stats (day, progress_status_id, priority_status_id, assignee_id, reporter_id, request_count)
+SELECT CAST(date_of_creation AS date),
+       coalesce(progress_status_id, 0),
+       coalesce(priority_status_id, 0),
+       coalesce(assignee_id, 0),
+       reporter_id,
+       count(id)
+  FROM request
+ GROUP BY CAST(date_of_creation AS date), coalesce(progress_status_id, 0), coalesce(priority_status_id, 0),
+          coalesce(assignee_id, 0), reporter_id;
+
+COMMIT;
@@ -0,0 +1,6 @@
+-- Fills request.search_vector for requests created before trg_request_search_vector was installed.
+-- Run once after adding the column and trigger.
+
+UPDATE request
+   SET search_vector = request_search_vector(title, description, reporter_id, assignee_id)
+ WHERE search_vector IS NULL;
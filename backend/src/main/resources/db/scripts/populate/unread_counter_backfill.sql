@@ -0,0 +1,20 @@
+-- Rebuilds unread_counter from message table.
+-- Run once after creating the counter table and trigger, or whenever the counters have to be reconciled.
+-- The application does not fill the counters itself, so unread counts stay zero until this script is run.
+
+BEGIN;
+
+LOCK TABLE message IN SHARE MODE;
+
+DELETE FROM unread_counter;
+
+INSERT INTO unread_counter (user_id, peer_id, unread_count)
+SELECT recipient_id, sender_id, count(id)
+  FROM message
+ WHERE topic_id IS NULL
+   AND recipient_id IS NOT NULL
+   AND read = FALSE
+   AND sender_id <> recipient_id
+ GROUP BY recipient_id, sender_id;
+
+COMMIT;
@@ -0,0 +1,19 @@
+DROP TRIGGER IF EXISTS trg_request_assigned_at ON request;
+
+DROP FUNCTION IF EXISTS update_request_assigned_at();
+
+-- Remembers when request moved to 'In progress' (id 7), deadlines of assignee are counted from this moment.
+CREATE FUNCTION update_request_assigned_at() RETURNS TRIGGER AS
+$BODY$
+BEGIN
+    IF NEW.progress_status_id = 7
+       AND (TG_OP = 'INSERT' OR OLD.progress_status_id IS DISTINCT FROM NEW.progress_status_id) THEN
+        NEW.assigned_at := localtimestamp;
+    END IF;
+    RETURN NEW;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+CREATE TRIGGER trg_request_assigned_at BEFORE INSERT OR UPDATE OF progress_status_id ON request
+FOR EACH ROW EXECUTE PROCEDURE update_request_assigned_at();
@@ -0,0 +1,59 @@
+DROP TRIGGER IF EXISTS trg_request_daily_stats ON request;
+
+DROP FUNCTION IF EXISTS update_request_daily_stats();
+
+-- Keeps request_daily_stats in sync with request: every row change moves one request
+-- from the old (day, progress, priority, assignee, reporter) key to the new one.
+-- Trade-off: each rollup row is a hot row. Transactions that change requests with the same key, e.g. one reporter
+-- creating requests on the same day, lock the same rollup row and wait for each other until commit.
+-- The key includes reporter and assignee, so such writers are rare here, and dashboard reads need no request scan.
+-- For bulk imports, ALTER TABLE request DISABLE TRIGGER trg_request_daily_stats while loading
+-- and run db/scripts/populate/request_daily_stats_backfill.sql afterwards instead of batching in the trigger.
+CREATE FUNCTION update_request_daily_stats() RETURNS TRIGGER AS
+$BODY$
+BEGIN
+    IF TG_OP = 'UPDATE'
+       AND CAST(OLD.date_of_creation AS date) = CAST(NEW.date_of_creation AS date)
+       AND OLD.progress_status_id IS NOT DISTINCT FROM NEW.progress_status_id
+       AND OLD.priority_status_id IS NOT DISTINCT FROM NEW.priority_status_id
+       AND OLD.assignee_id IS NOT DISTINCT FROM NEW.assignee_id
+       AND OLD.reporter_id = NEW.reporter_id THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE request_daily_stats
+           SET request_count = request_count - 1
+         WHERE day = CAST(OLD.date_of_creation AS date)
+           AND progress_status_id = coalesce(OLD.progress_status_id, 0)
+           AND priority_status_id = coalesce(OLD.priority_status_id, 0)
+           AND assignee_id = coalesce(OLD.assignee_id, 0)
+           AND reporter_id = OLD.reporter_id;
+        DELETE FROM request_daily_stats
+         WHERE day = CAST(OLD.date_of_creation AS date)
+           AND progress_status_id = coalesce(OLD.progress_status_id, 0)
+           AND priority_status_id = coalesce(OLD.priority_status_id, 0)
+           AND assignee_id = coalesce(OLD.assignee_id, 0)
+           AND reporter_id = OLD.reporter_id
+           AND request_count <= 0;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO request_daily_stats (day, progress_status_id, priority_status_id, assignee_id, reporter_id, request_count)
+        VALUES (CAST(NEW.date_of_creation AS date),
+                coalesce(NEW.progress_status_id, 0),
+                coalesce(NEW.priority_status_id, 0),
+                coalesce(NEW.assignee_id, 0),
+                NEW.reporter_id,
+                1)
+        ON CONFLICT (day, progress_status_id, priority_status_id, assignee_id, reporter_id)
+        DO UPDATE SET request_count = request_daily_stats.request_count + 1;
+    END IF;
+
+    RETURN NULL;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+CREATE TRIGGER trg_request_daily_stats AFTER INSERT OR UPDATE OR DELETE ON request
+FOR EACH ROW EXECUTE PROCEDURE update_request_daily_stats();
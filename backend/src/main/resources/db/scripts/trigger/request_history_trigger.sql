@@ -0,0 +1,59 @@
+DROP TRIGGER IF EXISTS tr__history_adding_for_request ON request;
+
+DROP FUNCTION IF EXISTS add_history_record_for_request();
+DROP FUNCTION IF EXISTS add_history_records_for_requests();
+
+-- Statement-level replacement of request_history_trigger_simple_variant.sql.
+-- Rows changed by one UPDATE are read from the transition tables, joined once with status, user and
+-- parent request names, and every changed column of every row is written by a single multi-row insert.
+-- Changer is taken from the new row instead of re-reading the request. Requires PostgreSQL 10 or newer.
+CREATE FUNCTION add_history_records_for_requests() RETURNS TRIGGER AS
+$BODY$
+DECLARE
+    count_of_visible_chars INTEGER = 20;
+BEGIN
+    INSERT INTO history (column_name, old_value, new_value, demonstration_of_old_value, demonstration_of_new_value,
+                         date_of_change, changer_id, record_id)
+    SELECT c.column_name, c.old_value, c.new_value, c.demonstration_of_old_value, c.demonstration_of_new_value,
+           localtimestamp, n.last_changer_id, n.id
+      FROM old_rows o
+      JOIN new_rows n ON n.id = o.id
+      LEFT JOIN priority_status old_priority ON old_priority.id = o.priority_status_id
+      LEFT JOIN priority_status new_priority ON new_priority.id = n.priority_status_id
+      LEFT JOIN progress_status old_progress ON old_progress.id = o.progress_status_id
+      LEFT JOIN progress_status new_progress ON new_progress.id = n.progress_status_id
+      LEFT JOIN "user" old_assignee ON old_assignee.id = o.assignee_id
+      LEFT JOIN "user" new_assignee ON new_assignee.id = n.assignee_id
+      LEFT JOIN request old_parent ON old_parent.id = o.parent_id
+      LEFT JOIN request new_parent ON new_parent.id = n.parent_id
+     CROSS JOIN LATERAL (VALUES
+           ('title', o.title, n.title, NULL, NULL),
+           ('description', o.description, n.description,
+            CASE WHEN length(o.description) > count_of_visible_chars
+                 THEN substring(o.description FROM 1 FOR count_of_visible_chars) || '...'
+                 ELSE o.description END,
+            CASE WHEN length(n.description) > count_of_visible_chars
+                 THEN substring(n.description FROM 1 FOR count_of_visible_chars) || '...'
+                 ELSE n.description END),
+           ('priority_status_id', CAST(o.priority_status_id AS VARCHAR), CAST(n.priority_status_id AS VARCHAR),
+            old_priority.name, new_priority.name),
+           ('progress_status_id', CAST(o.progress_status_id AS VARCHAR), CAST(n.progress_status_id AS VARCHAR),
+            old_progress.name, new_progress.name),
+           ('assignee_id', CAST(o.assignee_id AS VARCHAR), CAST(n.assignee_id AS VARCHAR),
+            CASE WHEN old_assignee.id IS NOT NULL THEN concat(old_assignee.first_name, ' ', old_assignee.last_name) END,
+            CASE WHEN new_assignee.id IS NOT NULL THEN concat(new_assignee.first_name, ' ', new_assignee.last_name) END),
+           ('estimate_time_in_days', CAST(o.estimate_time_in_days AS VARCHAR), CAST(n.estimate_time_in_days AS VARCHAR),
+            NULL, NULL),
+           ('parent_id', CAST(o.parent_id AS VARCHAR), CAST(n.parent_id AS VARCHAR), old_parent.title, new_parent.title)
+     ) AS c (column_name, old_value, new_value, demonstration_of_old_value, demonstration_of_new_value)
+     WHERE c.old_value IS DISTINCT FROM c.new_value;
+    RETURN NULL;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+CREATE TRIGGER tr__history_adding_for_request
+AFTER UPDATE ON request
+REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+FOR EACH STATEMENT
+EXECUTE PROCEDURE add_history_records_for_requests();
@@ -0,0 +1,52 @@
+DROP TRIGGER IF EXISTS trg_request_search_vector ON request;
+DROP TRIGGER IF EXISTS trg_user_request_search_vector ON "user";
+
+DROP FUNCTION IF EXISTS update_request_search_vector();
+DROP FUNCTION IF EXISTS update_user_request_search_vector();
+DROP FUNCTION IF EXISTS request_search_vector(VARCHAR, VARCHAR, INTEGER, INTEGER);
+
+-- Builds full-text document of a request: title is weighted above description,
+-- description above reporter and assignee names. 'simple' configuration is used,
+-- so words are not stemmed and prefix search works for names in any language.
+CREATE FUNCTION request_search_vector(title VARCHAR, description VARCHAR, reporter INTEGER, assignee INTEGER)
+RETURNS tsvector AS
+$BODY$
+    SELECT setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        || setweight(to_tsvector('simple', coalesce((
+               SELECT string_agg(concat_ws(' ', u.first_name, u.last_name, u.second_name), ' ')
+                 FROM "user" u
+                WHERE u.id IN (reporter, assignee)), '')), 'C');
+$BODY$
+LANGUAGE 'sql' STABLE;
+
+CREATE FUNCTION update_request_search_vector() RETURNS TRIGGER AS
+$BODY$
+BEGIN
+    NEW.search_vector := request_search_vector(NEW.title, NEW.description, NEW.reporter_id, NEW.assignee_id);
+    RETURN NEW;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+CREATE TRIGGER trg_request_search_vector BEFORE INSERT OR UPDATE OF title, description, reporter_id, assignee_id ON request
+FOR EACH ROW EXECUTE PROCEDURE update_request_search_vector();
+
+-- Renaming a user changes documents of all requests the user reports or is assigned to.
+CREATE FUNCTION update_user_request_search_vector() RETURNS TRIGGER AS
+$BODY$
+BEGIN
+    UPDATE request
+       SET search_vector = request_search_vector(title, description, reporter_id, assignee_id)
+     WHERE reporter_id = NEW.id OR assignee_id = NEW.id;
+    RETURN NULL;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+CREATE TRIGGER trg_user_request_search_vector AFTER UPDATE OF first_name, last_name, second_name ON "user"
+FOR EACH ROW
+WHEN (OLD.first_name IS DISTINCT FROM NEW.first_name
+   OR OLD.last_name IS DISTINCT FROM NEW.last_name
+   OR OLD.second_name IS DISTINCT FROM NEW.second_name)
+EXECUTE PROCEDURE update_user_request_search_vector();
@@ -0,0 +1,45 @@
+DROP TRIGGER IF EXISTS trg_unread_counter ON message;
+
+DROP FUNCTION IF EXISTS update_unread_counter();
+
+-- Keeps unread_counter in sync with message: a private message counts for its recipient, in the row of
+-- (recipient, sender) pair, while it is unread. Every row change moves the message from the old pair to the new one.
+CREATE FUNCTION update_unread_counter() RETURNS TRIGGER AS
+$BODY$
+DECLARE
+    old_unread BOOLEAN := TG_OP IN ('UPDATE', 'DELETE') AND OLD.topic_id IS NULL AND OLD.recipient_id IS NOT NULL
+                          AND NOT OLD.read AND OLD.sender_id <> OLD.recipient_id;
+    new_unread BOOLEAN := TG_OP IN ('INSERT', 'UPDATE') AND NEW.topic_id IS NULL AND NEW.recipient_id IS NOT NULL
+                          AND NOT NEW.read AND NEW.sender_id <> NEW.recipient_id;
+BEGIN
+    IF old_unread AND new_unread
+       AND OLD.recipient_id = NEW.recipient_id
+       AND OLD.sender_id = NEW.sender_id THEN
+        RETURN NULL;
+    END IF;
+
+    IF old_unread THEN
+        UPDATE unread_counter
+           SET unread_count = unread_count - 1
+         WHERE user_id = OLD.recipient_id
+           AND peer_id = OLD.sender_id;
+        DELETE FROM unread_counter
+         WHERE user_id = OLD.recipient_id
+           AND peer_id = OLD.sender_id
+           AND unread_count <= 0;
+    END IF;
+
+    IF new_unread THEN
+        INSERT INTO unread_counter (user_id, peer_id, unread_count)
+        VALUES (NEW.recipient_id, NEW.sender_id, 1)
+        ON CONFLICT (user_id, peer_id)
+        DO UPDATE SET unread_count = unread_counter.unread_count + 1;
+    END IF;
+
+    RETURN NULL;
+END;
+$BODY$
+LANGUAGE 'plpgsql';
+
+CREATE TRIGGER trg_unread_counter AFTER INSERT OR UPDATE OR DELETE ON message
+FOR EACH ROW EXECUTE PROCEDURE update_unread_counter();
@@ -0,0 +1,50 @@
+package com.overseer.auth.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.overseer.auth.service.PushTicketService;
+import org.junit.Test;
+import org.springframework.security.core.Authentication;
+
+public class PushTicketServiceImplTest {
+    private static final long LIFE_TIME_MILLIS = 30_000;
+
+    private final Authentication authentication = mock(Authentication.class);
+
+    @Test
+    public void ticketIsRedeemedOnlyOnce() {
+        PushTicketService pushTicketService = new PushTicketServiceImpl(LIFE_TIME_MILLIS);
+        String ticket = pushTicketService.issueTicket(authentication);
+
+        assertThat(pushTicketService.redeemTicket(ticket), is(sameInstance(authentication)));
+        assertThat(pushTicketService.redeemTicket(ticket), is(nullValue()));
+    }
+
+    @Test
+    public void ticketsAreUnique() {
+        PushTicketService pushTicketService = new PushTicketServiceImpl(LIFE_TIME_MILLIS);
+
+        assertThat(pushTicketService.issueTicket(authentication), is(not(pushTicketService.issueTicket(authentication))));
+    }
+
+    @Test
+    public void expiredTicketIsRejected() {
+        PushTicketService pushTicketService = new PushTicketServiceImpl(-1);
+        String ticket = pushTicketService.issueTicket(authentication);
+
+        assertThat(pushTicketService.redeemTicket(ticket), is(nullValue()));
+    }
+
+    @Test
+    public void unknownTicketIsRejected() {
+        PushTicketService pushTicketService = new PushTicketServiceImpl(LIFE_TIME_MILLIS);
+
+        assertThat(pushTicketService.redeemTicket("unknown"), is(nullValue()));
+        assertThat(pushTicketService.redeemTicket(null), is(nullValue()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.overseer.caching.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BoundedExpiringCacheTest {
+    private static final long LIFE_TIME_MILLIS = 1000;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        BoundedExpiringCache<String, Integer> cache = new BoundedExpiringCache<>(2, LIFE_TIME_MILLIS, now::get);
+        cache.put("first", 1);
+        cache.put("second", 2);
+        cache.getData("first");
+
+        cache.put("third", 3);
+
+        assertThat(cache.getSize(), is(2));
+        assertThat(cache.getData("first"), is(1));
+        assertThat(cache.getData("second"), is(nullValue()));
+        assertThat(cache.getData("third"), is(3));
+    }
+
+    @Test
+    public void entryExpiresAfterLifeTime() {
+        BoundedExpiringCache<String, Integer> cache = new BoundedExpiringCache<>(2, LIFE_TIME_MILLIS, now::get);
+        cache.put("first", 1);
+
+        now.set(LIFE_TIME_MILLIS - 1);
+        assertThat(cache.getData("first"), is(1));
+
+        now.set(LIFE_TIME_MILLIS);
+        assertThat(cache.getData("first"), is(nullValue()));
+        assertThat(cache.getSize(), is(0));
+    }
+
+    @Test
+    public void entryWithShortLifeTimeExpiresFirst() {
+        BoundedExpiringCache<String, Integer> cache = new BoundedExpiringCache<>(2, LIFE_TIME_MILLIS, now::get);
+        cache.put("failure", 0, 10);
+        cache.put("success", 1);
+
+        now.set(10);
+
+        assertThat(cache.getData("failure"), is(nullValue()));
+        assertThat(cache.getData("success"), is(1));
+    }
+
+    @Test
+    public void computedValueIsCached() {
+        BoundedExpiringCache<String, Integer> cache = new BoundedExpiringCache<>(2, LIFE_TIME_MILLIS, now::get);
+        AtomicLong loads = new AtomicLong();
+
+        cache.computeIfAbsent("first", () -> (int) loads.incrementAndGet());
+        cache.computeIfAbsent("first", () -> (int) loads.incrementAndGet());
+
+        assertThat(loads.get(), is(1L));
+    }
+}
@@ -0,0 +1,65 @@
+package com.overseer.caching.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import com.overseer.caching.SimpleInMemoryCache;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SimpleInMemoryCacheImplTest {
+    private static final long LIFE_TIME_SECONDS = 60;
+
+    @Test
+    public void concurrentCallersShareOneComputation() throws Exception {
+        SimpleInMemoryCache<String, Integer> cache = new SimpleInMemoryCacheImpl<>(LIFE_TIME_SECONDS);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        final int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.computeIfAbsent("stats", () -> {
+                        TimeUnit.MILLISECONDS.sleep(100);
+                        return computations.incrementAndGet();
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get(), is(1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(computations.get(), is(1));
+    }
+
+    @Test
+    public void failedComputationIsNotCached() {
+        SimpleInMemoryCache<String, Integer> cache = new SimpleInMemoryCacheImpl<>(LIFE_TIME_SECONDS);
+        try {
+            cache.computeIfAbsent("stats", () -> {
+                throw new IllegalArgumentException("database is down");
+            });
+            fail("Exception of loader has to be rethrown");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("database is down"));
+        }
+
+        assertThat(cache.contains("stats"), is(false));
+        assertThat(cache.computeIfAbsent("stats", () -> 1), is(1));
+    }
+}
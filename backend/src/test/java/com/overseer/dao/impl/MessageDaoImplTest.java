@@ -0,0 +1,109 @@
+package com.overseer.dao.impl;
+
+import com.overseer.dao.MessageDao;
+import com.overseer.dao.RoleDao;
+import com.overseer.dao.UserDao;
+import com.overseer.model.Message;
+import com.overseer.model.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for unread counters of {@link MessageDao}, which are maintained by trigger on message table.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Transactional
+public class MessageDaoImplTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2017, 5, 10, 12, 0);
+
+    @Autowired
+    private MessageDao messageDao;
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private RoleDao roleDao;
+
+    private User sender;
+    private User recipient;
+
+    @Before
+    public void setUp() throws Exception {
+        sender = saveUser("unread.sender@email.com");
+        recipient = saveUser("unread.recipient@email.com");
+    }
+
+    @Test
+    public void unreadCountFollowsInsertAndMarkRead() {
+        // given
+        Message first = saveMessage(sender, recipient, NOW);
+        Message second = saveMessage(sender, recipient, NOW.plusMinutes(1));
+
+        // when
+        long countAfterInsert = messageDao.countUnreadMessages(recipient.getId());
+        List<Long> readIds = messageDao.markRead(recipient.getId(), Collections.singletonList(first.getId()));
+        long countAfterRead = messageDao.countUnreadMessages(recipient.getId());
+
+        // then
+        assertThat(countAfterInsert, is(2L));
+        assertThat(readIds, contains(first.getId()));
+        assertThat(countAfterRead, is(1L));
+        assertThat(messageDao.countUnreadMessages(sender.getId()), is(0L));
+        assertThat(messageDao.markRead(recipient.getId(), Arrays.asList(first.getId(), second.getId())),
+                contains(second.getId()));
+        assertThat(messageDao.countUnreadMessages(recipient.getId()), is(0L));
+    }
+
+    @Test
+    public void deletingUnreadMessageDecrementsUnreadCount() {
+        // given
+        Message unread = saveMessage(sender, recipient, NOW);
+        Message read = saveMessage(sender, recipient, NOW.plusMinutes(1));
+        messageDao.markRead(recipient.getId(), Collections.singletonList(read.getId()));
+
+        // when
+        Long unreadRecipientId = messageDao.deleteReturningUnreadRecipient(unread.getId());
+        Long readRecipientId = messageDao.deleteReturningUnreadRecipient(read.getId());
+
+        // then
+        assertThat(unreadRecipientId, is(recipient.getId()));
+        assertThat(readRecipientId, is(nullValue()));
+        assertThat(messageDao.countUnreadMessages(recipient.getId()), is(0L));
+    }
+
+    private User saveUser(String email) {
+        User user = new User();
+        user.setFirstName("Mark");
+        user.setLastName("Bronson");
+        user.setPassword("securepass22");
+        user.setEmail(email);
+        user.setRole(roleDao.findByName("employee"));
+        return userDao.save(user);
+    }
+
+    private Message saveMessage(User from, User to, LocalDateTime dateAndTime) {
+        Message message = new Message();
+        message.setSender(from);
+        message.setRecipient(to);
+        message.setText("Hello there");
+        message.setDateAndTime(dateAndTime);
+        return messageDao.save(message);
+    }
+}
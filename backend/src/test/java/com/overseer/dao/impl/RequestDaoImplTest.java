@@ -2,6 +2,7 @@ package com.overseer.dao.impl;
 
 import com.overseer.dao.RequestDao;
 import com.overseer.dao.UserDao;
+import com.overseer.dto.RequestDTO;
 import com.overseer.model.*;
 import com.overseer.model.enums.ProgressStatus;
 import lombok.Value;
@@ -12,6 +13,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,6 +21,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -48,6 +52,9 @@ public class RequestDaoImplTest {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Value
     private static final class AuthParams {
         private final String email;
@@ -181,4 +188,40 @@ public class RequestDaoImplTest {
         Assert.assertNotNull(foundRequests);
         Assert.assertEquals(foundRequests.size(), requestsGroupIds.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void dailyStatisticsFollowInsertProgressChangeAndDelete() throws Exception {
+        // given request inserted in setUp
+        assertDailyStatisticsMatchRequests(ProgressStatus.FREE);
+
+        // when
+        request.setProgressStatus(ProgressStatus.IN_PROGRESS);
+        requestDao.save(request);
+
+        // then
+        assertDailyStatisticsMatchRequests(ProgressStatus.FREE);
+        assertDailyStatisticsMatchRequests(ProgressStatus.IN_PROGRESS);
+
+        // when
+        requestDao.delete(request);
+
+        // then
+        assertDailyStatisticsMatchRequests(ProgressStatus.IN_PROGRESS);
+    }
+
+    /**
+     * Compares count of requests of the test request's day from request_daily_stats rollup with count of request rows.
+     *
+     * @param progressStatus progress status of counted requests.
+     */
+    private void assertDailyStatisticsMatchRequests(ProgressStatus progressStatus) {
+        LocalDate day = request.getDateOfCreation().toLocalDate();
+        List<RequestDTO> dailyCounts = requestDao.findDailyCountRequestsByPeriod(day, day.plusDays(1),
+                progressStatus.getId());
+        Long requestCount = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM request WHERE CAST(date_of_creation AS date) = ? AND progress_status_id = ?",
+                Long.class, Date.valueOf(day), progressStatus.getId());
+        assertThat(dailyCounts.size(), is(1));
+        assertThat(dailyCounts.get(0).getCount(), is(requestCount));
+    }
+}
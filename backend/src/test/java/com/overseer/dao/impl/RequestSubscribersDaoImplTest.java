@@ -0,0 +1,141 @@
+package com.overseer.dao.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overseer.model.User;
+import com.overseer.service.QueryService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test for cache of {@link RequestSubscribersDaoImpl}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RequestSubscribersDaoImplTest {
+    private static final String SUBSCRIBERS_QUERY = "request.subscribers";
+    private static final String SUBSCRIBERS_OF_REQUESTS_QUERY = "request.subscribersOfRequests";
+    private static final Long FIRST_REQUEST_ID = 1L;
+    private static final Long SECOND_REQUEST_ID = 2L;
+    private static final Long SUBSCRIBER_ID = 10L;
+
+    @Mock
+    private QueryService queryService;
+
+    @Mock
+    private NamedParameterJdbcOperations jdbc;
+
+    @InjectMocks
+    private RequestSubscribersDaoImpl requestSubscribersDao;
+
+    @Before
+    public void setUp() {
+        when(queryService.getQuery(anyString())).thenAnswer(invocation -> invocation.getArguments()[0]);
+        when(jdbc.queryForObject(eq(SUBSCRIBERS_QUERY), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> new ArrayList<>(Collections.singletonList(subscriber(SUBSCRIBER_ID))));
+    }
+
+    @Test
+    public void subscribersAreLoadedOnMissAndServedFromCacheOnHit() {
+        List<User> loaded = requestSubscribersDao.getSubscribersOfRequest(FIRST_REQUEST_ID);
+        List<User> cached = requestSubscribersDao.getSubscribersOfRequest(FIRST_REQUEST_ID);
+
+        assertThat(loaded.size(), is(1));
+        assertThat(cached.get(0).getId(), is(SUBSCRIBER_ID));
+        verify(jdbc, times(1)).queryForObject(eq(SUBSCRIBERS_QUERY), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    public void subscribeEvictsCachedSubscribers() {
+        requestSubscribersDao.getSubscribersOfRequest(FIRST_REQUEST_ID);
+
+        requestSubscribersDao.save(SUBSCRIBER_ID, FIRST_REQUEST_ID);
+        requestSubscribersDao.getSubscribersOfRequest(FIRST_REQUEST_ID);
+
+        verify(jdbc, times(2)).queryForObject(eq(SUBSCRIBERS_QUERY), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    public void unsubscribeAllEvictsCachedSubscribers() {
+        requestSubscribersDao.getSubscribersOfRequest(FIRST_REQUEST_ID);
+
+        requestSubscribersDao.unsubscribeAll(FIRST_REQUEST_ID);
+        requestSubscribersDao.getSubscribersOfRequest(FIRST_REQUEST_ID);
+
+        verify(jdbc, times(2)).queryForObject(eq(SUBSCRIBERS_QUERY), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    public void bulkLookupLoadsOnlyMissedRequests() throws Exception {
+        requestSubscribersDao.getSubscribersOfRequest(FIRST_REQUEST_ID);
+        List<Object> loadedIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            SqlParameterSource parameters = (SqlParameterSource) invocation.getArguments()[1];
+            loadedIds.addAll((java.util.Collection<?>) parameters.getValue("requestIds"));
+            processRow((RowCallbackHandler) invocation.getArguments()[2], SECOND_REQUEST_ID, SUBSCRIBER_ID);
+            return null;
+        }).when(jdbc).query(eq(SUBSCRIBERS_OF_REQUESTS_QUERY), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        Map<Long, List<User>> subscribers = requestSubscribersDao.getSubscribersOfRequests(
+                Arrays.asList(FIRST_REQUEST_ID, SECOND_REQUEST_ID, 3L));
+
+        assertThat(loadedIds.size(), is(2));
+        assertThat(subscribers.get(FIRST_REQUEST_ID).size(), is(1));
+        assertThat(subscribers.get(SECOND_REQUEST_ID).get(0).getId(), is(SUBSCRIBER_ID));
+        assertThat(subscribers.get(3L).isEmpty(), is(true));
+
+        requestSubscribersDao.getSubscribersOfRequests(Arrays.asList(FIRST_REQUEST_ID, SECOND_REQUEST_ID, 3L));
+        verify(jdbc, times(1)).query(eq(SUBSCRIBERS_OF_REQUESTS_QUERY), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    public void bulkLoadIsNotCachedWhenEvictedWhileLoading() {
+        doAnswer(invocation -> {
+            // subscription is changed concurrently while subscribers are being loaded
+            requestSubscribersDao.save(SUBSCRIBER_ID, SECOND_REQUEST_ID);
+            return null;
+        }).when(jdbc).query(eq(SUBSCRIBERS_OF_REQUESTS_QUERY), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        Map<Long, List<User>> subscribers = requestSubscribersDao.getSubscribersOfRequests(Collections.singletonList(SECOND_REQUEST_ID));
+        requestSubscribersDao.getSubscribersOfRequests(Collections.singletonList(SECOND_REQUEST_ID));
+
+        assertThat(subscribers.get(SECOND_REQUEST_ID).isEmpty(), is(true));
+        verify(jdbc, times(2)).query(eq(SUBSCRIBERS_OF_REQUESTS_QUERY), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    private static void processRow(RowCallbackHandler handler, Long requestId, Long subscriberId) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong("request_id")).thenReturn(requestId);
+        when(resultSet.getLong("subscriber_id")).thenReturn(subscriberId);
+        handler.processRow(resultSet);
+    }
+
+    private static User subscriber(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
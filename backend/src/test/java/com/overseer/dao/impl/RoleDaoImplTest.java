@@ -74,6 +74,55 @@ public class RoleDaoImplTest {
         assertThat(fromDbRole, is(savedRole));
     }
 
+    @Test
+    public void testFindIdByName() {
+        // given
+
+        // when
+        Long id = roleDao.findIdByName(TEST_NAME);
+
+        // then
+        assertThat(id, is(savedRole.getId()));
+    }
+
+    @Test
+    public void testFindIdByUnknownName() {
+        // given
+
+        // when
+        Long id = roleDao.findIdByName("Unknown role");
+
+        // then
+        assertThat(id, is(nullValue()));
+    }
+
+    @Test
+    public void testFindIdByNameOfDeletedRole() {
+        // given
+        roleDao.findIdByName(TEST_NAME);
+
+        // when
+        roleDao.delete(savedRole);
+        Long id = roleDao.findIdByName(TEST_NAME);
+
+        // then
+        assertThat(id, is(nullValue()));
+    }
+
+    @Test
+    public void testFindIdByNameOfRoleCreatedAfterMiss() {
+        // given
+        String newName = "NewRole";
+        roleDao.findIdByName(newName);
+
+        // when
+        Role newRole = roleDao.save(new Role(newName));
+        Long id = roleDao.findIdByName(newName);
+
+        // then
+        assertThat(id, is(newRole.getId()));
+    }
+
     @Test
     public void testUpdateRole() {
         // given
@@ -9,11 +9,21 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -23,15 +33,164 @@ public class TopicDaoImplTest {
     @Autowired
     private TopicDao topicDao;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Topic testTopic;
 
     private Long testTopicId;
 
     private Role role;
 
+    // titles sort after titles of populated topics, so pages after TITLE_PREFIX hold only topics of the test
+    private static final String TITLE_PREFIX = "zzzz topic ";
+    private static final String ROLE_NAME = "employee";
+    private static final String OTHER_ROLE_NAME = "admin";
+
     @Test
-    public void test(){
+    public void fetchPageAfterReturnsTopicsOrderedByTitle() {
+        // given
+        Topic second = saveTopic(TITLE_PREFIX + "b", ROLE_NAME);
+        Topic first = saveTopic(TITLE_PREFIX + "a", ROLE_NAME);
+        Topic third = saveTopic(TITLE_PREFIX + "c", ROLE_NAME);
+
+        // when
+        List<Topic> firstPage = topicDao.fetchPageAfter(TITLE_PREFIX, 2);
+        List<Topic> secondPage = topicDao.fetchPageAfter(firstPage.get(1).getTitle(), 2);
+
+        // then
+        assertThat(titles(firstPage), is(titles(first, second)));
+        assertThat(titles(secondPage), is(titles(third)));
+        assertThat(secondPage.get(0).getRoles().get(0).getName(), is(ROLE_NAME));
+    }
+
+    @Test
+    public void fetchPageAfterReturnsEmptyListAfterLastPage() {
+        // given
+        Topic last = saveTopic(TITLE_PREFIX + "a", ROLE_NAME);
+
+        // when
+        List<Topic> page = topicDao.fetchPageAfter(last.getTitle(), 2);
+
+        // then
+        assertThat(page, is(empty()));
+    }
+
+    @Test
+    public void fetchPageAfterSkipsTopicsWithoutRoles() {
+        // given
+        Topic withRole = saveTopic(TITLE_PREFIX + "b", ROLE_NAME);
+        saveTopic(TITLE_PREFIX + "a");
+
+        // when
+        List<Topic> page = topicDao.fetchPageAfter(TITLE_PREFIX, 2);
+
+        // then
+        assertThat(titles(page), is(titles(withRole)));
+    }
+
+    @Test
+    public void fetchPageAndFetchPageAfterReturnSamePages() {
+        // given
+        saveTopic(TITLE_PREFIX + "a", ROLE_NAME);
+        saveTopic(TITLE_PREFIX + "b", ROLE_NAME);
+        saveTopic(TITLE_PREFIX + "c");
+        saveTopic(TITLE_PREFIX + "d", ROLE_NAME);
+
+        // when
+        List<Topic> firstPage = topicDao.fetchPage(2, 1);
+        List<Topic> secondPage = topicDao.fetchPage(2, 2);
+        List<Topic> firstPageAfter = topicDao.fetchPageAfter(null, 2);
+        List<Topic> secondPageAfter = topicDao.fetchPageAfter(firstPageAfter.get(1).getTitle(), 2);
+
+        // then
+        assertThat(titles(firstPage), is(titles(firstPageAfter)));
+        assertThat(titles(secondPage), is(titles(secondPageAfter)));
+        assertThat(secondPage, is(not(empty())));
+    }
+
+    @Test
+    public void savingUnchangedTopicWritesNothing() {
+        // given
+        Topic topic = saveTopic(TITLE_PREFIX + "a", ROLE_NAME, OTHER_ROLE_NAME);
+        List<String> rowVersions = rowVersions(topic);
+
+        // when
+        topicDao.save(topic);
+
+        // then
+        assertThat(rowVersions(topic), is(rowVersions));
+    }
+
+    @Test
+    public void savingTopicWithAddedAndRemovedRolesChangesOnlyRoleLinks() {
+        // given
+        Topic topic = saveTopic(TITLE_PREFIX + "a", ROLE_NAME);
+        String topicRowVersion = topicRowVersion(topic);
+        topic.setRoles(new ArrayList<>(Collections.singletonList(new Role(OTHER_ROLE_NAME))));
+
+        // when
+        topicDao.save(topic);
+
+        // then
+        assertThat(roleNames(topicDao.findOne(topic.getId())), is(Collections.singletonList(OTHER_ROLE_NAME)));
+        assertThat(topicRowVersion(topic), is(topicRowVersion));
+    }
+
+    @Test
+    public void savingRenamedTopicKeepsItsRoles() {
+        // given
+        Topic topic = saveTopic(TITLE_PREFIX + "a", ROLE_NAME);
+        topic.setTitle(TITLE_PREFIX + "b");
+
+        // when
+        topicDao.save(topic);
+
+        // then
+        Topic savedTopic = topicDao.findOne(topic.getId());
+        assertThat(savedTopic.getTitle(), is(TITLE_PREFIX + "b"));
+        assertThat(roleNames(savedTopic), is(Collections.singletonList(ROLE_NAME)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void savingTopicWithUnknownRoleFails() {
+        saveTopic(TITLE_PREFIX + "a", "no such role");
+    }
+
+    /**
+     * @param topic saved topic.
+     * @return physical positions of topic row and its role links, which change whenever a row is written.
+     */
+    private List<String> rowVersions(Topic topic) {
+        List<String> rowVersions = new ArrayList<>();
+        rowVersions.add(topicRowVersion(topic));
+        rowVersions.addAll(jdbcTemplate.queryForList(
+                "SELECT ctid::text FROM topic_to_role WHERE topic_id = ? ORDER BY role_id", String.class, topic.getId()));
+        return rowVersions;
+    }
+
+    private String topicRowVersion(Topic topic) {
+        return jdbcTemplate.queryForObject("SELECT ctid::text FROM topic WHERE id = ?", String.class, topic.getId());
+    }
+
+    private static List<String> roleNames(Topic topic) {
+        return topic.getRoles().stream().map(Role::getName).collect(Collectors.toList());
+    }
+
+    private Topic saveTopic(String title, String... roleNames) {
+        List<Role> roles = new ArrayList<>();
+        for (String roleName : roleNames) {
+            roles.add(new Role(roleName));
+        }
+        return topicDao.save(new Topic(title, "Description of " + title, roles));
+    }
+
+    private static List<String> titles(List<Topic> topics) {
+        return topics.stream().map(Topic::getTitle).collect(Collectors.toList());
+    }
 
+    private static List<String> titles(Topic... topics) {
+        return titles(Arrays.asList(topics));
     }
     /*@Before
     public void setUp() throws Exception {
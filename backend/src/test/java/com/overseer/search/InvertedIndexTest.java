@@ -0,0 +1,87 @@
+package com.overseer.search;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.overseer.dto.RequestSuggestionDTO;
+import com.overseer.model.Request;
+import com.overseer.model.User;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class InvertedIndexTest {
+    private InvertedIndex index;
+
+    @Before
+    public void setUp() {
+        index = new InvertedIndex();
+        index.put(request(1L, "Broken printer", "Printer on second floor", "Ivan", "Petrenko", null));
+        index.put(request(2L, "New monitor", "Monitor is too small", "Olena", "Koval", "Petro"));
+        index.put(request(3L, "Printer paper", "No paper left", "Ivan", "Shevchenko", null));
+    }
+
+    @Test
+    public void everyWordIsMatchedAsPrefixNewestFirst() {
+        assertThat(ids(index.search("print", 10)), is(Arrays.asList(3L, 1L)));
+        assertThat(ids(index.search("PRINT iva petr", 10)), is(Collections.singletonList(1L)));
+        assertThat(ids(index.search("petr", 10)), is(Arrays.asList(2L, 1L)));
+    }
+
+    @Test
+    public void limitIsApplied() {
+        assertThat(ids(index.search("printer", 1)), is(Collections.singletonList(3L)));
+    }
+
+    @Test
+    public void updatedRequestIsReindexed() {
+        index.put(request(3L, "Scanner", "Scanner does not work", "Ivan", "Shevchenko", null));
+
+        assertThat(ids(index.search("printer", 10)), is(Collections.singletonList(1L)));
+        assertThat(ids(index.search("scan", 10)), is(Collections.singletonList(3L)));
+        assertThat(index.search("paper", 10).isEmpty(), is(true));
+    }
+
+    @Test
+    public void removedRequestIsNotFound() {
+        index.remove(1L);
+
+        assertThat(ids(index.search("printer", 10)), is(Collections.singletonList(3L)));
+        assertThat(index.search("broken", 10).isEmpty(), is(true));
+        assertThat(index.size(), is(2));
+    }
+
+    @Test
+    public void childRequestsAreIndexedButNotFound() {
+        Request joined = request(4L, "Printer toner", "Toner is empty", "Ivan", "Petrenko", null);
+        joined.setParentId(1L);
+        index.put(joined);
+
+        assertThat(index.search("toner", 10).isEmpty(), is(true));
+        assertThat(index.childrenOf(1L), is(Collections.singletonList(4L)));
+    }
+
+    private List<Long> ids(List<RequestSuggestionDTO> suggestions) {
+        return suggestions.stream().map(RequestSuggestionDTO::getId).collect(Collectors.toList());
+    }
+
+    private Request request(Long id, String title, String description, String reporterFirstName,
+                            String reporterLastName, String assigneeFirstName) {
+        Request request = new Request();
+        request.setId(id);
+        request.setTitle(title);
+        request.setDescription(description);
+        User reporter = new User();
+        reporter.setFirstName(reporterFirstName);
+        reporter.setLastName(reporterLastName);
+        request.setReporter(reporter);
+        User assignee = new User();
+        assignee.setFirstName(assigneeFirstName);
+        request.setAssignee(assignee);
+        return request;
+    }
+}
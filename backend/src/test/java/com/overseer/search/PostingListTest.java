@@ -0,0 +1,51 @@
+package com.overseer.search;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class PostingListTest {
+
+    @Test
+    public void idsAreKeptSortedAndDistinct() {
+        PostingList postingList = new PostingList();
+        postingList.add(300);
+        postingList.add(5);
+        postingList.add(1_000_000);
+        postingList.add(300);
+        postingList.add(42);
+
+        assertThat(postingList.toArray(), is(new long[]{5, 42, 300, 1_000_000}));
+        assertThat(postingList.size(), is(4));
+    }
+
+    @Test
+    public void removedIdsAreDropped() {
+        PostingList postingList = new PostingList();
+        postingList.add(1);
+        postingList.add(2);
+        postingList.add(3);
+
+        postingList.remove(2);
+        postingList.remove(7);
+
+        assertThat(postingList.toArray(), is(new long[]{1, 3}));
+        postingList.remove(1);
+        postingList.remove(3);
+        assertThat(postingList.isEmpty(), is(true));
+    }
+
+    @Test
+    public void sequentialIdsTakeOneByteEach() {
+        PostingList postingList = new PostingList();
+        final int count = 1000;
+        for (long id = 100_000; id < 100_000 + count; id++) {
+            postingList.add(id);
+        }
+
+        final int firstIdBytes = 3;
+        assertThat(postingList.encodedLength(), is(firstIdBytes + count - 1));
+        assertThat(postingList.toArray()[count - 1], is(100_000L + count - 1));
+    }
+}
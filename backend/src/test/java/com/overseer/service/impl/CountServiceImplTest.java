@@ -0,0 +1,68 @@
+package com.overseer.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.overseer.dao.TableStatisticsDao;
+import com.overseer.service.CountService;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CountServiceImplTest {
+    private static final long REFRESH_SECONDS = 60;
+
+    private TableStatisticsDao tableStatisticsDao;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        tableStatisticsDao = mock(TableStatisticsDao.class);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void exactCountIsLoadedOnceAndAdjusted() {
+        CountService countService = new CountServiceImpl(tableStatisticsDao, 0, REFRESH_SECONDS);
+
+        assertThat(countService.count(CountService.REQUESTS, this::loadTen), is(10L));
+        countService.adjust(CountService.REQUESTS, 1);
+        countService.adjust(CountService.REQUESTS, 1);
+        countService.adjust(CountService.USERS, 1);
+
+        assertThat(countService.count(CountService.REQUESTS, this::loadTen), is(12L));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    public void invalidatedCountsAreReloaded() {
+        CountService countService = new CountServiceImpl(tableStatisticsDao, 0, REFRESH_SECONDS);
+        countService.count(CountService.REQUESTS_BY_ASSIGNEE + 1, this::loadTen);
+        countService.count(CountService.TOPICS, this::loadTen);
+
+        countService.invalidate(CountService.REQUEST_PREFIX);
+
+        assertThat(countService.count(CountService.REQUESTS_BY_ASSIGNEE + 1, this::loadTen), is(10L));
+        assertThat(countService.count(CountService.TOPICS, this::loadTen), is(10L));
+        assertThat(loads.get(), is(3));
+    }
+
+    @Test
+    public void largeTableIsCountedByEstimate() {
+        when(tableStatisticsDao.estimateRowCount("topic")).thenReturn(5_000_000L);
+        when(tableStatisticsDao.estimateRowCount("role")).thenReturn(20L);
+        CountService countService = new CountServiceImpl(tableStatisticsDao, 1_000_000L, REFRESH_SECONDS);
+
+        assertThat(countService.approximateCount(CountService.TOPICS, "topic", this::loadTen), is(5_000_000L));
+        assertThat(countService.approximateCount("role.count", "role", this::loadTen), is(10L));
+        assertThat(loads.get(), is(1));
+    }
+
+    private Long loadTen() {
+        loads.incrementAndGet();
+        return 10L;
+    }
+}
@@ -0,0 +1,128 @@
+package com.overseer.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.overseer.dao.RequestDao;
+import com.overseer.event.ChangeProgressEvent;
+import com.overseer.model.Request;
+import com.overseer.model.enums.ProgressStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+public class DashboardCounterServiceImplTest {
+    private RequestDao requestDao;
+    private DashboardCounterServiceImpl counterService;
+
+    @Before
+    public void setUp() {
+        requestDao = mock(RequestDao.class);
+        when(requestDao.countTotalRequests()).thenReturn(10L);
+        when(requestDao.countTotalUsers()).thenReturn(4L);
+        when(requestDao.countRequestsCreatedToday()).thenReturn(2L);
+        when(requestDao.countRequestsRunningToday()).thenReturn(1L);
+        counterService = new DashboardCounterServiceImpl(requestDao);
+        counterService.seed();
+    }
+
+    @Test
+    public void countersAreSeededFromDatabase() {
+        assertThat(counterService.getTotalRequests(), is(10L));
+        assertThat(counterService.getTotalUsers(), is(4L));
+        assertThat(counterService.getRequestsCreatedToday(), is(2L));
+        assertThat(counterService.getRequestsRunningToday(), is(1L));
+    }
+
+    @Test
+    public void createdRequestIsCountedWithoutDatabase() {
+        Request request = request(LocalDateTime.now(), ProgressStatus.FREE);
+
+        counterService.requestCreated(request);
+        counterService.requestCreated(request(LocalDateTime.now().minusDays(2), ProgressStatus.FREE));
+        counterService.userCreated();
+
+        assertThat(counterService.getTotalRequests(), is(12L));
+        assertThat(counterService.getRequestsCreatedToday(), is(3L));
+        assertThat(counterService.getRequestsRunningToday(), is(1L));
+        assertThat(counterService.getTotalUsers(), is(5L));
+    }
+
+    @Test
+    public void deletedUserIsUncounted() {
+        counterService.userDeleted();
+
+        assertThat(counterService.getTotalUsers(), is(3L));
+    }
+
+    @Test
+    public void changesAreCountedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterService.requestCreated(request(LocalDateTime.now(), ProgressStatus.FREE));
+            counterService.userCreated();
+            assertThat(counterService.getTotalRequests(), is(10L));
+            assertThat(counterService.getTotalUsers(), is(4L));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counterService.getTotalRequests(), is(11L));
+        assertThat(counterService.getTotalUsers(), is(5L));
+    }
+
+    @Test
+    public void rolledBackChangesAreNotCounted() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterService.requestCreated(request(LocalDateTime.now(), ProgressStatus.FREE));
+            counterService.userDeleted();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(counterService.getTotalRequests(), is(10L));
+        assertThat(counterService.getTotalUsers(), is(4L));
+    }
+
+    @Test
+    public void assignedTodayRequestBecomesRunning() {
+        ChangeProgressEvent event = new ChangeProgressEvent(this, request(LocalDateTime.now(), ProgressStatus.FREE),
+                ProgressStatus.IN_PROGRESS);
+        event.setIsHandled(true);
+
+        counterService.onProgressChanged(event);
+
+        assertThat(counterService.getRequestsRunningToday(), is(2L));
+    }
+
+    @Test
+    public void staleCountersAreReloaded() {
+        counterService.requestCreated(request(LocalDateTime.now(), ProgressStatus.FREE));
+        when(requestDao.countTotalRequests()).thenReturn(7L);
+
+        counterService.reconcileIfStale();
+        assertThat(counterService.getTotalRequests(), is(11L));
+
+        counterService.markStale();
+        counterService.reconcileIfStale();
+        assertThat(counterService.getTotalRequests(), is(7L));
+    }
+
+    private static Request request(LocalDateTime dateOfCreation, ProgressStatus progressStatus) {
+        Request request = new Request();
+        request.setDateOfCreation(dateOfCreation);
+        request.setProgressStatus(progressStatus);
+        return request;
+    }
+}
@@ -0,0 +1,90 @@
+package com.overseer.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overseer.dao.HistoryDAO;
+import com.overseer.dto.HistoryPageDTO;
+import com.overseer.model.History;
+import com.overseer.model.User;
+import com.overseer.service.HistoryService;
+import com.overseer.util.KeysetCursor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class HistoryServiceImplTest {
+    private static final Long REQUEST_ID = 7L;
+    private static final int PAGE_SIZE = 2;
+    private static final int MAX_CHARS = 20;
+    private static final LocalDateTime NOW = LocalDateTime.of(2017, 5, 10, 12, 0);
+
+    private HistoryDAO historyDAO;
+    private HistoryService historyService;
+
+    @Before
+    public void setUp() {
+        historyDAO = mock(HistoryDAO.class);
+        historyService = new HistoryServiceImpl(historyDAO);
+    }
+
+    @Test
+    public void fullPageHasCursorOfItsLastRecord() {
+        when(historyDAO.findPageForEntity(REQUEST_ID, null, null, PAGE_SIZE + 1))
+                .thenReturn(histories(3));
+
+        HistoryPageDTO page = historyService.getHistoryPage(REQUEST_ID, null, PAGE_SIZE, MAX_CHARS);
+
+        assertThat(page.getRecords().size(), is(PAGE_SIZE));
+        assertThat(page.getRecords().get(1).getId(), is(2L));
+        assertThat(page.getNextCursor(), is(new KeysetCursor(NOW.minusMinutes(2), 2L).toString()));
+    }
+
+    @Test
+    public void cursorIsPassedToDao() {
+        when(historyDAO.findPageForEntity(REQUEST_ID, NOW.minusMinutes(2), 2L, PAGE_SIZE + 1))
+                .thenReturn(histories(1));
+
+        HistoryPageDTO page = historyService.getHistoryPage(REQUEST_ID,
+                new KeysetCursor(NOW.minusMinutes(2), 2L).toString(), PAGE_SIZE, MAX_CHARS);
+
+        assertThat(page.getRecords().size(), is(1));
+        assertThat(page.getNextCursor(), is(nullValue()));
+        verify(historyDAO).findPageForEntity(REQUEST_ID, NOW.minusMinutes(2), 2L, PAGE_SIZE + 1);
+    }
+
+    @Test
+    public void emptyHistoryHasNoNextCursor() {
+        when(historyDAO.findPageForEntity(REQUEST_ID, null, null, PAGE_SIZE + 1)).thenReturn(new ArrayList<>());
+
+        HistoryPageDTO page = historyService.getHistoryPage(REQUEST_ID, null, PAGE_SIZE, MAX_CHARS);
+
+        assertThat(page.getRecords().isEmpty(), is(true));
+        assertThat(page.getNextCursor(), is(nullValue()));
+    }
+
+    private List<History> histories(int count) {
+        List<History> histories = new ArrayList<>();
+        User changer = new User();
+        changer.setId(1L);
+        for (long id = 1; id <= count; id++) {
+            History history = new History();
+            history.setId(id);
+            history.setColumnName("title");
+            history.setOldValue("old " + id);
+            history.setNewValue("new " + id);
+            history.setDateOfChange(NOW.minusMinutes(id));
+            history.setChanger(changer);
+            history.setRecordId(REQUEST_ID);
+            histories.add(history);
+        }
+        return histories;
+    }
+}
@@ -0,0 +1,68 @@
+package com.overseer.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overseer.dao.HistoryDAO;
+import com.overseer.service.HistoryStorageService;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class HistoryStorageServiceImplTest {
+    private static final int AHEAD_MONTHS = 3;
+    private static final int ARCHIVE_AFTER_MONTHS = 12;
+    private static final int BATCH_SIZE = 100;
+
+    private HistoryDAO historyDAO;
+    private HistoryStorageService historyStorageService;
+
+    @Before
+    public void setUp() {
+        historyDAO = mock(HistoryDAO.class);
+        historyStorageService = new HistoryStorageServiceImpl(historyDAO, AHEAD_MONTHS, ARCHIVE_AFTER_MONTHS, BATCH_SIZE);
+    }
+
+    @Test
+    public void partitionsAreCreatedFromCurrentMonth() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        when(historyDAO.createPartitions(currentMonth, currentMonth.plusMonths(AHEAD_MONTHS))).thenReturn(1);
+
+        assertThat(historyStorageService.preparePartitions(), is(1));
+    }
+
+    @Test
+    public void archivingRunsBatchesUntilLastOneIsNotFull() {
+        LocalDateTime before = LocalDate.now().minusMonths(ARCHIVE_AFTER_MONTHS).atStartOfDay();
+        when(historyDAO.archiveClosedRequestsHistory(before, BATCH_SIZE)).thenReturn(BATCH_SIZE, BATCH_SIZE, 7);
+
+        assertThat(historyStorageService.archiveClosedRequestsHistory(), is(2 * BATCH_SIZE + 7));
+        verify(historyDAO, times(3)).archiveClosedRequestsHistory(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    public void archivingIsOffWithoutArchiveAge() {
+        HistoryStorageService storageService = new HistoryStorageServiceImpl(historyDAO, AHEAD_MONTHS, 0, BATCH_SIZE);
+
+        assertThat(storageService.archiveClosedRequestsHistory(), is(0));
+        verify(historyDAO, never()).archiveClosedRequestsHistory(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    public void startupOnlyPreparesPartitions() {
+        new HistoryStorageServiceImpl(historyDAO, AHEAD_MONTHS, ARCHIVE_AFTER_MONTHS, BATCH_SIZE).preparePartitionsOnStartup();
+
+        verify(historyDAO).createPartitions(any(LocalDate.class), any(LocalDate.class));
+        verify(historyDAO, never()).archiveClosedRequestsHistory(any(LocalDateTime.class), anyInt());
+    }
+}
@@ -0,0 +1,147 @@
+package com.overseer.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overseer.dao.MessageDao;
+import com.overseer.dto.MessagePageDTO;
+import com.overseer.event.MessagesDeletedEvent;
+import com.overseer.event.MessagesReadEvent;
+import com.overseer.model.Message;
+import com.overseer.service.MessageService;
+import com.overseer.util.KeysetCursor;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class MessageServiceImplTest {
+    private static final Long SENDER_ID = 3L;
+    private static final Long RECIPIENT_ID = 4L;
+    private static final int PAGE_SIZE = 2;
+    private static final LocalDateTime NOW = LocalDateTime.of(2017, 5, 10, 12, 0);
+
+    private MessageDao messageDao;
+    private MessageService messageService;
+
+    private ApplicationEventPublisher publisher;
+
+    @Before
+    public void setUp() {
+        messageDao = mock(MessageDao.class);
+        publisher = mock(ApplicationEventPublisher.class);
+        MessageServiceImpl service = new MessageServiceImpl(messageDao);
+        service.setApplicationEventPublisher(publisher);
+        messageService = service;
+    }
+
+    @Test
+    public void newestPageIsChronologicalWithOlderCursor() {
+        when(messageDao.findDialogMessagesBefore(SENDER_ID, RECIPIENT_ID, null, null, PAGE_SIZE + 1))
+                .thenReturn(newestFirst(3));
+
+        MessagePageDTO page = messageService.findDialogMessages(SENDER_ID, RECIPIENT_ID, null, null, PAGE_SIZE);
+
+        assertThat(page.getMessages().size(), is(PAGE_SIZE));
+        assertThat(page.getMessages().get(0).getId(), is(2L));
+        assertThat(page.getMessages().get(1).getId(), is(1L));
+        assertThat(page.getOlderCursor(), is(cursor(NOW.minusMinutes(2), 2L)));
+        assertThat(page.getNewerCursor(), is(cursor(NOW.minusMinutes(1), 1L)));
+    }
+
+    @Test
+    public void lastOlderPageHasNoOlderCursor() {
+        when(messageDao.findDialogMessagesBefore(SENDER_ID, RECIPIENT_ID, NOW.minusMinutes(1), 1L, PAGE_SIZE + 1))
+                .thenReturn(newestFirst(1));
+
+        MessagePageDTO page = messageService.findDialogMessages(SENDER_ID, RECIPIENT_ID,
+                cursor(NOW.minusMinutes(1), 1L), null, PAGE_SIZE);
+
+        assertThat(page.getMessages().size(), is(1));
+        assertThat(page.getOlderCursor(), is(nullValue()));
+    }
+
+    @Test
+    public void emptyNewerPageKeepsAfterCursor() {
+        when(messageDao.findDialogMessagesAfter(SENDER_ID, RECIPIENT_ID, NOW, 5L, PAGE_SIZE))
+                .thenReturn(Collections.emptyList());
+
+        MessagePageDTO page = messageService.findDialogMessages(SENDER_ID, RECIPIENT_ID,
+                null, cursor(NOW, 5L), PAGE_SIZE);
+
+        assertThat(page.getMessages().isEmpty(), is(true));
+        assertThat(page.getNewerCursor(), is(cursor(NOW, 5L)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void beforeAndAfterCursorsAreExclusive() {
+        messageService.findDialogMessages(SENDER_ID, RECIPIENT_ID,
+                cursor(NOW.minusMinutes(1), 1L), cursor(NOW, 5L), PAGE_SIZE);
+    }
+
+    @Test
+    public void readMessagesArePushedToRecipient() {
+        List<Long> ids = Arrays.asList(1L, 2L);
+        when(messageDao.markRead(RECIPIENT_ID, ids)).thenReturn(Collections.singletonList(2L));
+
+        List<Long> readIds = messageService.markRead(RECIPIENT_ID, ids);
+
+        assertThat(readIds, is(Collections.singletonList(2L)));
+        verify(publisher).publishEvent(any(MessagesReadEvent.class));
+    }
+
+    @Test
+    public void alreadyReadMessagesAreNotPushed() {
+        List<Long> ids = Collections.singletonList(1L);
+        when(messageDao.markRead(RECIPIENT_ID, ids)).thenReturn(Collections.emptyList());
+
+        messageService.markRead(RECIPIENT_ID, ids);
+
+        verify(publisher, never()).publishEvent(any(MessagesReadEvent.class));
+    }
+
+    @Test
+    public void deletedUnreadMessageIsPushedToRecipient() {
+        when(messageDao.deleteReturningUnreadRecipient(1L)).thenReturn(RECIPIENT_ID);
+
+        messageService.delete(1L);
+
+        verify(publisher).publishEvent(any(MessagesDeletedEvent.class));
+    }
+
+    @Test
+    public void deletedReadMessageIsNotPushed() {
+        when(messageDao.deleteReturningUnreadRecipient(1L)).thenReturn(null);
+
+        messageService.delete(1L);
+
+        verify(publisher, never()).publishEvent(any(MessagesDeletedEvent.class));
+    }
+
+    private static String cursor(LocalDateTime date, Long id) {
+        return new KeysetCursor(date, id).toString();
+    }
+
+    private List<Message> newestFirst(int count) {
+        List<Message> messages = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            Message message = new Message();
+            message.setId((long) i);
+            message.setText("text " + i);
+            message.setDateAndTime(NOW.minusMinutes(i));
+            messages.add(message);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,114 @@
+package com.overseer.service.impl;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.overseer.model.User;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class PushServiceImplTest {
+
+    private static final long TIMEOUT_MILLIS = 60000;
+    private static final int QUEUE_SIZE = 2;
+    private static final int THREADS = 2;
+    private static final long SLOW_USER_ID = 1L;
+    private static final long FAST_USER_ID = 2L;
+
+    private final CountDownLatch slowClientReleased = new CountDownLatch(1);
+    private final Map<Long, CountDownLatch> received = new ConcurrentHashMap<>();
+    private ExecutorService pushExecutor;
+    private PushServiceImpl pushService;
+
+    @Before
+    public void setUp() {
+        pushExecutor = Executors.newFixedThreadPool(THREADS);
+        pushService = new PushServiceImpl(pushExecutor, new ObjectMapper(), TIMEOUT_MILLIS, QUEUE_SIZE) {
+            private Long nextUserId;
+
+            @Override
+            public SseEmitter subscribe(User user) {
+                nextUserId = user.getId();
+                return super.subscribe(user);
+            }
+
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return new TestEmitter(timeoutMillis, nextUserId);
+            }
+        };
+    }
+
+    @After
+    public void tearDown() {
+        slowClientReleased.countDown();
+        pushExecutor.shutdownNow();
+    }
+
+    @Test
+    public void slowConnectionDoesNotDelayOthers() throws InterruptedException {
+        pushService.subscribe(user(SLOW_USER_ID));
+        received.put(FAST_USER_ID, new CountDownLatch(2));
+        pushService.subscribe(user(FAST_USER_ID));
+
+        pushService.pushToUser(FAST_USER_ID, "dashboard", "payload");
+
+        // connected event and pushed event arrive while slow client still blocks its write
+        assertThat(received.get(FAST_USER_ID).await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(true));
+    }
+
+    @Test
+    public void connectionWhichDoesNotKeepUpIsDropped() {
+        pushService.subscribe(user(SLOW_USER_ID));
+        assertThat(pushService.getConnectionCount(), is(1));
+
+        // first event may already be taken by the blocked write, so queue overflows at the latest after QUEUE_SIZE + 2
+        for (int i = 0; i < QUEUE_SIZE + 2; i++) {
+            pushService.pushToUser(SLOW_USER_ID, "dashboard", i);
+        }
+
+        assertThat(pushService.getConnectionCount(), is(0));
+    }
+
+    private User user(long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    /**
+     * Emitter which blocks every write of the slow user and counts writes of other users.
+     */
+    private final class TestEmitter extends SseEmitter {
+        private final Long userId;
+
+        private TestEmitter(long timeoutMillis, Long userId) {
+            super(timeoutMillis);
+            this.userId = userId;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (userId == SLOW_USER_ID) {
+                try {
+                    slowClientReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            } else {
+                received.get(userId).countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.overseer.service.impl;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overseer.dao.RequestDao;
+import com.overseer.exception.ReportGenerationException;
+import com.overseer.exception.entity.NoSuchEntityException;
+import com.overseer.service.HistoryService;
+import com.overseer.service.impl.report.RequestReportPdfBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.io.ByteArrayOutputStream;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReportServiceImplTest {
+
+    private static final Long REQUEST_ID = 7L;
+
+    @Mock
+    private RequestDao requestDao;
+
+    @Mock
+    private HistoryService historyService;
+
+    @Mock
+    private RequestReportPdfBuilder requestReportPdfBuilder;
+
+    @InjectMocks
+    private ReportServiceImpl reportService;
+
+    @Test
+    public void missingRequestIsRejected() {
+        when(requestDao.findOne(REQUEST_ID)).thenReturn(null);
+
+        try {
+            reportService.writeRequestPDFReport(REQUEST_ID, new ByteArrayOutputStream());
+            fail("report for missing request must not be written");
+        } catch (ReportGenerationException e) {
+            assertThat(e.getCause(), is(instanceOf(NoSuchEntityException.class)));
+        }
+        verify(historyService, never()).findHistoryList(REQUEST_ID);
+    }
+
+    @Test
+    public void failureToLoadReportDataIsReportGenerationFailure() throws Exception {
+        when(requestDao.findOne(REQUEST_ID)).thenThrow(new QueryTimeoutException("timeout"));
+
+        try {
+            reportService.writeRequestPDFReport(REQUEST_ID, new ByteArrayOutputStream());
+            fail("report must not be written when its data can not be loaded");
+        } catch (ReportGenerationException e) {
+            assertThat(e.getCause(), is(instanceOf(QueryTimeoutException.class)));
+        }
+        verify(requestReportPdfBuilder, never()).buildPdfDocument(any(), any());
+    }
+}
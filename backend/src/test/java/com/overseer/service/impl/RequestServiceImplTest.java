@@ -0,0 +1,108 @@
+package com.overseer.service.impl;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.overseer.dao.CommentDao;
+import com.overseer.dao.RequestDao;
+import com.overseer.dao.RequestSubscribersDao;
+import com.overseer.dao.UserDao;
+import com.overseer.dto.UserStatisticDTO;
+import com.overseer.event.ChangeProgressEvent;
+import com.overseer.event.ChangeProgressStatusEventListener;
+import com.overseer.model.Request;
+import com.overseer.model.User;
+import com.overseer.model.enums.ProgressStatus;
+import com.overseer.search.RequestSearchService;
+import com.overseer.service.CountService;
+import com.overseer.service.DashboardCounterService;
+import com.overseer.service.EmailService;
+import com.overseer.service.RequestSubscribeService;
+import com.overseer.service.impl.email.NotificationMessageBuilder;
+import com.overseer.service.impl.email.UniversalMessageBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.time.LocalDate;
+import java.util.Collections;
+
+/**
+ * Test for eviction of cached user statistic of {@link RequestServiceImpl}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RequestServiceImplTest {
+    private static final Long PARENT_REPORTER_ID = 1L;
+    private static final Long CHILD_REPORTER_ID = 2L;
+    private static final Long PERIOD_MONTHS = 1L;
+
+    @Mock
+    private RequestDao requestDao;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private NotificationMessageBuilder notificationMessageBuilder;
+
+    @Mock
+    private RequestSubscribeService requestSubscribeService;
+
+    @Mock
+    private UniversalMessageBuilder universalMessageBuilder;
+
+    @InjectMocks
+    private ChangeProgressStatusEventListener changeProgressStatusEventListener;
+
+    private RequestServiceImpl requestService;
+
+    @Before
+    public void setUp() {
+        requestService = new RequestServiceImpl(requestDao, mock(UserDao.class), mock(RequestSubscribersDao.class),
+                mock(CommentDao.class), mock(DashboardCounterService.class), mock(CountService.class),
+                mock(RequestSearchService.class));
+        when(requestDao.save(any(Request.class))).thenAnswer(invocation -> invocation.getArguments()[0]);
+        when(requestDao.statisticForUser(any(Long.class), any(LocalDate.class))).thenReturn(new UserStatisticDTO(0, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void closingParentEvictsStatisticOfJoinedRequestReporters() {
+        Request parent = request(10L, PARENT_REPORTER_ID, ProgressStatus.IN_PROGRESS);
+        Request child = request(11L, CHILD_REPORTER_ID, ProgressStatus.JOINED);
+        child.setParentId(parent.getId());
+        when(requestDao.findJoinedRequests(parent)).thenReturn(Collections.singletonList(child));
+        requestService.getStatisticForUser(CHILD_REPORTER_ID, PERIOD_MONTHS);
+
+        ChangeProgressEvent event = new ChangeProgressEvent(this, parent, ProgressStatus.CLOSED);
+        changeProgressStatusEventListener.closeRequest(event);
+        requestService.evictUserStatistic(event);
+        requestService.getStatisticForUser(CHILD_REPORTER_ID, PERIOD_MONTHS);
+
+        verify(requestDao, times(2)).statisticForUser(eq(CHILD_REPORTER_ID), any(LocalDate.class));
+    }
+
+    @Test
+    public void statisticIsCachedUntilRequestOfUserChanges() {
+        requestService.getStatisticForUser(CHILD_REPORTER_ID, PERIOD_MONTHS);
+        requestService.getStatisticForUser(CHILD_REPORTER_ID, PERIOD_MONTHS);
+
+        verify(requestDao, times(1)).statisticForUser(eq(CHILD_REPORTER_ID), any(LocalDate.class));
+    }
+
+    private static Request request(Long id, Long reporterId, ProgressStatus progressStatus) {
+        User reporter = new User();
+        reporter.setId(reporterId);
+        Request request = new Request();
+        request.setId(id);
+        request.setReporter(reporter);
+        request.setProgressStatus(progressStatus);
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.overseer.service.impl.builder;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+public class SearchCriteriaBuilderTest {
+
+    @Test
+    public void valuesAreBoundAsNamedParameters() {
+        SearchCriteriaBuilder builder = new SearchCriteriaBuilder();
+        builder.where().isNull("r.parent_id")
+                .and().like("title", "printer")
+                .and().equal("r.estimate_time_in_days", 3)
+                .and().equalDate("date_of_creation", "2017-03-01")
+                .limit(10);
+
+        assertThat(builder.build(), is(" WHERE  r.parent_id IS NULL  AND lower(title) LIKE lower(:p0)"
+                + " AND r.estimate_time_in_days = :p1 AND CAST(date_of_creation AS date) = CAST(:p2 AS date) LIMIT :limit;"));
+        Map<String, Object> parameters = builder.getParameters();
+        assertThat(parameters.get("p0"), is("%printer%"));
+        assertThat(parameters.get("p1"), is(3));
+        assertThat(parameters.get("p2"), is("2017-03-01"));
+        assertThat(parameters.get("limit"), is(10));
+    }
+
+    @Test
+    public void sameFiltersProduceSameQueryForDifferentValues() {
+        String first = new SearchCriteriaBuilder().where().like("u.email", "a").limit(1).build();
+        String second = new SearchCriteriaBuilder().where().like("u.email", "b").limit(2).build();
+
+        assertThat(first, is(second));
+    }
+
+    @Test
+    public void userInputNeverGetsIntoQuery() {
+        String input = "x'; DROP TABLE users; --";
+        SearchCriteriaBuilder builder = new SearchCriteriaBuilder();
+        builder.where().like(new String[]{"u.first_name", "u.last_name"}, input);
+
+        assertThat(builder.build(), not(containsString("DROP")));
+        assertThat(builder.build(), containsString("concat_ws(' ', u.first_name, u.last_name)"));
+        assertThat(builder.getParameters().get("p0"), is("%" + input + "%"));
+    }
+
+    @Test
+    public void likeWildcardsAreEscaped() {
+        SearchCriteriaBuilder builder = new SearchCriteriaBuilder();
+        builder.where().like("title", "50%_off\\");
+
+        assertThat(builder.getParameters().get("p0"), is("%50\\%\\_off\\\\%"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.overseer.service.impl.report;
+
+import static com.itextpdf.text.FontFactory.HELVETICA;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReportAssetCacheTest {
+
+    private static final int AVATAR_SIZE = 100;
+
+    private ReportAssetCache reportAssetCache;
+
+    @Before
+    public void setUp() {
+        // nothing listens on port 1, so every avatar download fails immediately
+        reportAssetCache = new ReportAssetCache("img/overseer_logo.jpg", "img/avatar_placeholder.png",
+                "http://127.0.0.1:1/", 60, 10, 100, 1);
+    }
+
+    @Test
+    public void unavailableAvatarIsReplacedWithPlaceholder() throws Exception {
+        Image avatar = reportAssetCache.getAvatar("unknown", AVATAR_SIZE);
+        final float placeholderSize = 150f;
+        assertThat(avatar.getWidth(), is(placeholderSize));
+        assertThat(avatar.getHeight(), is(placeholderSize));
+    }
+
+    @Test
+    public void logoIsCopiedForEveryReport() throws Exception {
+        Image first = reportAssetCache.getLogo();
+        Image second = reportAssetCache.getLogo();
+        assertThat(first, not(sameInstance(second)));
+        assertThat(first.getWidth(), is(second.getWidth()));
+    }
+
+    @Test
+    public void everyCallerGetsOwnFontCopy() {
+        final float fontSize = 8f;
+        Font first = reportAssetCache.getFont(HELVETICA, fontSize);
+        first.setSize(fontSize * 2);
+
+        Font second = reportAssetCache.getFont(HELVETICA, fontSize);
+        assertThat(second, not(sameInstance(first)));
+        assertThat(second.getSize(), is(fontSize));
+        assertThat(reportAssetCache.getFont(HELVETICA), not(sameInstance(reportAssetCache.getFont(HELVETICA))));
+    }
+}
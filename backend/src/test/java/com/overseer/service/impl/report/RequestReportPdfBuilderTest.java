@@ -0,0 +1,121 @@
+package com.overseer.service.impl.report;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfWriter;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import com.overseer.model.PriorityStatus;
+import com.overseer.model.Request;
+import com.overseer.model.User;
+import com.overseer.model.enums.ProgressStatus;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class RequestReportPdfBuilderTest {
+
+    private static final int REPORTS_NUMBER = 32;
+    private static final int THREADS_NUMBER = 8;
+
+    private RequestReportPdfBuilder requestReportPdfBuilder;
+
+    @Before
+    public void setUp() {
+        ReportAssetCache reportAssetCache = new ReportAssetCache("img/overseer_logo.jpg", "img/avatar_placeholder.png",
+                "http://127.0.0.1:1/", 60, 10, 100, 1);
+        requestReportPdfBuilder = new RequestReportPdfBuilder(null, reportAssetCache);
+    }
+
+    @Test
+    public void concurrentlyBuiltReportsDoNotInterleave() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_NUMBER);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<String>> reports = new ArrayList<>();
+        try {
+            for (int i = 0; i < REPORTS_NUMBER; i++) {
+                RequestReportSpec spec = createSpec(i);
+                Callable<String> task = () -> {
+                    startLatch.await();
+                    return buildReportText(spec);
+                };
+                reports.add(executor.submit(task));
+            }
+            startLatch.countDown();
+
+            for (int i = 0; i < REPORTS_NUMBER; i++) {
+                String text = reports.get(i).get();
+                assertThat(text, containsString(getTitle(i)));
+                assertThat(text, containsString(getReporterName(i)));
+                for (int j = 0; j < REPORTS_NUMBER; j++) {
+                    if (j != i) {
+                        assertThat(text, not(containsString(getTitle(j))));
+                        assertThat(text, not(containsString(getReporterName(j))));
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void buildingReportDoesNotChangeSpec() throws Exception {
+        RequestReportSpec spec = createSpec(0);
+        buildReportText(spec);
+        assertThat(spec.getRequest().getReporter().getSecondName() == null, is(true));
+    }
+
+    private String buildReportText(RequestReportSpec spec) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Document document = new Document();
+        PdfWriter.getInstance(document, outputStream);
+        requestReportPdfBuilder.buildPdfDocument(document, spec);
+
+        PdfReader reader = new PdfReader(outputStream.toByteArray());
+        StringBuilder text = new StringBuilder();
+        for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+            text.append(PdfTextExtractor.getTextFromPage(reader, page)).append('\n');
+        }
+        reader.close();
+        return text.toString();
+    }
+
+    private RequestReportSpec createSpec(int number) {
+        User reporter = new User();
+        reporter.setFirstName(getReporterName(number));
+        reporter.setLastName("Last");
+
+        Request request = new Request();
+        request.setTitle(getTitle(number));
+        request.setDescription("Description of request " + number);
+        request.setDateOfCreation(LocalDateTime.now());
+        request.setPriorityStatus(new PriorityStatus("Normal", 2));
+        request.setProgressStatus(ProgressStatus.FREE);
+        request.setReporter(reporter);
+        request.setEstimateTimeInDays(number);
+        return new RequestReportSpec(request, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    private String getTitle(int number) {
+        return "Report title [" + number + "]";
+    }
+
+    private String getReporterName(int number) {
+        return "Reporter[" + number + "]";
+    }
+}
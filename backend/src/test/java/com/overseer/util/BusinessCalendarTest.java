@@ -0,0 +1,84 @@
+package com.overseer.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+public class BusinessCalendarTest {
+
+    @Test
+    public void withoutHolidaysDeadlineSkipsOnlyWeekends() {
+        BusinessCalendar calendar = new BusinessCalendar("");
+        final int maxEstimate = 40;
+        for (LocalDate start = LocalDate.of(2016, 12, 1); start.getYear() < 2018; start = start.plusDays(1)) {
+            for (int estimate = 0; estimate <= maxEstimate; estimate++) {
+                assertThat(start + " + " + estimate, calendar.getDeadline(start, estimate),
+                        is(weekdayLoop(start, estimate)));
+            }
+        }
+    }
+
+    @Test
+    public void annualHolidaysAreSkipped() {
+        BusinessCalendar calendar = new BusinessCalendar("05-01, 05-02,05-09");
+        // 2017-04-28 is Friday, 1 and 2 May are Monday and Tuesday
+        assertThat(calendar.getDeadline(LocalDate.of(2017, 4, 28), 2), is(LocalDate.of(2017, 5, 3)));
+        // 9 May is Tuesday, so five working days from 4 May end on 11 May
+        assertThat(calendar.getDeadline(LocalDate.of(2017, 5, 4), 5), is(LocalDate.of(2017, 5, 11)));
+        // 2016-05-01 is Sunday and is not counted twice
+        assertThat(calendar.getDeadline(LocalDate.of(2016, 4, 29), 2), is(LocalDate.of(2016, 5, 3)));
+    }
+
+    @Test
+    public void singleHolidaysAreSkippedAcrossYears() {
+        BusinessCalendar calendar = new BusinessCalendar("12-25,01-01,2018-01-02");
+        // 2017-12-22 is Friday, 25 December and 1 January are Mondays, 2 January is a one-off holiday
+        assertThat(calendar.getDeadline(LocalDate.of(2017, 12, 22), 7), is(LocalDate.of(2018, 1, 4)));
+        assertThat(calendar.getDeadline(LocalDate.of(2018, 12, 31), 2), is(LocalDate.of(2019, 1, 2)));
+    }
+
+    @Test
+    public void holidaysAreNotWorkingDays() {
+        BusinessCalendar calendar = new BusinessCalendar("08-24");
+        assertThat(calendar.isWorkingDay(LocalDate.of(2017, 8, 24)), is(false));
+        assertThat(calendar.isWorkingDay(LocalDate.of(2017, 8, 25)), is(true));
+        assertThat(calendar.isWorkingDay(LocalDate.of(2017, 8, 26)), is(false));
+    }
+
+    @Test
+    public void deadlinesAreCalculatedInBulk() {
+        BusinessCalendar calendar = new BusinessCalendar("03-08");
+        LocalDate[] starts = {LocalDate.of(2017, 3, 7), LocalDate.of(2017, 3, 10), LocalDate.of(2017, 3, 11)};
+        int[] estimates = {2, 1, 0};
+
+        LocalDate[] deadlines = calendar.getDeadlines(starts, estimates);
+
+        assertThat(deadlines.length, is(starts.length));
+        for (int i = 0; i < starts.length; i++) {
+            assertThat(deadlines[i], is(calendar.getDeadline(starts[i], estimates[i])));
+        }
+        // 8 March is skipped
+        assertThat(deadlines[0], is(LocalDate.of(2017, 3, 9)));
+        assertThat(deadlines[1], is(LocalDate.of(2017, 3, 10)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bulkDeadlinesRequireEstimateForEveryDate() {
+        new BusinessCalendar("").getDeadlines(new LocalDate[]{LocalDate.of(2017, 3, 7)}, new int[0]);
+    }
+
+    private LocalDate weekdayLoop(LocalDate start, int estimate) {
+        LocalDate deadline = start;
+        while (estimate > 1) {
+            deadline = deadline.plusDays(1);
+            if (deadline.getDayOfWeek() != DayOfWeek.SATURDAY && deadline.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                estimate--;
+            }
+        }
+        return deadline;
+    }
+}
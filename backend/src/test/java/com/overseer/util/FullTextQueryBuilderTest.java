@@ -0,0 +1,30 @@
+package com.overseer.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class FullTextQueryBuilderTest {
+
+    @Test
+    public void everyWordIsMatchedAsPrefix() {
+        assertThat(FullTextQueryBuilder.toPrefixQuery("  Broken Printer "), is("broken:* & printer:*"));
+    }
+
+    @Test
+    public void tsQueryOperatorsAreTreatedAsSeparators() {
+        assertThat(FullTextQueryBuilder.toPrefixQuery("a|b & !c:*' <-> (d)"), is("a:* & b:* & c:* & d:*"));
+    }
+
+    @Test
+    public void nonLatinWordsAreKept() {
+        assertThat(FullTextQueryBuilder.toPrefixQuery("Іван Петренко"), is("іван:* & петренко:*"));
+    }
+
+    @Test
+    public void textWithoutWordsGivesEmptyQuery() {
+        assertThat(FullTextQueryBuilder.toPrefixQuery(" -- ' "), is(""));
+        assertThat(FullTextQueryBuilder.toPrefixQuery(null), is(""));
+    }
+}
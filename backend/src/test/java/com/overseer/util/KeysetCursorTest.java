@@ -0,0 +1,49 @@
+package com.overseer.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+public class KeysetCursorTest {
+    private static final LocalDateTime DATE = LocalDateTime.of(2017, 5, 10, 12, 0, 0, 123456000);
+
+    @Test
+    public void cursorIsWrittenAsDateAndId() {
+        KeysetCursor cursor = new KeysetCursor(DATE, 2L);
+
+        assertThat(cursor.toString(), is("2017-05-10T12:00:00.123456_2"));
+    }
+
+    @Test
+    public void parsedCursorKeepsFractionOfSecond() {
+        KeysetCursor cursor = KeysetCursor.parse(new KeysetCursor(DATE, 2L).toString());
+
+        assertThat(cursor.getDate(), is(DATE));
+        assertThat(cursor.getId(), is(2L));
+    }
+
+    @Test
+    public void absentCursorIsParsedAsNull() {
+        assertThat(KeysetCursor.parse(null), is(nullValue()));
+        assertThat(KeysetCursor.parse(""), is(nullValue()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cursorWithMalformedDateIsRejected() {
+        KeysetCursor.parse("yesterday_2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cursorWithMalformedIdIsRejected() {
+        KeysetCursor.parse("2017-05-10T12:00:00.123456_two");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cursorWithoutIdIsRejected() {
+        KeysetCursor.parse("2017-05-10T12:00:00.123456");
+    }
+}
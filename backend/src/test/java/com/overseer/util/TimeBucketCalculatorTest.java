@@ -0,0 +1,98 @@
+package com.overseer.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.overseer.dto.RequestDTO;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class TimeBucketCalculatorTest {
+
+    @Test
+    public void monthBucketsAreCutByPeriodBounds() {
+        LocalDate start = LocalDate.of(2017, 1, 20);
+        LocalDate end = LocalDate.of(2017, 4, 10);
+        List<RequestDTO> days = new ArrayList<>();
+        days.add(day(LocalDate.of(2017, 1, 20), 2));
+        days.add(day(LocalDate.of(2017, 1, 31), 1));
+        days.add(day(LocalDate.of(2017, 3, 1), 4));
+        days.add(day(LocalDate.of(2017, 4, 9), 5));
+
+        List<RequestDTO> buckets = TimeBucketCalculator.getBuckets(start, end, days, TimeGranularity.MONTH);
+
+        final int expectedBuckets = 4;
+        assertThat(buckets.size(), is(expectedBuckets));
+        assertBucket(buckets.get(0), start, LocalDate.of(2017, 2, 1), 3);
+        assertBucket(buckets.get(1), LocalDate.of(2017, 2, 1), LocalDate.of(2017, 3, 1), 0);
+        assertBucket(buckets.get(2), LocalDate.of(2017, 3, 1), LocalDate.of(2017, 4, 1), 4);
+        assertBucket(buckets.get(3), LocalDate.of(2017, 4, 1), end, 5);
+    }
+
+    @Test
+    public void weekBucketsStartOnMonday() {
+        // 2017-03-01 is Wednesday
+        LocalDate start = LocalDate.of(2017, 3, 1);
+        LocalDate end = LocalDate.of(2017, 3, 15);
+        List<RequestDTO> days = new ArrayList<>();
+        days.add(day(LocalDate.of(2017, 3, 5), 1));
+        days.add(day(LocalDate.of(2017, 3, 6), 2));
+        days.add(day(LocalDate.of(2017, 3, 14), 3));
+
+        List<RequestDTO> buckets = TimeBucketCalculator.getBuckets(start, end, days, TimeGranularity.WEEK);
+
+        final int expectedBuckets = 3;
+        assertThat(buckets.size(), is(expectedBuckets));
+        assertBucket(buckets.get(0), start, LocalDate.of(2017, 3, 6), 1);
+        assertBucket(buckets.get(1), LocalDate.of(2017, 3, 6), LocalDate.of(2017, 3, 13), 2);
+        assertBucket(buckets.get(2), LocalDate.of(2017, 3, 13), end, 3);
+    }
+
+    @Test
+    public void dayBucketsAreZeroFilled() {
+        LocalDate start = LocalDate.of(2017, 3, 1);
+        LocalDate end = LocalDate.of(2017, 3, 4);
+
+        List<RequestDTO> buckets = TimeBucketCalculator.getBuckets(start, end,
+                Collections.singletonList(day(LocalDate.of(2017, 3, 2), 7)), TimeGranularity.DAY);
+
+        final int expectedBuckets = 3;
+        assertThat(buckets.size(), is(expectedBuckets));
+        assertBucket(buckets.get(0), start, LocalDate.of(2017, 3, 2), 0);
+        assertBucket(buckets.get(1), LocalDate.of(2017, 3, 2), LocalDate.of(2017, 3, 3), 7);
+        assertBucket(buckets.get(2), LocalDate.of(2017, 3, 3), end, 0);
+    }
+
+    @Test
+    public void daysOutsideOfPeriodAreIgnored() {
+        LocalDate start = LocalDate.of(2017, 3, 1);
+        LocalDate end = LocalDate.of(2017, 3, 2);
+        List<RequestDTO> days = new ArrayList<>();
+        days.add(day(LocalDate.of(2017, 2, 28), 1));
+        days.add(day(start, 2));
+        days.add(day(end, 3));
+
+        List<RequestDTO> buckets = TimeBucketCalculator.getBuckets(start, end, days, TimeGranularity.MONTH);
+
+        assertThat(buckets.size(), is(1));
+        assertBucket(buckets.get(0), start, end, 2);
+    }
+
+    private RequestDTO day(LocalDate date, long count) {
+        RequestDTO requestDTO = new RequestDTO();
+        requestDTO.setStartDateLimit(date);
+        requestDTO.setEndDateLimit(date.plusDays(1));
+        requestDTO.setCount(count);
+        return requestDTO;
+    }
+
+    private void assertBucket(RequestDTO bucket, LocalDate start, LocalDate end, long count) {
+        assertThat(bucket.getStartDateLimit(), is(start));
+        assertThat(bucket.getEndDateLimit(), is(end));
+        assertThat(bucket.getCount(), is(count));
+    }
+}
@@ -0,0 +1,42 @@
+package com.overseer.util;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TransactionUtilsTest {
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void actionRunsImmediatelyWithoutTransaction() {
+        AtomicInteger runs = new AtomicInteger();
+
+        TransactionUtils.afterCommit(runs::incrementAndGet);
+
+        assertThat(runs.get(), is(1));
+    }
+
+    @Test
+    public void actionRunsOnlyAfterCommit() {
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionUtils.afterCommit(runs::incrementAndGet);
+        assertThat(runs.get(), is(0));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(runs.get(), is(1));
+    }
+}
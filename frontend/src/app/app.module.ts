@@ -36,6 +36,7 @@ import {Ng2GoogleChartsModule} from "ng2-google-charts";
 import {SuscribeService} from "./service/subscribe.service";
 import {CommentService} from "./service/comment.service";
 import {ChatService} from "./service/chat.service";
+import {PushService} from "./service/push.service";
 import {DateParseModule} from "./util/date-parser/date-parse.module";
 import {TimeParseModule} from "./util/time-parser/time-parse.module";
 
@@ -84,6 +85,7 @@ import {TimeParseModule} from "./util/time-parser/time-parse.module";
     ManagerPageGuard,
     UserPageGuard,
     ChatService,
+    PushService,
     {
       provide: AuthHttp,
       useFactory: authHttpServiceFactory,
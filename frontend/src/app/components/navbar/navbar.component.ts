@@ -5,8 +5,8 @@ import {UserService} from "../../service/user.service";
 import {ErrorService} from "../../service/error.service";
 import {Message} from "../../model/message.model";
 import {ChatService} from "../../service/chat.service";
+import {PushService} from "../../service/push.service";
 import {User} from "../../model/user.model";
-import {Response} from "@angular/http";
 import {timer} from "rxjs/observable/timer";
 import {Observable} from "rxjs";
 import {isUndefined} from "util";
@@ -21,16 +21,19 @@ declare let $: JQueryStatic;
 export class NavbarComponent implements OnInit {
   isSignedIn: boolean;
   unreadMessages: Message[] = [];
+  unreadCount: number = 0;
   currentUser: User;
   @Output()
   updated: EventEmitter<any> = new EventEmitter();
   connect: any;
+  readConnect: any;
 
   constructor(private router: Router,
               private authService: AuthService,
               private userService: UserService,
               private errorService: ErrorService,
-              private chatService: ChatService) {
+              private chatService: ChatService,
+              private pushService: PushService) {
   }
 
   ngOnInit() {
@@ -41,8 +44,7 @@ export class NavbarComponent implements OnInit {
       if (this.isSignedIn) {
         this.authService.currentUser.subscribe(user => {
           this.currentUser = user;
-          let timer = Observable.timer(2000, 5000);
-          this.connect = timer.subscribe(t => this.loadUnreadMessages(this.currentUser.id));
+          this.subscribeOnUnreadMessages();
         });
       }
     });
@@ -50,13 +52,39 @@ export class NavbarComponent implements OnInit {
     if (this.isSignedIn) {
       this.authService.currentUser.subscribe(user => {
         this.currentUser = user;
-        let timer = Observable.timer(2000, 5000);
-        this.connect = timer.subscribe(t => this.loadUnreadMessages(this.currentUser.id));
+        this.subscribeOnUnreadMessages();
       });
     }
   }
 
+  subscribeOnUnreadMessages() {
+    this.unsubscribeFromUnreadMessages();
+    this.loadUnreadMessages(this.currentUser.id);
+    // afterwards unread messages are kept up to date by pushed messages, read acknowledgements and deletions
+    this.connect = this.pushService.on('message').subscribe((message: Message) => {
+      this.unreadMessages = [message].concat(this.unreadMessages);
+      this.unreadCount++;
+    });
+    this.readConnect = Observable.merge(this.pushService.on('messagesRead'), this.pushService.on('messagesDeleted'))
+      .subscribe((ids: number[]) => {
+        this.unreadMessages = this.unreadMessages.filter(r => ids.indexOf(r.id) < 0);
+        this.unreadCount = Math.max(0, this.unreadCount - ids.length);
+      });
+  }
+
+  unsubscribeFromUnreadMessages() {
+    if (!isUndefined(this.connect)) {
+      this.connect.unsubscribe();
+    }
+    if (!isUndefined(this.readConnect)) {
+      this.readConnect.unsubscribe();
+    }
+  }
+
   loadUnreadMessages(recipientId) {
+    this.chatService.getUnreadMessagesCount(recipientId).subscribe((count: number) => {
+      this.unreadCount = count;
+    });
     this.chatService.getUnreadMessages(recipientId).subscribe((unreadMessages: Message[]) => {
       this.unreadMessages = unreadMessages;
     });
@@ -64,11 +92,7 @@ export class NavbarComponent implements OnInit {
 
   setMessageRead(message, event) {
     event.stopPropagation();
-    message.id = null;
-    message.read = true;
-    this.userService.sendMessage(message).subscribe((resp: Response) => {
-      this.loadUnreadMessages(this.currentUser.id);
-    });
+    this.chatService.markRead([message.id]).subscribe(() => this.updateArray(message));
   }
 
   private updateArray(message) {
@@ -76,9 +100,8 @@ export class NavbarComponent implements OnInit {
   }
 
   logout() {
-    if (!isUndefined(this.connect)) {
-      this.connect.unsubscribe();
-    }
+    this.unsubscribeFromUnreadMessages();
+    this.pushService.disconnect();
     this.authService.logout();
     this.router.navigate(['/authentication/login']);
   }
@@ -0,0 +1,10 @@
+export interface DashboardStatsDTO {
+  free: number,
+  joined: number,
+  inProgress: number,
+  closed: number,
+  notClosed: number,
+  highPriority: number,
+  normalPriority: number,
+  lowPriority: number
+}
@@ -0,0 +1,6 @@
+import {HistoryMessageDTO} from "./historyMessageDTO.model";
+
+export interface HistoryPageDTO {
+  records: HistoryMessageDTO[],
+  nextCursor?: string
+}
@@ -0,0 +1,7 @@
+import {Message} from "../message.model";
+
+export interface MessagePageDTO {
+  messages: Message[],
+  olderCursor?: string,
+  newerCursor?: string
+}
@@ -0,0 +1,6 @@
+import {Request} from "../request.model";
+
+export interface RequestSearchResultDTO {
+  requests: Request[],
+  totalHits: number
+}
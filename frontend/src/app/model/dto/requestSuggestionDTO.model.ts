@@ -0,0 +1,4 @@
+export interface RequestSuggestionDTO {
+  id: number,
+  title: string
+}
@@ -0,0 +1,7 @@
+export interface UserStatisticDTO {
+  free: number,
+  joined: number,
+  inProgress: number,
+  openInPeriod: number,
+  closedInPeriod: number
+}
@@ -1,6 +1,7 @@
 import {Component} from "@angular/core";
 import {RequestService} from "../../service/request.service";
 import {AuthService} from "../../service/auth.service";
+import {PushService} from "../../service/push.service";
 import {Router} from '@angular/router';
 
 @Component({
@@ -12,29 +13,43 @@ import {Router} from '@angular/router';
 export class DeadlineComponent {
   loaded = false;
   events:any[] = [];
+  deadlinesSubscription:any;
 
   constructor(private requestService:RequestService,
               private authService:AuthService,
+              private pushService:PushService,
               private router:Router) {
   }
 
   ngOnInit() {
     this.authService.currentUser.subscribe(user => {
-        this.requestService.getDeadlines(user.id).subscribe((items) => {
-          for (var i = 0; i < items.length; i++) {
-            var newEvent = {
-              id: items[i].id,
-              title: items[i].title,
-              start: new Date(items[i].deadline)
-            };
-            this.events.push(newEvent);
-          }
-          this.loaded = true;
-        });
+        this.loadDeadlines(user.id);
+        this.deadlinesSubscription = this.pushService.on('deadlines').subscribe(() => this.loadDeadlines(user.id));
       }
     );
   }
 
+  ngOnDestroy() {
+    if (this.deadlinesSubscription) {
+      this.deadlinesSubscription.unsubscribe();
+    }
+  }
+
+  loadDeadlines(managerId: number) {
+    this.requestService.getDeadlines(managerId).subscribe((items) => {
+      this.events.length = 0;
+      for (var i = 0; i < items.length; i++) {
+        var newEvent = {
+          id: items[i].id,
+          title: items[i].title,
+          start: new Date(items[i].deadline)
+        };
+        this.events.push(newEvent);
+      }
+      this.loaded = true;
+    });
+  }
+
   calendarOptions:Object = {
     height: 490, 
     firstDay: 1,
@@ -1,6 +1,7 @@
 import {Component, OnInit, OnDestroy, Input, Output, EventEmitter} from "@angular/core";
 import {Message} from "../../../model/message.model";
 import {ChatService} from "../../../service/chat.service";
+import {PushService} from "../../../service/push.service";
 import {AuthService} from "../../../service/auth.service";
 import {User} from "../../../model/user.model";
 import {FormGroup, Validators, FormBuilder} from "@angular/forms";
@@ -11,6 +12,7 @@ import {Observable} from "rxjs";
 import {isUndefined} from "util";
 import {ActivatedRoute, Params} from "@angular/router";
 import {Chuck} from "../../../model/dto/chuck.model";
+import {MessagePageDTO} from "../../../model/dto/messagePageDTO.model";
 
 declare let $: JQueryStatic;
 
@@ -35,8 +37,10 @@ export class ChatComponent implements OnInit, OnDestroy {
   reloadDataTimer: any;
   usersUnreadMessagesTimer: any;
   showFriendsList: boolean = true;
+  olderMessagesCursor: string;
 
   constructor(private chatService: ChatService,
+              private pushService: PushService,
               private authService: AuthService,
               private formBuilder: FormBuilder,
               private userService: UserService,
@@ -72,12 +76,10 @@ export class ChatComponent implements OnInit, OnDestroy {
           }
         });
       });
-      let timer = Observable.timer(2000, 3000);
-      this.usersUnreadMessagesTimer = timer.subscribe(t => {
-        this.chatService.getUsersWithUnreadMessages(this.currentUser.id).subscribe((users: User[]) => {
-          this.usersWithUnreadMessages = users;
-        });
-      });
+      this.loadUsersWithUnreadMessages();
+      this.usersUnreadMessagesTimer = this.pushService.on('message')
+        .filter((message: Message) => !this.chatFriend || message.sender.id != this.chatFriend.id)
+        .subscribe((message: Message) => this.addUnreadMessage(message));
     });
   }
 
@@ -128,9 +130,10 @@ export class ChatComponent implements OnInit, OnDestroy {
 
   loadUserMessages(user) {
     this.chatFriend = user;
-    this.chatService.getDialogMessages(this.currentUser.id, user.id).subscribe((messages: Message[]) => {
-      this.messages = messages;
-      this.readMessages(messages);
+    this.chatService.getDialogMessages(this.currentUser.id, user.id).subscribe((page: MessagePageDTO) => {
+      this.messages = page.messages;
+      this.olderMessagesCursor = page.olderCursor;
+      this.readMessages(page.messages);
       this.message = {
         sender: this.currentUser,
         text: null,
@@ -139,33 +142,58 @@ export class ChatComponent implements OnInit, OnDestroy {
       };
     });
     $('#msg-container').animate({scrollTop: $('#msg-container')[0].scrollHeight}, 2000);
-    let timer = Observable.timer(2000, 3000);
-    this.reloadDataTimer = timer.subscribe(t => {
-      this.reloadData(this.currentUser.id, this.chatFriend.id);
-      this.chatService.getUsersWithUnreadMessages(this.currentUser.id).subscribe((users: User[]) => {
-        this.usersWithUnreadMessages = users;
+    if (!isUndefined(this.reloadDataTimer)) {
+      this.reloadDataTimer.unsubscribe();
+    }
+    this.reloadDataTimer = this.pushService.on('message')
+      .filter((message: Message) => message.sender.id == this.chatFriend.id)
+      .subscribe((message: Message) => {
+        this.messages = (this.messages || []).concat([message]);
+        this.readMessages([message]);
       });
-    });
   }
 
-  reloadData(userId, friendId) {
-    this.chatService.getDialogMessages(userId, friendId).subscribe((messages: Message[]) => {
-      this.messages = messages;
-      this.readMessages(messages);
+  loadUsersWithUnreadMessages() {
+    this.chatService.getUsersWithUnreadMessages(this.currentUser.id).subscribe((users: User[]) => {
+      this.usersWithUnreadMessages = users;
     });
   }
 
-  readMessages(messages) {
-    messages.forEach(msg => {
-      if (!msg.read && msg.sender.id == this.chatFriend.id) {
-        msg.id = null;
-        msg.read = true;
-        //console.log('readed');
-        this.userService.sendMessage(msg).subscribe((resp: Response) => {
-          // this.updateArray(<Message> resp.json());
-        }, e => this.handleErrorCreateMessage(e));
+  loadOlderMessages() {
+    this.chatService.getDialogMessages(this.currentUser.id, this.chatFriend.id, this.olderMessagesCursor)
+      .subscribe((page: MessagePageDTO) => {
+        this.messages = page.messages.concat(this.messages);
+        this.olderMessagesCursor = page.olderCursor;
+        this.readMessages(page.messages);
+      });
+  }
+
+  addUnreadMessage(message: Message) {
+    if (!this.usersWithUnreadMessages) {
+      return;
+    }
+    let sender = this.usersWithUnreadMessages.filter(user => user.id == message.sender.id)[0];
+    if (sender) {
+      // unread count is carried in phone number field, see user.findUsersWithUnreadMessagesQuery
+      sender.phoneNumber = (+sender.phoneNumber + 1).toString();
+    } else {
+      this.usersWithUnreadMessages = this.usersWithUnreadMessages.concat([
+        Object.assign({}, message.sender, {phoneNumber: '1'})
+      ]);
+    }
+  }
+
+  readMessages(messages: Message[]) {
+    let unread = messages.filter(msg => !msg.read && msg.sender.id == this.chatFriend.id);
+    if (unread.length == 0) {
+      return;
+    }
+    this.chatService.markRead(unread.map(msg => msg.id)).subscribe(() => {
+      unread.forEach(msg => msg.read = true);
+      if (this.usersWithUnreadMessages) {
+        this.usersWithUnreadMessages = this.usersWithUnreadMessages.filter(user => user.id != this.chatFriend.id);
       }
-    })
+    }, e => this.handleErrorCreateMessage(e));
   }
 
   private updateArray(message: Message): void {
@@ -11,8 +11,6 @@ import {RoleService} from "../../service/role.service";
 import {Role} from "../../model/role.model";
 import {DeleteTopicComponent} from "./topic-delete/delete-topic.component";
 
-declare let $: any;
-
 @Component({
   selector: 'forum-info',
   templateUrl: 'forum.component.html',
@@ -25,11 +23,10 @@ export class ForumComponent implements OnInit {
   @Output()
   updated: EventEmitter<any> = new EventEmitter();
   topic: Topic;
-  pageNumber: number;
+  hasMore: boolean = false;
   currentUser: User;
   roles: Role[];
   perPage: number = 20;
-  curPage: number = 1;
 
   @ViewChild(DeleteTopicComponent)
   deleteTopicComponent: DeleteTopicComponent;
@@ -56,11 +53,7 @@ export class ForumComponent implements OnInit {
       description: ['', [Validators.required, Validators.minLength(5), Validators.maxLength(500)]],
       roles: ['', [Validators.required]]
     });
-    this.topicService.getAll(1, this.perPage).subscribe((topics: Topic[]) => {
-      this.topics = topics;
-      //console.log(topics)
-    });
-    this.topicService.getPageCount().subscribe((count) => this.pageNumber = count);
+    this.loadFirstPage();
   }
 
   constructor(private topicService: TopicService,
@@ -103,19 +96,27 @@ export class ForumComponent implements OnInit {
   }
 
   changeSize(size) {
-    this.perPage = size;
-    this.topicService.getAll(this.curPage, this.perPage).subscribe(topics => {
-      this.topics = topics;
-    })
+    this.perPage = +size;
+    this.loadFirstPage();
   }
 
-  changed(data) {
-    this.curPage = data.page;
-    this.topicService.getAll(this.curPage, this.perPage).subscribe(topics => {
+  loadFirstPage() {
+    this.topicService.getPageAfter(null, this.perPage).subscribe((topics: Topic[]) => {
       this.topics = topics;
-    })
+      this.hasMore = topics.length == this.perPage;
+    });
   }
 
+  loadNextPage() {
+    // topics are ordered by title, so title of the last loaded topic is where the next page starts
+    let last = this.topics[this.topics.length - 1];
+    this.topicService.getPageAfter(last.title, this.perPage).subscribe((topics: Topic[]) => {
+      // topic created on this page is already on top of the list
+      let loaded = topics.filter(topic => !this.topics.some(t => t.id === topic.id));
+      this.topics = this.topics.concat(loaded);
+      this.hasMore = topics.length == this.perPage;
+    });
+  }
 
   deleteTopic(id) {
     this.topicService.delete(id).subscribe((resp: Response) => {
@@ -137,24 +138,6 @@ export class ForumComponent implements OnInit {
     }
   }
 
-  createRange(number) {
-    let items: number[] = [];
-    for (let i = 2; i <= number; i++) {
-      items.push(i);
-    }
-    return items;
-  }
-
-  load(data) {
-    $('.paginate_button').removeClass('active');
-    let page = data.target.text;
-    $(data.target.parentElement).addClass('active');
-    this.topicService.getAll(page, this.perPage).subscribe((topics: Topic[]) => {
-      //console.log(topics);
-      this.topics = topics;
-    });
-  }
-
   openDeleteTopicModal(topic: Topic): void {
     this.deleteTopicComponent.topic = topic;
     this.deleteTopicComponent.modal.open();
@@ -1,4 +1,4 @@
-import {Component, OnInit, Input, Output, EventEmitter, ViewChild} from "@angular/core";
+import {Component, OnInit, OnDestroy, Input, Output, EventEmitter, ViewChild} from "@angular/core";
 import {TopicService} from "../../../service/topic.service";
 import {Topic} from "../../../model/topic.model";
 import {ActivatedRoute} from "@angular/router";
@@ -9,6 +9,7 @@ import {AuthService} from "../../../service/auth.service";
 import {Response} from "@angular/http";
 import {ToastsManager} from "ng2-toastr";
 import {DeleteMessageComponent} from "./message-delete/delete-mesage.component";
+import {PushService} from "../../../service/push.service";
 
 
 @Component({
@@ -16,7 +17,7 @@ import {DeleteMessageComponent} from "./message-delete/delete-mesage.component";
   templateUrl: 'topic.component.html',
   styleUrls: ['topic.component.css']
 })
-export class TopicComponent implements OnInit {
+export class TopicComponent implements OnInit, OnDestroy {
   messageForm: FormGroup;
   topic: Topic;
   @Input()
@@ -25,6 +26,8 @@ export class TopicComponent implements OnInit {
   updated: EventEmitter<any> = new EventEmitter();
   message: Message;
   currentUser: User;
+  topicId: number;
+  topicMessagesSubscription: any;
 
   @ViewChild(DeleteMessageComponent)
   deleteMessageComponent: DeleteMessageComponent;
@@ -33,7 +36,8 @@ export class TopicComponent implements OnInit {
               private route: ActivatedRoute,
               private formBuilder: FormBuilder,
               private authService: AuthService,
-              private toastr: ToastsManager) {
+              private toastr: ToastsManager,
+              private pushService: PushService) {
   }
 
   ngOnInit(): void {
@@ -62,6 +66,7 @@ export class TopicComponent implements OnInit {
 
     this.route.params.subscribe(params => {
       let id = +params['id'];
+      this.subscribeToTopicMessages(id);
       this.topicService.getMessages(id).subscribe((messages: Message[]) => {
         //console.log(messages);
         this.messages = messages;
@@ -69,6 +74,26 @@ export class TopicComponent implements OnInit {
     });
   }
 
+  ngOnDestroy(): void {
+    this.unsubscribeFromTopicMessages();
+  }
+
+  private subscribeToTopicMessages(topicId: number) {
+    this.unsubscribeFromTopicMessages();
+    this.topicId = topicId;
+    this.pushService.subscribeToTopic(topicId);
+    this.topicMessagesSubscription = this.pushService.on('topicMessage')
+      .filter((message: Message) => message.topic && message.topic.id == this.topicId && !!this.messages)
+      .subscribe((message: Message) => this.updateArray(message));
+  }
+
+  private unsubscribeFromTopicMessages() {
+    if (this.topicMessagesSubscription) {
+      this.topicMessagesSubscription.unsubscribe();
+      this.pushService.unsubscribeFromTopic(this.topicId);
+    }
+  }
+
   validate(field: string): boolean {
     return this.messageForm.get(field).valid || !this.messageForm.get(field).dirty;
   }
@@ -86,6 +111,10 @@ export class TopicComponent implements OnInit {
   }
 
   private updateArray(message: Message): void {
+    // own message may be pushed back before response to creating it
+    if (this.messages.some(shown => shown.id == message.id)) {
+      return;
+    }
     this.messages.push(message);
     this.updated.emit(this.messages);
   }
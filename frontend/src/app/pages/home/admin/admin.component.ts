@@ -1,8 +1,10 @@
-import {Component, OnInit} from '@angular/core';
+import {Component, OnInit, OnDestroy} from '@angular/core';
 import {Request} from "../../../model/request.model";
 import {RequestService} from "../../../service/request.service";
 import 'rxjs/Rx';
 import {ToastsManager} from "ng2-toastr";
+import {PushService} from "../../../service/push.service";
+import {DashboardStatsDTO} from "../../../model/dto/dashboardStatsDTO.model";
 
 @Component({
 
@@ -10,16 +12,19 @@ import {ToastsManager} from "ng2-toastr";
   templateUrl: 'admin.component.html',
   styleUrls: ['admin.component.css']
 })
-export class AdminComponent implements OnInit {
-  statisticForAdminDashBoard: Array<number>;
+export class AdminComponent implements OnInit, OnDestroy {
+  statisticForAdminDashBoard: DashboardStatsDTO;
   totalUsers: number;
   totalRequests: number;
   runningToday: number;
   requestToday: number;
   when: string = 'for 6 months';
   selectPeriod: number;
+  howLong: number = 6;
+  dashboardSubscription: any;
 
   constructor(private requestService: RequestService,
+              private pushService: PushService,
               private toast: ToastsManager) {}
 
   ngOnInit(): void {
@@ -40,6 +45,20 @@ export class AdminComponent implements OnInit {
     this.requestService.getRunningToday().subscribe(s => {
       this.runningToday = s;
     }, e => this.toast.warning("can't research assigned today",'warning'));
+
+    this.dashboardSubscription = this.pushService.on('dashboard').subscribe(counters => {
+      this.totalUsers = counters.totalUsers;
+      this.totalRequests = counters.totalRequests;
+      this.requestToday = counters.requestsCreatedToday;
+      this.runningToday = counters.requestsRunningToday;
+      this.setStatisticByDropdown(this.howLong);
+    });
+  }
+
+  ngOnDestroy(): void {
+    if (this.dashboardSubscription) {
+      this.dashboardSubscription.unsubscribe();
+    }
   }
 
   setStatisticByProgress() {
@@ -47,9 +66,9 @@ export class AdminComponent implements OnInit {
       chartType: 'PieChart',
       dataTable: [
         ['Request', 'Info'],
-        ['Free: ' + this.statisticForAdminDashBoard[0],this.statisticForAdminDashBoard[0]],
-        ['Joined: ' + this.statisticForAdminDashBoard[1],this.statisticForAdminDashBoard[1]],
-        ['In progress: '+ this.statisticForAdminDashBoard[2], this.statisticForAdminDashBoard[2]],
+        ['Free: ' + this.statisticForAdminDashBoard.free,this.statisticForAdminDashBoard.free],
+        ['Joined: ' + this.statisticForAdminDashBoard.joined,this.statisticForAdminDashBoard.joined],
+        ['In progress: '+ this.statisticForAdminDashBoard.inProgress, this.statisticForAdminDashBoard.inProgress],
       ],
       options: {
         title: 'Request statistic by progress',
@@ -81,9 +100,9 @@ export class AdminComponent implements OnInit {
       chartType: 'PieChart',
       dataTable: [
         ['Request', 'Info'],
-        ['High: '+ this.statisticForAdminDashBoard[5], this.statisticForAdminDashBoard[5]],
-        ['Normal: ' + this.statisticForAdminDashBoard[6],this.statisticForAdminDashBoard[6]],
-        ['Low: ' + this.statisticForAdminDashBoard[7], this.statisticForAdminDashBoard[7]],
+        ['High: '+ this.statisticForAdminDashBoard.highPriority, this.statisticForAdminDashBoard.highPriority],
+        ['Normal: ' + this.statisticForAdminDashBoard.normalPriority,this.statisticForAdminDashBoard.normalPriority],
+        ['Low: ' + this.statisticForAdminDashBoard.lowPriority, this.statisticForAdminDashBoard.lowPriority],
       ],
       options: {
         title: 'Request statistic by priority',
@@ -115,7 +134,7 @@ export class AdminComponent implements OnInit {
       chartType: 'BarChart',
       dataTable: [
         ['Requests', 'Open','Closed'],
-        ['Status', this.statisticForAdminDashBoard[4], this.statisticForAdminDashBoard[3]],
+        ['Status', this.statisticForAdminDashBoard.notClosed, this.statisticForAdminDashBoard.closed],
         ],
       options: {
         hAxis: {
@@ -196,6 +215,7 @@ export class AdminComponent implements OnInit {
   }
 
     setStatisticByDropdown(howLong: number): void {
+      this.howLong = howLong;
       this.requestService.getStatisticForAdminDashBoard(howLong).subscribe(s => {
         this.statisticForAdminDashBoard = s;
         this.when = 'for ' + howLong + ' months';
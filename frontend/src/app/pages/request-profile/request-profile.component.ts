@@ -19,6 +19,7 @@ import {Response} from "@angular/http";
 import {DeleteCommentComponent} from "./comment-delete/delete-comment.component";
 import {CloseComponent} from "./close/close.component";
 import {HistoryMessageDTO} from "../../model/dto/historyMessageDTO.model";
+import {HistoryPageDTO} from "../../model/dto/historyPageDTO.model";
 
 @Component({
   selector: 'request-profile',
@@ -38,6 +39,8 @@ export class RequestProfileComponent implements OnInit {
   showComments: boolean = true;
   historyRecords: History[];
   historyDTOsRecords: HistoryMessageDTO[];
+  historyCursor: string;
+  historyPageSize: number = 20;
   subRequests: Request[];
   joinedRequests: Request[];
   followers: User[];
@@ -83,10 +86,9 @@ export class RequestProfileComponent implements OnInit {
       this.route.params.subscribe(params => {
         let id = +params['id'];
 
-        this.historyService.getHistoryDTOs(id).subscribe((historyDtoRecords: HistoryMessageDTO[]) => {
-          console.log(historyDtoRecords)
-          this.historyDTOsRecords = historyDtoRecords;
-        });
+        this.historyDTOsRecords = [];
+        this.historyCursor = null;
+        this.loadHistoryPage(id);
 
         this.requestService.get(id).subscribe((request: Request) => {
           this.request = request;
@@ -172,6 +174,14 @@ export class RequestProfileComponent implements OnInit {
     this.showDescription = !this.showDescription;
   }
 
+  loadHistoryPage(requestId: number) {
+    this.historyService.getHistoryPage(requestId, this.historyCursor, this.historyPageSize)
+      .subscribe((page: HistoryPageDTO) => {
+        this.historyDTOsRecords = this.historyDTOsRecords.concat(page.records);
+        this.historyCursor = page.nextCursor;
+      });
+  }
+
   changeShowHistory() {
     this.showHistory = !this.showHistory;
   }
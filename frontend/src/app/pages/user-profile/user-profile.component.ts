@@ -5,6 +5,7 @@ import {UserService} from "../../service/user.service";
 import {Request} from "../../model/request.model";
 import {RequestService} from "../../service/request.service";
 import {ToastsManager} from "ng2-toastr";
+import {UserStatisticDTO} from "../../model/dto/userStatisticDTO.model";
 
 @Component({
   selector: 'user-profile',
@@ -14,8 +15,7 @@ import {ToastsManager} from "ng2-toastr";
 export class UserProfileComponent implements OnInit {
 
   user: User;
-  requests: Array<number>;
-  statisticForUser: Array<number>;
+  statisticForUser: UserStatisticDTO;
   hasRequest: boolean = false;
   hasSixMonthsRec: boolean = false;
   hasAnyRequest: boolean = false;
@@ -33,20 +33,17 @@ export class UserProfileComponent implements OnInit {
       let id = +params['id'];
       this.userService.get(id).subscribe((user: User) => {
         this.user = user;
-        this.requestService.getQuantityForUserByProgressStatus(this.user.id).subscribe(s => {
-          if (s[0]!= 0 || s[1]!= 0 || s[2]!= 0) {
+        this.requestService.getStatisticForUser(this.user.id, 6).subscribe(s => {
+          this.statisticForUser = s;
+          if (s.free != 0 || s.joined != 0 || s.inProgress != 0) {
             this.hasRequest = true;
-            this.requests = s;
             this.setStatisticByProgressStatus();
           } else {
             this.hasAnyRequest = true;
           }
-        }, e => this.toast.warning("can't research statistic",'warning'));
-        this.requestService.getOpenClosedRequestForUser(this.user.id, 6).subscribe(s => {
-          if (s[0]!= 0 || s[1]!= 0) {
+          if (s.openInPeriod != 0 || s.closedInPeriod != 0) {
             this.hasSixMonthsRec = true;
             this.when = 'for ' + 6 + ' months.';
-            this.statisticForUser = s;
             this.setStatisticOpenClosedReq();
           }
         }, e => this.toast.warning("can't research statistic",'warning'));
@@ -59,9 +56,9 @@ export class UserProfileComponent implements OnInit {
       chartType: 'PieChart',
       dataTable: [
         ['Request', 'Info'],
-        ['Free: ' + this.requests[0],this.requests[0]],
-        ['Joined: ' + this.requests[1],this.requests[1]],
-        ['In progress: '+ this.requests[2], this.requests[2]],
+        ['Free: ' + this.statisticForUser.free,this.statisticForUser.free],
+        ['Joined: ' + this.statisticForUser.joined,this.statisticForUser.joined],
+        ['In progress: '+ this.statisticForUser.inProgress, this.statisticForUser.inProgress],
       ],
       options: {
         title: 'Your request statistic',
@@ -93,7 +90,7 @@ export class UserProfileComponent implements OnInit {
       chartType: 'BarChart',
       dataTable: [
         ['Status', 'Open','Close'],
-        ['Status', this.statisticForUser[0],this.statisticForUser[1]]
+        ['Status', this.statisticForUser.openInPeriod,this.statisticForUser.closedInPeriod]
       ],
       options: {
         hAxis: {
@@ -165,8 +162,8 @@ export class UserProfileComponent implements OnInit {
   };
 
   setStatisticByPeriod(howLong: number): void {
-    this.requestService.getOpenClosedRequestForUser(this.user.id, howLong).subscribe(s => {
-      if (s[0]!= 0 || s[1]!= 0) {
+    this.requestService.getStatisticForUser(this.user.id, howLong).subscribe(s => {
+      if (s.openInPeriod != 0 || s.closedInPeriod != 0) {
         this.hasSixMonthsRec = true;
         this.when = 'for ' + howLong + ' months.';
         this.statisticForUser = s;
@@ -6,6 +6,7 @@ import {AuthHttp} from "angular2-jwt";
 import {Message} from "../model/message.model";
 import {User} from "../model/user.model";
 import {Chuck} from "../model/dto/chuck.model";
+import {MessagePageDTO} from "../model/dto/messagePageDTO.model";
 
 const url = '/api';
 
@@ -16,10 +17,16 @@ export class ChatService {
               private http: Http) {
   }
 
-  getDialogMessages(senderId: number, recipientId: number): Observable<Message[]> {
+  getDialogMessages(senderId: number, recipientId: number, before?: string, after?: string): Observable<MessagePageDTO> {
     let params: URLSearchParams = new URLSearchParams();
     params.set('senderId', senderId.toString());
     params.set('recipientId', recipientId.toString());
+    if (before) {
+      params.set('before', before);
+    }
+    if (after) {
+      params.set('after', after);
+    }
     return this.authHttp.get(`${url}/messagesByDialog`, {search: params})
       .map(resp => resp.json());
   }
@@ -31,6 +38,18 @@ export class ChatService {
       .map(resp => resp.json());
   }
 
+  getUnreadMessagesCount(recipientId: number): Observable<number> {
+    let params: URLSearchParams = new URLSearchParams();
+    params.set('recipientId', recipientId.toString());
+    return this.authHttp.get(`${url}/unreadMessages/count`, {search: params})
+      .map(resp => resp.json());
+  }
+
+  markRead(messageIds: number[]): Observable<number[]> {
+    return this.authHttp.post(`${url}/messages/read`, messageIds)
+      .map(resp => resp.json());
+  }
+
   getChatFriends(userId: number): Observable<User[]> {
     let params: URLSearchParams = new URLSearchParams();
     params.set('userId', userId.toString());
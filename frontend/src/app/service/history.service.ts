@@ -1,9 +1,11 @@
 import {Observable} from "rxjs";
 import "rxjs/Rx";
 import {AuthHttp} from "angular2-jwt";
+import {URLSearchParams} from "@angular/http";
 import {ErrorService} from "./error.service";
 import {History} from "../model/history.model";
 import {HistoryMessageDTO} from "../model/dto/historyMessageDTO.model";
+import {HistoryPageDTO} from "../model/dto/historyPageDTO.model";
 import {Injectable} from "@angular/core";
 
 const url = '/api/histories';
@@ -31,4 +33,19 @@ export class HistoryService{
         return Observable.throw(error);
       });
   }
+
+  getHistoryPage(entityId: number, cursor: string, size: number): Observable<HistoryPageDTO> {
+    let params: URLSearchParams = new URLSearchParams();
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    params.set('size', size.toString());
+    return this.authHttp.get(`${url}/dto/${entityId}/page`, {
+      search: params
+    }).map(resp => resp.json())
+      .catch((error: any) => {
+        this.errorService.processError(error);
+        return Observable.throw(error);
+      });
+  }
 }
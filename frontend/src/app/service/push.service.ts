@@ -0,0 +1,96 @@
+import {Injectable, NgZone} from "@angular/core";
+import {Observable, Subject} from "rxjs";
+import "rxjs/Rx";
+import {AuthHttp} from "angular2-jwt";
+
+const url = '/api/events';
+const reconnectDelay = 5000;
+
+export interface PushEvent {
+  name: string,
+  data: any
+}
+
+/**
+ * Keeps one server-sent events connection per browser tab and shares its events
+ * between components instead of polling the backend on timers.
+ */
+@Injectable()
+export class PushService {
+  private eventSource: EventSource;
+  private connecting: boolean = false;
+  private connectionId: string;
+  private pushEvents: Subject<PushEvent> = new Subject<PushEvent>();
+  private eventNames: string[] = ['dashboard', 'deadlines', 'message', 'topicMessage', 'messagesRead',
+    'messagesDeleted'];
+  private topicIds: number[] = [];
+
+  constructor(private zone: NgZone,
+              private authHttp: AuthHttp) {
+  }
+
+  connect(): void {
+    if (!localStorage.getItem('id_token') || this.eventSource || this.connecting) {
+      return;
+    }
+    this.connecting = true;
+    // token is never put into url, stream is opened with single-use ticket obtained by authorized request
+    this.authHttp.post(`${url}/tickets`, null)
+      .map(res => res.json().ticket)
+      .subscribe(ticket => {
+        this.connecting = false;
+        this.open(ticket);
+      }, () => this.connecting = false);
+  }
+
+  private open(ticket: string): void {
+    this.eventSource = new EventSource(`${url}?ticket=` + ticket);
+    // topic subscriptions belong to the connection, so they are renewed once every new connection sends its id
+    this.eventSource.addEventListener('connected', (event: MessageEvent) => {
+      this.connectionId = JSON.parse(event.data).connectionId;
+      this.topicIds.forEach(topicId => this.putTopicSubscription(topicId));
+    });
+    // ticket is used up, so instead of letting EventSource retry with it the stream is reopened with a new one
+    this.eventSource.onerror = () => {
+      this.disconnect();
+      setTimeout(() => this.connect(), reconnectDelay);
+    };
+    this.eventNames.forEach(name => {
+      this.eventSource.addEventListener(name, (event: MessageEvent) => {
+        this.zone.run(() => this.pushEvents.next({name: name, data: JSON.parse(event.data)}));
+      });
+    });
+  }
+
+  disconnect(): void {
+    if (this.eventSource) {
+      this.eventSource.close();
+      this.eventSource = null;
+      this.connectionId = null;
+    }
+  }
+
+  subscribeToTopic(topicId: number): void {
+    this.topicIds.push(topicId);
+    this.connect();
+    if (this.connectionId) {
+      this.putTopicSubscription(topicId);
+    }
+  }
+
+  unsubscribeFromTopic(topicId: number): void {
+    this.topicIds = this.topicIds.filter(id => id !== topicId);
+    if (this.connectionId) {
+      this.authHttp.delete(`${url}/topics/${topicId}?connectionId=${this.connectionId}`).subscribe();
+    }
+  }
+
+  private putTopicSubscription(topicId: number): void {
+    this.authHttp.put(`${url}/topics/${topicId}?connectionId=${this.connectionId}`, null).subscribe();
+  }
+
+  on(name: string): Observable<any> {
+    this.connect();
+    return this.pushEvents.filter(event => event.name === name).map(event => event.data);
+  }
+}
@@ -7,6 +7,10 @@ import {Request} from "../model/request.model";
 import {ErrorService} from "./error.service";
 import {RequestSearchDTO} from "../model/dto/request-seaarch-dto.model";
 import {DeadlineDTO} from "../model/dto/deadlineDTO.model"
+import {DashboardStatsDTO} from "../model/dto/dashboardStatsDTO.model";
+import {UserStatisticDTO} from "../model/dto/userStatisticDTO.model";
+import {RequestSearchResultDTO} from "../model/dto/requestSearchResultDTO.model";
+import {RequestSuggestionDTO} from "../model/dto/requestSuggestionDTO.model";
 
 const url = '/api/requests';
 
@@ -97,6 +101,29 @@ export class RequestService {
       });
   }
 
+  fullTextSearch(query: string, page: number, size: number): Observable<RequestSearchResultDTO> {
+    let params: URLSearchParams = new URLSearchParams();
+    params.set('query', query);
+    params.set('page', page.toString());
+    params.set('size', size.toString());
+    return this.authHttp.get(`${url}/fullTextSearch`, {
+      search: params
+    }).map(resp => resp.json())
+      .catch((error: any) => {
+        this.errorService.processError(error);
+        return Observable.throw(error);
+      });
+  }
+
+  suggest(query: string, limit: number): Observable<RequestSuggestionDTO[]> {
+    let params: URLSearchParams = new URLSearchParams();
+    params.set('query', query);
+    params.set('limit', limit.toString());
+    return this.authHttp.get(`${url}/suggest`, {
+      search: params
+    }).map(resp => resp.json());
+  }
+
   objToSearchParams(obj): URLSearchParams {
     let params: URLSearchParams = new URLSearchParams();
     for (let key in obj) {
@@ -227,20 +254,15 @@ export class RequestService {
       });
   }
 
-  getQuantityForUserByProgressStatus(userId: number): Observable<number[]> {
-      return this.authHttp.get(`${url}/getStatisticByProgressStatusForUser?userId=` + userId).map(resp => resp.json())
+  getStatisticForUser(userId: number, howLong: number): Observable<UserStatisticDTO> {
+    return this.authHttp.get(`${url}/getStatisticForUser?userId=` + userId + `&howLong=` + howLong)
+      .map(resp => resp.json());
   }
 
-  getStatisticForAdminDashBoard(howLong: number): Observable<number[]> {
+  getStatisticForAdminDashBoard(howLong: number): Observable<DashboardStatsDTO> {
     return this.authHttp.get(`${url}/getStatisticForAdminDashBoard?howLong=` + howLong).map(resp => resp.json());
   }
 
-  getOpenClosedRequestForUser(userId: number, howLong: number): Observable<number[]> {
-    return this.authHttp.get(`${url}/getOpenClosedRequestForUser?userId=` + userId + `&howLong=` + howLong)
-      .map(resp => resp.json());
-
-  }
-
   getSubRequests(id: number): Observable<Request[]> {
     return this.authHttp.get(`${url}/getSubRequests/${id}`)
       .map(resp => resp.json())
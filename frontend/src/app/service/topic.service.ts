@@ -30,12 +30,12 @@ export class TopicService {
     return this.authHttp.put(`${url}`, topic).map(resp => resp.json());
   }
 
-  getAll(page: number, size: number): Observable<Topic[]> {
-    return this.authHttp.get(`${url}/fetch?page=` + page + `&size=` + size).map(resp => resp.json());
-  }
-
-  getPageCount(): Observable<number> {
-    return this.authHttp.get(`${url}/count`).map(resp => resp.json());
+  getPageAfter(after: string, size: number): Observable<Topic[]> {
+    let params = `size=${size}`;
+    if (after) {
+      params += `&after=${encodeURIComponent(after)}`;
+    }
+    return this.authHttp.get(`${url}/fetchAfter?${params}`).map(resp => resp.json());
   }
 
   getMessages(id: number): Observable<Message[]> {